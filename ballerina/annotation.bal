@@ -19,11 +19,95 @@
 # + leaseSeconds - The period for which the subscription is expected to be active in the `hub`  
 # + webHookConfig - HTTP client configurations for subscription/unsubscription intent verification  
 # + autoVerifySubscriptionIntent - Configuration to enable or disable automatic subscription intent verification
+# + hierarchicalTopics - Configuration to enable or disable hierarchical topic subscriptions, in which the topic of a
+#                        subscription could contain the `*` and `#` wildcards
+# + offload - Configuration to limit the concurrent executions of the selected remote methods
+# + publishBatch - Configuration to dispatch the concurrently published update messages to the `onUpdateMessageBatch`
+#                  remote method in batches
+# + idempotency - Configuration to deduplicate the content publish requests retried with the same `Idempotency-Key`
+#                 header
+# + partitioning - Configuration to partition the topics across the nodes of a `hub` cluster
+# + quota - Resource quota of the service, which isolates it from the other services attached to the same listener
+# + tracing - Configuration to record the spans of the content publishing, which are continued from the `traceparent`
+#             header of the publish requests
+# + renewal - Configuration to renew the verified subscriptions within their lease without repeating the complete
+#             subscription flow
 public type ServiceConfiguration record {|
     int leaseSeconds?;
     ClientConfiguration webHookConfig?;
     boolean autoVerifySubscriptionIntent = false;
+    boolean hierarchicalTopics = false;
+    OffloadConfiguration offload?;
+    PublishBatchConfiguration publishBatch?;
+    IdempotencyConfiguration idempotency?;
+    PartitionConfiguration partitioning?;
+    QuotaConfiguration quota?;
+    TracingConfiguration tracing?;
+    RenewalConfiguration renewal?;
+|};
+
+# Configuration to limit the concurrent executions of the selected remote methods of a `websubhub:Service`, so that
+# the backends used by these methods (e.g. JDBC or JMS clients) are not flooded with concurrent calls. The remote
+# methods are executed on the strand of the request.
+#
+# + methods - Names of the remote methods of which the concurrent executions are limited (e.g. `onUpdateMessage`)
+# + maxConcurrency - Maximum number of executions of these methods in progress at a time. Further executions wait
+#                    until one of the in-progress executions completes
+public type OffloadConfiguration record {|
+    string[] methods;
+    int maxConcurrency = 100;
+|};
+
+# Configuration to collect the update messages, which are published concurrently, and dispatch them to the
+# `onUpdateMessageBatch` remote method in a single call. The response of each publisher is derived from the result at
+# the corresponding position of the results returned by the remote method.
+#
+# + maxMessages - Maximum number of update messages dispatched in a single call
+# + maxDelay - Maximum time (in seconds) for which an update message is held back waiting for the batch to be filled
+public type PublishBatchConfiguration record {|
+    int maxMessages = 100;
+    decimal maxDelay = 0.01;
+|};
+
+# Configuration to deduplicate the content publish requests, which are retried with the same `Idempotency-Key`
+# header. A duplicate request is acknowledged with the original `websubhub:Acknowledgement` without invoking the
+# `onUpdateMessage` remote method.
+#
+# + capacity - Maximum number of idempotency keys retained. The least recently used keys are evicted beyond this limit
+# + window - Time (in seconds) for which an idempotency key is retained
+# + reservationTimeout - Maximum time (in seconds) for which a retry waits for the original request, which is in
+#                        progress. A retry is rejected with a `409 Conflict` response once this time elapses
+public type IdempotencyConfiguration record {|
+    int capacity = 10000;
+    decimal window = 300;
+    decimal reservationTimeout = 30;
 |};
 
 # WebSub Hub Configuration for the service.
 public annotation ServiceConfiguration ServiceConfig on service;
+
+# Dispatch details of a `websubhub:Service`, which are generated by the compiler plugin for each service declaration,
+# so that the remote methods could be dispatched without resolving their parameters at runtime. This is not intended
+# to be used directly.
+#
+# + methods - The remote methods of the service
+public type DispatchDescriptor record {|
+    RemoteMethodDescriptor[] methods;
+|};
+
+# Dispatch details of a remote method of a `websubhub:Service`.
+#
+# + name - The name of the remote method
+# + parameters - The kinds of the parameters of the remote method in the declared order
+# + readonlyMessage - Flag to notify whether the message parameter is `readonly`
+public type RemoteMethodDescriptor record {|
+    string name;
+    DispatchParameterKind[] parameters;
+    boolean readonlyMessage = false;
+|};
+
+# The kind of a parameter of a remote method of a `websubhub:Service`.
+public type DispatchParameterKind "MESSAGE"|"HEADERS"|"CONTROLLER";
+
+# Dispatch details of the service, which are generated by the compiler plugin.
+public const annotation DispatchDescriptor DispatchConfig on service;
@@ -0,0 +1,183 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/log;
+
+# Configurations related to the batched content delivery.
+#
+# + maxMessages - Maximum number of messages delivered in a single request
+# + maxDelay - Maximum time (in seconds) for which a message is held back waiting for the batch to be filled
+public type BatchConfig record {|
+    int maxMessages = 100;
+    decimal maxDelay = 1;
+|};
+
+# Accumulates content distribution messages for a subscriber, which has opted in for batched delivery, and delivers
+# them using `notifyContentDistributionBatch` once `maxMessages` are pending or `maxDelay` has elapsed since the first
+# pending message was added. Failures of the deliveries triggered by the `maxDelay` are logged.
+public isolated class DeliveryBatcher {
+    private final HubClient hubClient;
+    private final readonly & BatchConfig config;
+    private ContentDistributionMessage[] pending = [];
+    private int generation = 0;
+    private boolean closed = false;
+
+    # Initializes the `websubhub:DeliveryBatcher`.
+    # ```ballerina
+    # websubhub:DeliveryBatcher batcher = check new (hubClient, {maxMessages: 50, maxDelay: 0.2});
+    # ```
+    #
+    # + hubClient - The `websubhub:HubClient` of the subscriber
+    # + config - The `websubhub:BatchConfig` to be used
+    # + return - A `websubhub:Error` if the provided configuration is invalid or else `()`
+    public isolated function init(HubClient hubClient, BatchConfig config = {}) returns Error? {
+        if config.maxMessages < 1 || config.maxDelay <= 0d {
+            return error Error("Invalid batch configuration provided", statusCode = DELIVERY_BATCHER_ERROR);
+        }
+        self.hubClient = hubClient;
+        self.config = config.cloneReadOnly();
+    }
+
+    # Adds a content distribution message to the pending batch. The batch is delivered in the same call once it
+    # reaches `maxMessages`.
+    # ```ballerina
+    # websubhub:ContentDistributionSuccess|websubhub:Error? result = batcher.add({content: "This is sample content"});
+    # ```
+    #
+    # + message - The content distribution message
+    # + return - The result of the delivery if the batch was delivered, a `websubhub:Error` if the batcher has already
+    #            been closed or else `()`
+    public isolated function add(ContentDistributionMessage message)
+            returns ContentDistributionSuccess|SubscriptionDeletedError|Error? {
+        readonly & ContentDistributionMessage pendingMessage = message.cloneReadOnly();
+        readonly & ContentDistributionMessage[]? batch = ();
+        int? timerGeneration = ();
+        lock {
+            if self.closed {
+                return error Error("Delivery batcher has already been closed", statusCode = DELIVERY_BATCHER_ERROR);
+            }
+            self.pending.push(pendingMessage);
+            if self.pending.length() >= self.config.maxMessages {
+                batch = self.takePendingBatch();
+            } else if self.pending.length() == 1 {
+                timerGeneration = self.generation;
+            }
+        }
+        if timerGeneration is int {
+            _ = start self.flushAfterDelay(timerGeneration);
+        }
+        if batch is readonly & ContentDistributionMessage[] {
+            return self.hubClient->notifyContentDistributionBatch(batch);
+        }
+    }
+
+    # Delivers the pending messages without waiting for the batch to be filled.
+    #
+    # + return - The result of the delivery or else `()` if there are no pending messages
+    public isolated function flush() returns ContentDistributionSuccess|SubscriptionDeletedError|Error? {
+        readonly & ContentDistributionMessage[]? batch;
+        lock {
+            batch = self.pending.length() == 0 ? () : self.takePendingBatch();
+        }
+        if batch is readonly & ContentDistributionMessage[] {
+            return self.hubClient->notifyContentDistributionBatch(batch);
+        }
+    }
+
+    # Retrieves the number of messages waiting in the pending batch.
+    #
+    # + return - The number of pending messages
+    public isolated function pendingCount() returns int {
+        lock {
+            return self.pending.length();
+        }
+    }
+
+    # Closes the batcher after delivering the pending messages.
+    #
+    # + return - The result of the delivery or else `()` if there are no pending messages
+    public isolated function close() returns ContentDistributionSuccess|SubscriptionDeletedError|Error? {
+        lock {
+            self.closed = true;
+        }
+        return self.flush();
+    }
+
+    isolated function flushAfterDelay(int batchGeneration) {
+        runtime:sleep(self.config.maxDelay);
+        readonly & ContentDistributionMessage[]? batch = ();
+        lock {
+            // the batch has already been delivered if the generation has changed
+            if self.generation == batchGeneration && self.pending.length() > 0 {
+                batch = self.takePendingBatch();
+            }
+        }
+        if batch is () {
+            return;
+        }
+        ContentDistributionSuccess|SubscriptionDeletedError|Error result =
+            self.hubClient->notifyContentDistributionBatch(batch);
+        if result is error {
+            log:printError("Error occurred while delivering the content distribution batch",
+                topic = self.hubClient.getTopic(), callback = self.hubClient.getCallback(), 'error = result);
+        }
+    }
+
+    isolated function takePendingBatch() returns readonly & ContentDistributionMessage[] {
+        lock {
+            readonly & ContentDistributionMessage[] batch = self.pending.cloneReadOnly();
+            self.pending = [];
+            self.generation += 1;
+            return batch;
+        }
+    }
+}
+
+# Retrieves the batched delivery preference of a subscriber, which is provided using the `hub.batch_size` and the
+# optional `hub.batch_interval` (in milliseconds) subscription parameters.
+# ```ballerina
+# websubhub:BatchConfig? batchConfig = check websubhub:getBatchPreference(subscription);
+# ```
+#
+# + message - The subscription request
+# + return - The requested batch configuration, `()` if batched delivery is not requested or else a `websubhub:Error`
+#            if the parameters are invalid
+public isolated function getBatchPreference(Subscription message) returns BatchConfig|Error? {
+    anydata batchSize = message[HUB_BATCH_SIZE];
+    anydata batchInterval = message[HUB_BATCH_INTERVAL];
+    if batchSize is () {
+        if batchInterval is () {
+            return;
+        }
+        return error Error(string `${HUB_BATCH_INTERVAL} param is only allowed with ${HUB_BATCH_SIZE} param.`,
+            statusCode = DELIVERY_BATCHER_ERROR);
+    }
+    int|error maxMessages = batchSize is string ? int:fromString(batchSize) : error("Invalid batch size");
+    if maxMessages is error || maxMessages < 1 {
+        return error Error(string `Invalid ${HUB_BATCH_SIZE} param in the request.`,
+            statusCode = DELIVERY_BATCHER_ERROR);
+    }
+    if batchInterval is () {
+        return {maxMessages};
+    }
+    int|error interval = batchInterval is string ? int:fromString(batchInterval) : error("Invalid batch interval");
+    if interval is error || interval < 1 {
+        return error Error(string `Invalid ${HUB_BATCH_INTERVAL} param in the request.`,
+            statusCode = DELIVERY_BATCHER_ERROR);
+    }
+    return {maxMessages, maxDelay: <decimal>interval / 1000d};
+}
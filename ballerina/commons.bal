@@ -17,11 +17,21 @@ import ballerina/http;
 
 const string HUB_MODE = "hub.mode";
 const string HUB_TOPIC = "hub.topic";
+const string HUB_TOPICS = "hub.topics";
 const string HUB_CALLBACK = "hub.callback";
 const string HUB_LEASE_SECONDS = "hub.lease_seconds";
 const string HUB_SECRET = "hub.secret";
 const string HUB_CHALLENGE = "hub.challenge";
 const string HUB_REASON = "hub.reason";
+const string HUB_REPLAY_OFFSET = "hub.replay_offset";
+const string HUB_REPLAY_FROM = "hub.replay_from";
+const string HUB_CONFLATION = "hub.conflation";
+const string HUB_CONFLATION_KEY = "hub.conflation_key";
+const string HUB_BATCH_SIZE = "hub.batch_size";
+const string HUB_BATCH_INTERVAL = "hub.batch_interval";
+const string HUB_SIGNATURE_ALGORITHM = "hub.signature_algorithm";
+const string HUB_WEIGHT = "hub.weight";
+const string HUB_TENANT = "hub.tenant";
 
 const string MODE_ACCEPTED = "accepted";
 const string MODE_DENIED = "denied";
@@ -36,11 +46,12 @@ const string CONTENT_PUBLISH = "publish";
 const string EVENT_NOTIFY = "event";
 
 const string CONTENT_TYPE = "Content-Type";
+const string CONTENT_LENGTH = "Content-Length";
 const string X_HUB_SIGNATURE = "X-Hub-Signature";
 const string LINK = "Link";
 const string BALLERINA_PUBLISH_HEADER = "x-ballerina-publisher";
 
-const string SHA256_HMAC = "sha256";
+const string NDJSON_CONTENT_TYPE = "application/x-ndjson";
 const string HTTP_1_1 = "1.1";
 const string HTTP_2_0 = "2.0";
 
@@ -56,8 +67,22 @@ const int LISTENER_DETACH_ERROR = -4;
 const int LISTENER_STOP_ERROR = -5;
 const int CLIENT_INIT_ERROR = -10;
 const SUB_AUTO_VERIFY_ERROR = -11;
+const REDELIVERY_SCHEDULER_ERROR = -12;
+const DELIVERY_BACKLOG_ERROR = -13;
+const HUB_STATE_STORE_ERROR = -14;
+const REPLAY_LOG_ERROR = -15;
+const CONFLATION_ERROR = -16;
+const DELIVERY_BATCHER_ERROR = -17;
+const TOPIC_PATTERN_ERROR = -18;
+const IDEMPOTENCY_CACHE_ERROR = -19;
+const PARTITIONING_ERROR = -20;
+const SERVICE_QUOTA_ERROR = -21;
+const TRACING_ERROR = -22;
+const RENEWAL_CACHE_ERROR = -23;
+const DELIVERY_SCHEDULER_ERROR = -24;
 
 const DEFAULT_HUB_LEASE_SECONDS = 86400;
+const DEFAULT_DEAD_LETTER_FILE = "websubhub-dead-letters.jsonl";
 
 # Options to compress using Gzip or deflate.
 #
@@ -131,10 +156,13 @@ public type CommonResponse record {|
 # + headers - Additional Request headers to include when distributing content
 # + contentType - The content-type of the payload
 # + content - The payload to be sent
+# + traceContext - The trace context of the update message, which is propagated to the subscriber with the
+#                  `traceparent` header
 public type ContentDistributionMessage record {|
     map<string|string[]>? headers = ();
     string? contentType = ();
     json|xml|string|byte[]? content;
+    TraceContext? traceContext = ();
 |};
 
 # Record to represent the successful WebSub content delivery.
@@ -146,14 +174,16 @@ public type ContentDistributionSuccess record {|
     readonly StatusOK status = STATUS_OK_OBJ;
 |};
 
-# Record to represent the topic-registration request body.
+# Record to represent the topic-registration request body. The additional parameters of the request, such as
+# `hub.conflation`, `hub.conflation_key`, `hub.weight` and `hub.tenant`, are carried as string attributes, except
+# `hub.mode`, `hub.topic` and `hub.topics`.
 # 
 # + topic - `Topic`, which should be registered in the `hub`
 # + hubMode - Current `hub` action
-public type TopicRegistration record {|
+public type TopicRegistration record {
     string topic;
     string hubMode = MODE_REGISTER;
-|};
+};
 
 # Record to represent the topic-deregistration request body.
 # 
@@ -210,6 +240,15 @@ public type VerifiedUnsubscription record {
     boolean verificationSuccess = true;
 };
 
+# Enum to represent the algorithms which could be used to sign the distributed content.
+#
+# + HMAC_SHA256 - HMAC using SHA-256
+# + HMAC_SHA512 - HMAC using SHA-512
+public enum SignatureAlgorithm {
+    HMAC_SHA256 = "sha256",
+    HMAC_SHA512 = "sha512"
+}
+
 # Enum to differentiate the type of the content-update message.
 # 
 # + EVENT - Content update in the `topic`
@@ -225,11 +264,13 @@ public enum MessageType {
 # + hubTopic - Topic of which the content should be updated
 # + contentType - Content-Type of the update-message
 # + content - Content to be distributed to subscribers
+# + traceContext - The trace context of the content publishing, which is available when the tracing is enabled
 public type UpdateMessage record {
     MessageType msgType;
     string hubTopic;
     string contentType;
     string|byte[]|json|xml? content;
+    TraceContext traceContext?;
 };
 
 # Record to represent the successful topic registration.
@@ -362,6 +403,16 @@ public final UnsubscriptionDeniedError UNSUBSCRIPTION_DENIED_ERROR = error Unsub
 # + responseLimits - Configurations associated with inbound response size limits
 # + secureSocket - SSL/TLS related options
 # + circuitBreaker - Configurations associated with the behaviour of the Circuit Breaker
+# + subscriberResponse - Configurations related to processing the subscriber responses for the content distribution
+#                        requests. Only applicable to the `websubhub:HubClient`
+# + compression - Specifies whether the request payloads are compressed using gzip. `AUTO` compresses the payloads,
+#                 which are at least `compressionThreshold` bytes, `ALWAYS` compresses every payload and `NEVER`
+#                 disables the compression. The `websubhub:HubClient` only compresses the content for the subscribers,
+#                 which have opted in using the `hub.accept_encoding` parameter
+# + compressionThreshold - Minimum size (in bytes) of a request payload, which is compressed when the `compression`
+#                          is set to `AUTO`
+# + tracing - Configuration to record the spans of the content publishing and the content delivery. Only applicable
+#             to the `websubhub:PublisherClient` and the `websubhub:HubClient`
 public type ClientConfiguration record {|
     http:HttpVersion httpVersion = HTTP_1_1;
     http:ClientHttp1Settings http1Settings = {};
@@ -374,6 +425,21 @@ public type ClientConfiguration record {|
     http:ResponseLimitConfigs responseLimits = {};
     http:ClientSecureSocket secureSocket?;
     http:CircuitBreakerConfig circuitBreaker?;
+    SubscriberResponseConfig subscriberResponse = {};
+    Compression compression = COMPRESSION_NEVER;
+    int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    TracingConfiguration tracing?;
+|};
+
+# Record to represent the configurations related to processing the subscriber responses.
+#
+# + statusOnly - Flag to notify whether only the status code of a successful response should be processed. If set,
+#                the headers and the body of a successful response are discarded without being parsed, and the body of
+#                an error response is parsed up to `maxErrorBodySize` bytes
+# + maxErrorBodySize - Maximum number of bytes of an error response body, which are parsed when `statusOnly` is set
+public type SubscriberResponseConfig record {|
+    boolean statusOnly = false;
+    int maxErrorBodySize = 8192;
 |};
 
 # Provides a set of configurations for configure the underlying HTTP listener of the WebSubHub listener.
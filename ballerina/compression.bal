@@ -0,0 +1,161 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/jballerina.java;
+
+const string CONTENT_ENCODING = "Content-Encoding";
+const string HUB_ACCEPT_ENCODING = "hub.accept_encoding";
+const string GZIP = "gzip";
+const string IDENTITY = "identity";
+
+const int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+// upper bound for a decompressed request body, which guards the hub against highly compressed payloads
+const int MAX_DECOMPRESSED_CONTENT_SIZE = 67108864;
+
+# Represents a content distribution message, which has been serialized and optionally compressed ahead of the
+# distribution, so that the same message could be delivered to many subscribers without serializing or compressing
+# it per subscriber.
+#
+# + headers - Additional request headers to include when distributing content
+# + contentType - The content-type of the payload
+# + body - The serialized payload
+# + gzipBody - The gzip compressed payload, or else `()` if the payload is smaller than the compression threshold
+# + traceContext - The trace context of the update message, which is propagated to the subscriber
+public type PreparedContentDistributionMessage readonly & record {|
+    map<string|string[]>? headers;
+    string contentType;
+    byte[] body;
+    byte[]? gzipBody;
+    TraceContext? traceContext = ();
+|};
+
+# Serializes a content distribution message and compresses it when the serialized payload is at least
+# `compressionThreshold` bytes. The result could be passed to the `notifyContentDistribution` of any number of
+# `websubhub:HubClient`s.
+# ```ballerina
+# websubhub:PreparedContentDistributionMessage message = check websubhub:prepareContentDistribution({
+#     content: "This is sample content"
+# });
+# ```
+#
+# + message - Content to be distributed to the topic subscribers
+# + compressionThreshold - Minimum size (in bytes) of the serialized payload, which is compressed
+# + return - The `websubhub:PreparedContentDistributionMessage` or else an `websubhub:Error` if the compression failed
+public isolated function prepareContentDistribution(ContentDistributionMessage message,
+        int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD) returns PreparedContentDistributionMessage|Error {
+    return prepareMessage(message, compressionThreshold);
+}
+
+isolated function prepareMessage(ContentDistributionMessage message, int? compressionThreshold)
+        returns PreparedContentDistributionMessage|Error {
+    string contentType = retrieveContentType(message.contentType, message.content);
+    byte[] body = serializePayload(retrieveRequestPayload(contentType, message.content));
+    byte[]? gzipBody = ();
+    if compressionThreshold is int && body.length() >= compressionThreshold {
+        gzipBody = check compress(body);
+    }
+    return {
+        headers: message.headers.cloneReadOnly(),
+        contentType,
+        body: body.cloneReadOnly(),
+        gzipBody: gzipBody.cloneReadOnly(),
+        traceContext: message.traceContext
+    };
+}
+
+isolated function acceptsGzip(Subscription subscription) returns boolean {
+    anydata acceptEncoding = subscription[HUB_ACCEPT_ENCODING];
+    if acceptEncoding !is string {
+        return false;
+    }
+    foreach string encoding in re `,`.split(acceptEncoding) {
+        if encoding.trim().toLowerAscii() == GZIP {
+            return true;
+        }
+    }
+    return false;
+}
+
+isolated function compressRequest(http:Request request, Compression compression, int threshold) returns error? {
+    if compression == COMPRESSION_NEVER {
+        return;
+    }
+    byte[] body = check request.getBinaryPayload();
+    if compression == COMPRESSION_AUTO && body.length() < threshold {
+        return;
+    }
+    string contentType = request.getContentType();
+    request.setBinaryPayload(check compress(body), contentType);
+    request.setHeader(CONTENT_ENCODING, GZIP);
+}
+
+isolated function decodeContentEncoding(http:Request request, int maxSize = MAX_DECOMPRESSED_CONTENT_SIZE)
+        returns int|Error {
+    string|http:HeaderNotFoundError contentEncoding = request.getHeader(CONTENT_ENCODING);
+    if contentEncoding is http:HeaderNotFoundError {
+        return 0;
+    }
+    string encoding = contentEncoding.trim().toLowerAscii();
+    if encoding == IDENTITY {
+        return 0;
+    }
+    if encoding != GZIP {
+        return error Error(string `Unsupported content encoding [${contentEncoding}]`,
+            statusCode = http:STATUS_UNSUPPORTED_MEDIA_TYPE);
+    }
+    byte[]|error content = request.getBinaryPayload();
+    if content is error {
+        return error Error("Error occurred while reading the compressed content", content,
+            statusCode = http:STATUS_BAD_REQUEST);
+    }
+    byte[]|error? decompressed = externGunzip(content, maxSize);
+    if decompressed is () {
+        return error Error(string `Decompressed content exceeds the maximum size of ${maxSize} bytes`,
+            statusCode = http:STATUS_PAYLOAD_TOO_LARGE);
+    }
+    if decompressed is error {
+        return error Error("Error occurred while decompressing the content", decompressed,
+            statusCode = http:STATUS_BAD_REQUEST);
+    }
+    string contentType = request.getContentType();
+    request.removeHeader(CONTENT_ENCODING);
+    if contentType == "" {
+        request.setBinaryPayload(decompressed);
+    } else {
+        request.setBinaryPayload(decompressed, contentType);
+    }
+    return decompressed.length();
+}
+
+isolated function compress(byte[] content) returns byte[]|Error {
+    byte[]|error compressed = externGzip(content);
+    if compressed is error {
+        return error Error("Error occurred while compressing the content", compressed,
+            statusCode = http:STATUS_INTERNAL_SERVER_ERROR);
+    }
+    return compressed;
+}
+
+isolated function externGzip(byte[] content) returns byte[]|error = @java:Method {
+    name: "gzip",
+    'class: "io.ballerina.stdlib.websubhub.NativeCompression"
+} external;
+
+isolated function externGunzip(byte[] content, int maxSize) returns byte[]|error? = @java:Method {
+    name: "gunzip",
+    'class: "io.ballerina.stdlib.websubhub.NativeCompression"
+} external;
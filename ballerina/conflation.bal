@@ -0,0 +1,174 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const string CONFLATION_MODE_LATEST = "latest";
+
+# Configurations related to the conflation of the pending messages of a topic.
+#
+# + keyField - Top-level field of the JSON content which is used as the conflation key. Only the messages with the
+#              same key replace each other. If not provided, every pending message is replaced by the latest one
+public type ConflationPolicy record {|
+    string? keyField = ();
+|};
+
+# Queue of pending content distribution messages for a subscriber of a topic in which only the latest value
+# matters. A pending message is replaced by a newer message with the same conflation key, while retaining its
+# position in the queue, hence the size of the queue is bounded by the number of distinct keys.
+public isolated class ConflatingQueue {
+    private final readonly & ConflationPolicy policy;
+    private final map<readonly & ContentDistributionMessage> pending = {};
+    private final string[] order = [];
+    private int unkeyedSequence = 0;
+
+    # Initializes the `websubhub:ConflatingQueue`.
+    # ```ballerina
+    # websubhub:ConflatingQueue queue = new ({keyField: "id"});
+    # ```
+    #
+    # + policy - The `websubhub:ConflationPolicy` to be used
+    public isolated function init(ConflationPolicy policy = {}) {
+        self.policy = policy.cloneReadOnly();
+    }
+
+    # Adds a content distribution message to the queue, replacing the pending message with the same conflation key.
+    # ```ballerina
+    # boolean replaced = queue.enqueue({content: {"id": "sensor-1", "value": 10}});
+    # ```
+    #
+    # + message - The content distribution message
+    # + return - `true` if a pending message was replaced or else `false`
+    public isolated function enqueue(ContentDistributionMessage message) returns boolean {
+        readonly & ContentDistributionMessage pendingMessage = message.cloneReadOnly();
+        lock {
+            string key = self.retrieveKey(pendingMessage);
+            boolean replaced = self.pending.hasKey(key);
+            self.pending[key] = pendingMessage;
+            if !replaced {
+                self.order.push(key);
+            }
+            return replaced;
+        }
+    }
+
+    # Removes and retrieves the oldest pending message.
+    # ```ballerina
+    # websubhub:ContentDistributionMessage? message = queue.poll();
+    # ```
+    #
+    # + return - The oldest pending message or else `()` if the queue is empty
+    public isolated function poll() returns ContentDistributionMessage? {
+        [string, readonly & ContentDistributionMessage]? entry = self.pollEntry();
+        return entry is () ? () : entry[1];
+    }
+
+    # Delivers the pending messages to a subscriber in order. If a delivery fails, the message is put back to the
+    # head of the queue unless a newer message with the same key has been queued in the meantime.
+    # ```ballerina
+    # int delivered = check queue.deliverTo(hubClient);
+    # ```
+    #
+    # + hubClient - The `websubhub:HubClient` of the subscriber
+    # + return - The number of delivered messages or else a `websubhub:Error` if a delivery failed
+    public isolated function deliverTo(HubClient hubClient) returns int|Error {
+        int delivered = 0;
+        while true {
+            [string, readonly & ContentDistributionMessage]? entry = self.pollEntry();
+            if entry is () {
+                return delivered;
+            }
+            var [key, message] = entry;
+            ContentDistributionSuccess|error response = hubClient->notifyContentDistribution(message);
+            if response is error {
+                lock {
+                    if !self.pending.hasKey(key) {
+                        self.pending[key] = message;
+                        self.order.unshift(key);
+                    }
+                }
+                return error Error("Error occurred while delivering the conflated message", response,
+                    statusCode = CONFLATION_ERROR);
+            }
+            delivered += 1;
+        }
+    }
+
+    # Retrieves the number of pending messages.
+    #
+    # + return - The number of pending messages
+    public isolated function size() returns int {
+        lock {
+            return self.pending.length();
+        }
+    }
+
+    isolated function pollEntry() returns [string, readonly & ContentDistributionMessage]? {
+        lock {
+            if self.order.length() == 0 {
+                return;
+            }
+            string key = self.order.shift();
+            return [key, self.pending.remove(key)];
+        }
+    }
+
+    isolated function retrieveKey(ContentDistributionMessage message) returns string {
+        string? keyField = self.policy.keyField;
+        if keyField is () {
+            return "";
+        }
+        json|xml|string|byte[]? content = message.content;
+        if content is map<json> && content.hasKey(keyField) {
+            return string `key:${content[keyField].toString()}`;
+        }
+        // messages without the key are never conflated
+        lock {
+            self.unkeyedSequence += 1;
+            return string `unkeyed:${self.unkeyedSequence}`;
+        }
+    }
+}
+
+# Retrieves the conflation policy requested for a topic using the `hub.conflation` topic registration attribute.
+# Conflation is enabled when the attribute is set to `latest`, and the conflation key could be provided using the
+# `hub.conflation_key` attribute.
+# ```ballerina
+# websubhub:ConflationPolicy? policy = check websubhub:getConflationPolicy(topicRegistration);
+# ```
+#
+# + message - The topic registration request
+# + return - The requested conflation policy, `()` if conflation is not requested or else a `websubhub:Error` if the
+#            attributes are invalid
+public isolated function getConflationPolicy(TopicRegistration message) returns ConflationPolicy|Error? {
+    anydata mode = message[HUB_CONFLATION];
+    anydata keyField = message[HUB_CONFLATION_KEY];
+    if mode is () {
+        if keyField is () {
+            return;
+        }
+        return error Error(string `${HUB_CONFLATION_KEY} param is only allowed with ${HUB_CONFLATION} param.`,
+            statusCode = CONFLATION_ERROR);
+    }
+    if mode != CONFLATION_MODE_LATEST {
+        return error Error(string `Invalid ${HUB_CONFLATION} param in the request.`, statusCode = CONFLATION_ERROR);
+    }
+    if keyField is () {
+        return {};
+    }
+    if keyField is string && keyField.trim().length() > 0 {
+        return {keyField};
+    }
+    return error Error(string `Invalid ${HUB_CONFLATION_KEY} param in the request.`, statusCode = CONFLATION_ERROR);
+}
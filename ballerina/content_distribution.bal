@@ -17,14 +17,42 @@
 import ballerina/http;
 import ballerina/mime;
 
-isolated function processContentPublish(http:Request request, http:Headers headers,
-                                        map<string> params, HttpToWebsubhubAdaptor adaptor) returns http:Response|error {
+isolated function processContentPublish(http:Request request, http:Headers headers, map<string> params,
+                                        string contentType, HttpToWebsubhubAdaptor adaptor,
+                                        IdempotencyCache? idempotencyCache = (), Tracer? tracer = ())
+                                        returns http:Response|error {
     string topic = check retrieveQueryParameter(params, HUB_TOPIC);
-    string contentTypeValue = request.getContentType();
-    http:HeaderValue[] values = check http:parseHeader(contentTypeValue);
-    string contentType = values[0].value;
-    UpdateMessage updateMsg = check createUpdateMessage(contentType, topic, request);
-    Acknowledgement|error updateResult = adaptor.callOnUpdateMethod(updateMsg, headers);
+    string? idempotencyKey = idempotencyCache is () ? () : retrieveIdempotencyKey(headers);
+    if idempotencyCache is IdempotencyCache && idempotencyKey is string {
+        // the key is reserved before the dispatch, so that a concurrent retry waits for the result of this request
+        Acknowledgement|Error? originalResult = idempotencyCache.reserve(topic, idempotencyKey);
+        if originalResult !is () {
+            return processResult(originalResult);
+        }
+    }
+    UpdateMessage|error updateMsg = createUpdateMessage(contentType, topic, request);
+    if updateMsg is error {
+        if idempotencyCache is IdempotencyCache && idempotencyKey is string {
+            idempotencyCache.release(topic, idempotencyKey);
+        }
+        return updateMsg;
+    }
+    SpanScope? span = tracer is Tracer ? tracer.startSpan(SPAN_HUB_PUBLISH, retrieveTraceContext(headers)) : ();
+    if span is SpanScope {
+        updateMsg.traceContext = span.context;
+    }
+    // a panic is trapped, so that the reservation of the idempotency key is released on every exit path
+    Acknowledgement|error updateResult = trap adaptor.callOnUpdateMethod(updateMsg, headers);
+    if tracer is Tracer && span is SpanScope {
+        tracer.endSpan(span, {topic, status: updateResult is Acknowledgement ? "acknowledged" : "failed"});
+    }
+    if idempotencyCache is IdempotencyCache && idempotencyKey is string {
+        if updateResult is Acknowledgement {
+            idempotencyCache.put(topic, idempotencyKey, updateResult);
+        } else {
+            idempotencyCache.release(topic, idempotencyKey);
+        }
+    }
     return processResult(updateResult);
 }
 
@@ -0,0 +1,140 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Configurations related to the `websubhub:DeliveryBacklog`.
+#
+# + directory - Directory in which the segment files are created
+# + inMemoryCapacity - Maximum number of messages kept in the heap before spilling the rest to the segment files
+# + segmentSize - Size (in bytes) of a segment file
+public type BacklogConfiguration record {|
+    string directory;
+    int inMemoryCapacity = 1000;
+    int segmentSize = 16777216;
+|};
+
+# Queue of pending content distribution messages for a subscriber. A small number of messages are kept in the heap and
+# the rest are spilled to append-only, memory-mapped segment files, which are recycled once all of their messages 
+# are acknowledged. Spilled messages are not retained across restarts.
+public isolated class DeliveryBacklog {
+
+    # Initializes the `websubhub:DeliveryBacklog`.
+    # ```ballerina
+    # websubhub:DeliveryBacklog backlog = check new (directory = "./backlog/subscriber-1");
+    # ```
+    #
+    # + config - The `websubhub:BacklogConfiguration` to be used
+    # + return - A `websubhub:Error` if the initialization failed or else `()`
+    public isolated function init(*BacklogConfiguration config) returns Error? {
+        error? result = self.externInit(config.directory, config.inMemoryCapacity, config.segmentSize);
+        if result is error {
+            return error Error("Error occurred while initializing the delivery backlog", result,
+                statusCode = DELIVERY_BACKLOG_ERROR);
+        }
+    }
+
+    # Appends a content distribution message to the tail of the backlog.
+    # ```ballerina
+    # check backlog.enqueue({content: "This is sample content"});
+    # ```
+    #
+    # + message - The content distribution message
+    # + return - A `websubhub:Error` if the message could not be appended or else `()`
+    public isolated function enqueue(ContentDistributionMessage message) returns Error? {
+        error? result = self.externOffer(encodeContentDistributionMessage(message));
+        if result is error {
+            return error Error("Error occurred while appending the message to the delivery backlog", result,
+                statusCode = DELIVERY_BACKLOG_ERROR);
+        }
+    }
+
+    # Retrieves the message at the head of the backlog without removing it.
+    # ```ballerina
+    # websubhub:ContentDistributionMessage? message = check backlog.peek();
+    # ```
+    #
+    # + return - The message at the head of the backlog, `()` if the backlog is empty or else a `websubhub:Error`
+    #            if the message could not be retrieved
+    public isolated function peek() returns ContentDistributionMessage|Error? {
+        byte[]|error? result = self.externPeek();
+        if result is () {
+            return;
+        }
+        ContentDistributionMessage|error message = result is error ? result : decodeContentDistributionMessage(result);
+        if message is error {
+            return error Error("Error occurred while retrieving the message from the delivery backlog", message,
+                statusCode = DELIVERY_BACKLOG_ERROR);
+        }
+        return message;
+    }
+
+    # Removes the message at the head of the backlog once it has been delivered.
+    # ```ballerina
+    # check backlog.acknowledge();
+    # ```
+    #
+    # + return - A `websubhub:Error` if the message could not be removed or else `()`
+    public isolated function acknowledge() returns Error? {
+        boolean|error result = self.externAcknowledge();
+        if result is error {
+            return error Error("Error occurred while acknowledging the message in the delivery backlog", result,
+                statusCode = DELIVERY_BACKLOG_ERROR);
+        }
+    }
+
+    # Retrieves the number of pending messages in the backlog.
+    #
+    # + return - The number of pending messages
+    public isolated function size() returns int = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeDeliveryBacklog"
+    } external;
+
+    # Closes the backlog and removes its segment files.
+    #
+    # + return - A `websubhub:Error` if the segment files could not be removed or else `()`
+    public isolated function close() returns Error? {
+        error? result = self.externClose();
+        if result is error {
+            return error Error("Error occurred while closing the delivery backlog", result,
+                statusCode = DELIVERY_BACKLOG_ERROR);
+        }
+    }
+
+    isolated function externInit(string directory, int inMemoryCapacity, int segmentSize) returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeDeliveryBacklog"
+    } external;
+
+    isolated function externOffer(byte[] message) returns error? = @java:Method {
+        name: "offer",
+        'class: "io.ballerina.stdlib.websubhub.NativeDeliveryBacklog"
+    } external;
+
+    isolated function externPeek() returns byte[]|error? = @java:Method {
+        name: "peek",
+        'class: "io.ballerina.stdlib.websubhub.NativeDeliveryBacklog"
+    } external;
+
+    isolated function externAcknowledge() returns boolean|error = @java:Method {
+        name: "acknowledge",
+        'class: "io.ballerina.stdlib.websubhub.NativeDeliveryBacklog"
+    } external;
+
+    isolated function externClose() returns error? = @java:Method {
+        name: "close",
+        'class: "io.ballerina.stdlib.websubhub.NativeDeliveryBacklog"
+    } external;
+}
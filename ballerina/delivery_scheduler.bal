@@ -0,0 +1,484 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/log;
+
+const string DEFAULT_TENANT = "default";
+
+# Scheduling policy of a topic in a `websubhub:DeliveryScheduler`.
+#
+# + weight - Share of the deliveries of the tenant which is granted to the topic, relative to the other topics of the
+#            same tenant
+# + tenant - Tenant to which the topic belongs
+public type SchedulingPolicy record {|
+    int weight = 1;
+    string tenant = DEFAULT_TENANT;
+|};
+
+# Configurations related to the `websubhub:DeliveryScheduler`.
+#
+# + quantum - Number of deliveries granted in each round to a topic, or a tenant, of weight `1`
+# + concurrency - Maximum number of deliveries which are in progress at a time
+# + tenantWeights - Weights of the tenants, where a tenant which is not listed has the weight `1`
+public type DeliverySchedulerConfiguration record {|
+    int quantum = 1;
+    int concurrency = 8;
+    map<int> tenantWeights = {};
+|};
+
+type ScheduledDelivery readonly & record {|
+    string topic;
+    string clientKey;
+    ContentDistributionMessage message;
+|};
+
+type TopicFlow record {|
+    string tenant;
+    int weight;
+    // pending deliveries of each subscriber, in the order in which they were scheduled
+    map<ScheduledDelivery[]> pending = {};
+    // subscribers which have a pending delivery and no delivery in progress, in the round robin order
+    string[] readySubscribers = [];
+    map<boolean> busySubscribers = {};
+    int credit = 0;
+|};
+
+type TenantFlow record {|
+    int weight;
+    string[] activeTopics = [];
+    int credit = 0;
+    int inProgress = 0;
+|};
+
+# Component which schedules the content distributions of the `hub` using deficit round robin. The deliveries are
+# shared among the tenants, and then among the topics of each tenant, in proportion to their weights, so that a topic
+# with a large backlog does not hold back the deliveries of the other topics. The deliveries of a subscriber of a
+# topic are made one at a time in the order in which they were scheduled, whereas the different subscribers of a topic
+# are delivered to concurrently.
+public isolated class DeliveryScheduler {
+    private final readonly & DeliverySchedulerConfiguration config;
+    private final RedeliveryScheduler? redeliveryScheduler;
+
+    private final map<TopicFlow> topics = {};
+    private final map<TenantFlow> tenants = {};
+    // tenants which have a topic eligible for a delivery, in the round robin order
+    private final string[] activeTenants = [];
+    private final map<HubClient> hubClients = {};
+    private final map<int> clientReferences = {};
+    private int pendingDeliveries = 0;
+    private int workers = 0;
+    private boolean stopped = false;
+
+    # Initializes the `websubhub:DeliveryScheduler`.
+    # ```ballerina
+    # websubhub:DeliveryScheduler scheduler = check new ({concurrency: 16, tenantWeights: {"premium": 4}});
+    # ```
+    #
+    # + config - The `websubhub:DeliverySchedulerConfiguration` to be used
+    # + redeliveryScheduler - The `websubhub:RedeliveryScheduler` to which the failed deliveries are handed over
+    # + return - A `websubhub:Error` if the provided configuration is invalid or else `()`
+    public isolated function init(DeliverySchedulerConfiguration config = {},
+            RedeliveryScheduler? redeliveryScheduler = ()) returns Error? {
+        boolean validWeights = true;
+        foreach int weight in config.tenantWeights {
+            validWeights = validWeights && weight > 0;
+        }
+        if config.quantum < 1 || config.concurrency < 1 || !validWeights {
+            return error Error("Invalid delivery scheduler configuration provided",
+                statusCode = DELIVERY_SCHEDULER_ERROR);
+        }
+        self.config = config.cloneReadOnly();
+        self.redeliveryScheduler = redeliveryScheduler;
+    }
+
+    # Registers a topic with the provided scheduling policy. If the topic has already been registered, its policy is
+    # replaced while the pending deliveries are retained.
+    # ```ballerina
+    # check scheduler.registerTopic("news", {weight: 4, tenant: "premium"});
+    # ```
+    #
+    # + topic - The topic
+    # + policy - The `websubhub:SchedulingPolicy` of the topic
+    # + return - A `websubhub:Error` if the provided policy is invalid or else `()`
+    public isolated function registerTopic(string topic, SchedulingPolicy policy = {}) returns Error? {
+        if policy.weight < 1 || policy.tenant.trim().length() == 0 {
+            return error Error("Invalid scheduling policy provided", statusCode = DELIVERY_SCHEDULER_ERROR);
+        }
+        readonly & SchedulingPolicy schedulingPolicy = policy.cloneReadOnly();
+        lock {
+            if !self.topics.hasKey(topic) {
+                self.topics[topic] = {tenant: schedulingPolicy.tenant, weight: schedulingPolicy.weight};
+                return;
+            }
+            self.deactivate(topic);
+            TopicFlow flow = self.topics.get(topic);
+            string previousTenant = flow.tenant;
+            flow.tenant = schedulingPolicy.tenant;
+            flow.weight = schedulingPolicy.weight;
+            flow.credit = 0;
+            int inProgress = flow.busySubscribers.length();
+            if inProgress > 0 {
+                self.ensureTenant(flow.tenant);
+                TenantFlow currentTenant = self.tenants.get(flow.tenant);
+                currentTenant.inProgress += inProgress;
+                TenantFlow tenant = self.tenants.get(previousTenant);
+                tenant.inProgress -= inProgress;
+            }
+            self.resetIfIdle(previousTenant);
+            if flow.readySubscribers.length() > 0 {
+                self.activate(topic);
+            }
+        }
+    }
+
+    # Deregisters a topic and discards its pending deliveries.
+    # ```ballerina
+    # int discarded = scheduler.deregisterTopic("news");
+    # ```
+    #
+    # + topic - The topic
+    # + return - The number of discarded deliveries
+    public isolated function deregisterTopic(string topic) returns int {
+        readonly & string[] discarded;
+        lock {
+            if !self.topics.hasKey(topic) {
+                return 0;
+            }
+            self.deactivate(topic);
+            TopicFlow flow = self.topics.remove(topic);
+            if flow.busySubscribers.length() > 0 {
+                TenantFlow tenant = self.tenants.get(flow.tenant);
+                tenant.inProgress -= flow.busySubscribers.length();
+            }
+            self.resetIfIdle(flow.tenant);
+            string[] clientKeys = from ScheduledDelivery[] deliveries in flow.pending
+                from ScheduledDelivery delivery in deliveries
+                select delivery.clientKey;
+            self.pendingDeliveries -= clientKeys.length();
+            discarded = clientKeys.cloneReadOnly();
+        }
+        foreach string clientKey in discarded {
+            _ = self.releaseHubClient(clientKey);
+        }
+        return discarded.length();
+    }
+
+    # Schedules a content distribution message to be delivered to a subscriber of a topic. A topic which has not been
+    # registered is scheduled using the default `websubhub:SchedulingPolicy`.
+    # ```ballerina
+    # check scheduler.schedule("news", hubClient, {content: "This is sample content"});
+    # ```
+    #
+    # + topic - The topic to which the message was published
+    # + hubClient - The `websubhub:HubClient` of the subscriber
+    # + message - The content distribution message
+    # + return - A `websubhub:Error` if the scheduler has already been stopped or else `()`
+    public isolated function schedule(string topic, HubClient hubClient, ContentDistributionMessage message)
+            returns Error? {
+        check self.enqueue(topic, hubClient, message.cloneReadOnly());
+        boolean startWorker = false;
+        lock {
+            if self.workers < self.config.concurrency {
+                self.workers += 1;
+                startWorker = true;
+            }
+        }
+        if startWorker {
+            _ = start self.run();
+        }
+    }
+
+    # Retrieves the number of deliveries waiting to be scheduled.
+    #
+    # + return - The number of pending deliveries
+    public isolated function pendingCount() returns int {
+        lock {
+            return self.pendingDeliveries;
+        }
+    }
+
+    # Stops the scheduler. The deliveries which are in progress are completed, while the pending deliveries are
+    # discarded.
+    # ```ballerina
+    # int discarded = scheduler.stop();
+    # ```
+    #
+    # + return - The number of discarded deliveries
+    public isolated function stop() returns int {
+        lock {
+            self.stopped = true;
+            int discarded = self.pendingDeliveries;
+            self.topics.removeAll();
+            self.tenants.removeAll();
+            self.activeTenants.removeAll();
+            self.hubClients.removeAll();
+            self.clientReferences.removeAll();
+            self.pendingDeliveries = 0;
+            return discarded;
+        }
+    }
+
+    isolated function enqueue(string topic, HubClient hubClient, readonly & ContentDistributionMessage message)
+            returns Error? {
+        string clientKey = string `${hubClient.getTopic()}:::${hubClient.getCallback()}`;
+        lock {
+            if self.stopped {
+                return error Error("Delivery scheduler has already been stopped",
+                    statusCode = DELIVERY_SCHEDULER_ERROR);
+            }
+            if !self.topics.hasKey(topic) {
+                self.topics[topic] = {tenant: DEFAULT_TENANT, weight: 1};
+            }
+            TopicFlow flow = self.topics.get(topic);
+            ScheduledDelivery[]? deliveries = flow.pending[clientKey];
+            if deliveries is ScheduledDelivery[] {
+                deliveries.push({topic, clientKey, message});
+            } else {
+                flow.pending[clientKey] = [{topic, clientKey, message}];
+                if !flow.busySubscribers.hasKey(clientKey) {
+                    self.ready(topic, clientKey);
+                }
+            }
+            // the latest client of a subscriber is retained, since a re-subscription could have changed its secret
+            self.hubClients[clientKey] = hubClient;
+            self.clientReferences[clientKey] = (self.clientReferences[clientKey] ?: 0) + 1;
+            self.pendingDeliveries += 1;
+        }
+    }
+
+    isolated function run() {
+        while true {
+            ScheduledDelivery? delivery;
+            lock {
+                delivery = self.nextDelivery();
+                if delivery is () {
+                    self.workers -= 1;
+                }
+            }
+            if delivery is () {
+                return;
+            }
+            HubClient? hubClient = self.releaseHubClient(delivery.clientKey);
+            if hubClient is HubClient {
+                self.deliver(hubClient, delivery.message);
+            }
+            self.complete(delivery);
+        }
+    }
+
+    isolated function nextDelivery() returns ScheduledDelivery? {
+        lock {
+            if self.stopped || self.activeTenants.length() == 0 {
+                return;
+            }
+            string tenantName = self.activeTenants[0];
+            TenantFlow tenant = self.tenants.get(tenantName);
+            if tenant.credit == 0 {
+                tenant.credit = tenant.weight * self.config.quantum;
+            }
+            string topic = tenant.activeTopics.shift();
+            TopicFlow flow = self.topics.get(topic);
+            if flow.credit == 0 {
+                flow.credit = flow.weight * self.config.quantum;
+            }
+            string clientKey = flow.readySubscribers.shift();
+            ScheduledDelivery[] deliveries = flow.pending.get(clientKey);
+            ScheduledDelivery delivery = deliveries.shift();
+            if deliveries.length() == 0 {
+                _ = flow.pending.remove(clientKey);
+            }
+            flow.busySubscribers[clientKey] = true;
+            flow.credit -= 1;
+            tenant.credit -= 1;
+            tenant.inProgress += 1;
+            self.pendingDeliveries -= 1;
+            // the subscriber is not eligible until its delivery completes, whereas the other subscribers of the topic
+            // retain the turn of the topic until its credit is spent
+            if flow.readySubscribers.length() > 0 {
+                if flow.credit > 0 {
+                    tenant.activeTopics.unshift(topic);
+                } else {
+                    tenant.activeTopics.push(topic);
+                }
+            }
+            // the tenant yields once its credit is spent
+            if tenant.activeTopics.length() == 0 || tenant.credit == 0 {
+                _ = self.activeTenants.shift();
+                if tenant.activeTopics.length() > 0 {
+                    self.activeTenants.push(tenantName);
+                }
+            }
+            return delivery;
+        }
+    }
+
+    isolated function complete(ScheduledDelivery delivery) {
+        lock {
+            TopicFlow? flow = self.topics[delivery.topic];
+            if flow is () || flow.busySubscribers.removeIfHasKey(delivery.clientKey) is () {
+                // the topic has been deregistered while the delivery was in progress
+                return;
+            }
+            TenantFlow tenant = self.tenants.get(flow.tenant);
+            tenant.inProgress -= 1;
+            if flow.pending.hasKey(delivery.clientKey) {
+                self.ready(delivery.topic, delivery.clientKey);
+                return;
+            }
+            if flow.readySubscribers.length() == 0 && flow.busySubscribers.length() == 0 {
+                flow.credit = 0;
+            }
+            self.resetIfIdle(flow.tenant);
+        }
+    }
+
+    isolated function ready(string topic, string clientKey) {
+        lock {
+            TopicFlow flow = self.topics.get(topic);
+            flow.readySubscribers.push(clientKey);
+            // a topic is eligible for a delivery while it has a subscriber which is ready
+            if flow.readySubscribers.length() == 1 {
+                self.activate(topic);
+            }
+        }
+    }
+
+    isolated function activate(string topic) {
+        lock {
+            TopicFlow flow = self.topics.get(topic);
+            self.ensureTenant(flow.tenant);
+            TenantFlow tenant = self.tenants.get(flow.tenant);
+            // a topic, or a tenant, which became ineligible before its credit is spent resumes its turn
+            if tenant.activeTopics.length() == 0 {
+                if tenant.credit > 0 {
+                    self.activeTenants.unshift(flow.tenant);
+                } else {
+                    self.activeTenants.push(flow.tenant);
+                }
+            }
+            if flow.credit > 0 {
+                tenant.activeTopics.unshift(topic);
+            } else {
+                tenant.activeTopics.push(topic);
+            }
+        }
+    }
+
+    isolated function deactivate(string topic) {
+        lock {
+            TopicFlow flow = self.topics.get(topic);
+            TenantFlow? tenant = self.tenants[flow.tenant];
+            if tenant is () {
+                return;
+            }
+            int? index = tenant.activeTopics.indexOf(topic);
+            if index is () {
+                return;
+            }
+            _ = tenant.activeTopics.remove(index);
+            int? tenantIndex = self.activeTenants.indexOf(flow.tenant);
+            if tenant.activeTopics.length() == 0 && tenantIndex is int {
+                _ = self.activeTenants.remove(tenantIndex);
+            }
+        }
+    }
+
+    isolated function ensureTenant(string tenantName) {
+        lock {
+            if !self.tenants.hasKey(tenantName) {
+                self.tenants[tenantName] = {weight: self.config.tenantWeights[tenantName] ?: 1};
+            }
+        }
+    }
+
+    isolated function resetIfIdle(string tenantName) {
+        lock {
+            TenantFlow? tenant = self.tenants[tenantName];
+            // similar to an empty queue in deficit round robin, an idle tenant does not retain its credit
+            if tenant is TenantFlow && tenant.inProgress == 0 && tenant.activeTopics.length() == 0 {
+                tenant.credit = 0;
+            }
+        }
+    }
+
+    isolated function releaseHubClient(string clientKey) returns HubClient? {
+        lock {
+            int references = (self.clientReferences[clientKey] ?: 1) - 1;
+            if references > 0 {
+                self.clientReferences[clientKey] = references;
+                return self.hubClients[clientKey];
+            }
+            _ = self.clientReferences.removeIfHasKey(clientKey);
+            return self.hubClients.removeIfHasKey(clientKey);
+        }
+    }
+
+    isolated function deliver(HubClient hubClient, readonly & ContentDistributionMessage message) {
+        ContentDistributionSuccess|SubscriptionDeletedError|Error result =
+            hubClient->notifyContentDistribution(message);
+        if result is ContentDistributionSuccess {
+            return;
+        }
+        if result is SubscriptionDeletedError {
+            log:printWarn("Subscriber has terminated the subscription, hence discarding the scheduled delivery",
+                topic = hubClient.getTopic(), callback = hubClient.getCallback());
+            return;
+        }
+        RedeliveryScheduler? redeliveryScheduler = self.redeliveryScheduler;
+        if redeliveryScheduler is RedeliveryScheduler && isRetriableDeliveryError(result) {
+            Error? scheduled = redeliveryScheduler.schedule(hubClient, message);
+            if scheduled is () {
+                return;
+            }
+        }
+        log:printError("Error occurred while delivering the scheduled content distribution", 'error = result,
+            topic = hubClient.getTopic(), callback = hubClient.getCallback());
+    }
+}
+
+# Retrieves the scheduling policy requested for a topic using the `hub.weight` and the `hub.tenant` topic registration
+# attributes.
+# ```ballerina
+# websubhub:SchedulingPolicy? policy = check websubhub:getSchedulingPolicy(topicRegistration);
+# ```
+#
+# + message - The topic registration request
+# + return - The requested scheduling policy, `()` if neither of the attributes is provided or else a
+#            `websubhub:Error` if the attributes are invalid
+public isolated function getSchedulingPolicy(TopicRegistration message) returns SchedulingPolicy|Error? {
+    anydata weight = message[HUB_WEIGHT];
+    anydata tenant = message[HUB_TENANT];
+    if weight is () && tenant is () {
+        return;
+    }
+    SchedulingPolicy policy = {};
+    if weight !is () {
+        int|error weightValue = weight is string ? int:fromString(weight) : error("Invalid weight");
+        if weightValue is error || weightValue < 1 {
+            return error Error(string `Invalid ${HUB_WEIGHT} param in the request.`,
+                statusCode = DELIVERY_SCHEDULER_ERROR);
+        }
+        policy.weight = weightValue;
+    }
+    if tenant !is () {
+        if tenant !is string || tenant.trim().length() == 0 {
+            return error Error(string `Invalid ${HUB_TENANT} param in the request.`,
+                statusCode = DELIVERY_SCHEDULER_ERROR);
+        }
+        policy.tenant = tenant;
+    }
+    return policy;
+}
@@ -0,0 +1,39 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+
+// The JDK Flight Recorder events of the hub are disabled by default. A `begin` function returns a `null` handle when
+// the corresponding event is disabled, and committing such a handle is a no-op.
+
+isolated function beginIntentVerificationEvent() returns handle = @java:Method {
+    'class: "io.ballerina.stdlib.websubhub.NativeFlightRecorder"
+} external;
+
+isolated function commitIntentVerificationEvent(handle event, string mode, string topic, string callback,
+        int statusCode, boolean verified) = @java:Method {
+    'class: "io.ballerina.stdlib.websubhub.NativeFlightRecorder"
+} external;
+
+isolated function beginContentDeliveryEvent() returns handle = @java:Method {
+    'class: "io.ballerina.stdlib.websubhub.NativeFlightRecorder"
+} external;
+
+isolated function commitContentDeliveryEvent(handle event, string topic, string callback, int statusCode,
+        int bytes) = @java:Method {
+    'class: "io.ballerina.stdlib.websubhub.NativeFlightRecorder"
+} external;
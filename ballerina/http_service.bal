@@ -25,19 +25,79 @@ isolated service class HttpService {
     private final string hub;
     private final int defaultLeaseSeconds;
     private final SubscriptionHandler subscriptionHandler;
+    private final IdempotencyCache? idempotencyCache;
+    private final HashRing? hashRing;
+    private final string? localMember;
+    private final ServiceQuota? quota;
+    private final Tracer? tracer;
 
-    isolated function init(HttpToWebsubhubAdaptor adaptor, string hubUrl, ServiceConfiguration? serviceConfig) {
+    isolated function init(HttpToWebsubhubAdaptor adaptor, string hubUrl, ServiceConfiguration? serviceConfig)
+            returns Error? {
         self.adaptor = adaptor;
         self.hub = hubUrl;
         self.defaultLeaseSeconds = serviceConfig?.leaseSeconds ?: DEFAULT_HUB_LEASE_SECONDS;
         ClientConfiguration clientConfig = serviceConfig?.webHookConfig ?: {};
         boolean autoVerifySubscriptionIntent = serviceConfig?.autoVerifySubscriptionIntent ?: false;
-        self.subscriptionHandler = new (adaptor, autoVerifySubscriptionIntent, clientConfig);
+        boolean hierarchicalTopics = serviceConfig?.hierarchicalTopics ?: false;
+        RenewalConfiguration? renewalConfig = serviceConfig?.renewal;
+        RenewalCache? renewalCache = renewalConfig is () ? () : check new RenewalCache(renewalConfig);
+        self.subscriptionHandler = new (
+            adaptor, autoVerifySubscriptionIntent, clientConfig, hierarchicalTopics, renewalCache);
+        IdempotencyConfiguration? idempotencyConfig = serviceConfig?.idempotency;
+        self.idempotencyCache = idempotencyConfig is () ? () : check new IdempotencyCache(idempotencyConfig);
+        PartitionConfiguration? partitionConfig = serviceConfig?.partitioning;
+        self.hashRing = partitionConfig is () ? () : check createHashRing(partitionConfig);
+        self.localMember = partitionConfig?.localMember;
+        QuotaConfiguration? quotaConfig = serviceConfig?.quota;
+        self.quota = quotaConfig is () ? () : check new ServiceQuota(quotaConfig);
+        self.tracer = check createTracer(serviceConfig?.tracing);
     }
 
     isolated resource function post .(http:Caller caller, http:Request request, http:Headers headers) returns Error? {
+        ServiceQuota? quota = self.quota;
+        if quota is () {
+            return self.processRequest(caller, request, headers);
+        }
+        QuotaPermit|http:Response permit = quota.acquire(retrievePayloadSize(headers));
+        if permit is http:Response {
+            return respondWithResult(caller, permit);
+        }
+        Error? result = self.processRequest(caller, request, headers, permit);
+        permit.release();
+        return result;
+    }
+
+    isolated function processRequest(http:Caller caller, http:Request request, http:Headers headers,
+            QuotaPermit? permit = ()) returns Error? {
         http:Response response = new;
-        map<string>|error params = self.retrieveParams(request, headers);
+        // a compressed payload is decoded only up to the bytes left in the memory budget of the service
+        int? availableBytes = permit is QuotaPermit ? permit.availableBytes() : ();
+        int maxDecodedSize = availableBytes is int
+            ? int:min(availableBytes, MAX_DECOMPRESSED_CONTENT_SIZE) : MAX_DECOMPRESSED_CONTENT_SIZE;
+        boolean limitedByBudget = maxDecodedSize < MAX_DECOMPRESSED_CONTENT_SIZE;
+        int|Error decodedSize = decodeContentEncoding(request, maxDecodedSize);
+        if decodedSize is Error {
+            if permit is QuotaPermit && limitedByBudget
+                    && decodedSize.detail().statusCode == http:STATUS_PAYLOAD_TOO_LARGE {
+                return respondWithResult(caller, permit.rejectPayload(maxDecodedSize + 1));
+            }
+            response.statusCode = decodedSize.detail().statusCode;
+            response.setTextPayload(decodedSize.message());
+            return respondWithResult(caller, response);
+        }
+        if permit is QuotaPermit && decodedSize > 0 {
+            http:Response? rejection = permit.charge(decodedSize);
+            if rejection is http:Response {
+                return respondWithResult(caller, rejection);
+            }
+        }
+        MediaType|error mediaType = parseMediaType(request.getContentType());
+        if mediaType is error {
+            response.statusCode = http:STATUS_BAD_REQUEST;
+            response.setTextPayload(mediaType.message());
+            return respondWithResult(caller, response);
+        }
+        map<string>|error params = self.retrieveParams(request, headers, mediaType.value);
         if params is error {
             response.statusCode = http:STATUS_BAD_REQUEST;
             response.setTextPayload(params.message());
@@ -45,23 +105,30 @@ isolated service class HttpService {
         }
 
         string? mode = params[HUB_MODE];
+        string? partitionOwner = self.retrievePartitionOwner(mode, params);
+        if partitionOwner is string {
+            return redirectToPartitionOwner(caller, request, partitionOwner);
+        }
         match mode {
             MODE_REGISTER => {
-                http:Response|error result = processTopicRegistration(headers, params, self.adaptor);
+                http:Response|error result = processTopicRegistration(
+                    headers, params, self.adaptor, self.retrieveBulkRemoteOwners(params));
                 return respondWithResult(caller, result);
             }
             MODE_DEREGISTER => {
-                http:Response|error result = processTopicDeregistration(headers, params, self.adaptor);
+                http:Response|error result = processTopicDeregistration(
+                    headers, params, self.adaptor, self.retrieveBulkRemoteOwners(params));
                 return respondWithResult(caller, result);
             }
             MODE_SUBSCRIBE => {
-                return self.processSubscription(caller, headers, params);
+                return self.processSubscription(caller, headers, params, permit);
             }
             MODE_UNSUBSCRIBE => {
-                return self.processUnsubscription(caller, headers, params);
+                return self.processUnsubscription(caller, headers, params, permit);
             }
             MODE_PUBLISH => {
-                http:Response|error result = processContentPublish(request, headers, params, self.adaptor);
+                http:Response|error result = processContentPublish(
+                    request, headers, params, mediaType.value, self.adaptor, self.idempotencyCache, self.tracer);
                 return respondWithResult(caller, result);
             }
             _ => {
@@ -73,11 +140,71 @@ isolated service class HttpService {
         }
     }
 
-    isolated function retrieveParams(http:Request request, http:Headers headers) returns map<string>|error {
+    isolated function retrievePartitionOwner(string? mode, map<string> params) returns string? {
+        HashRing? hashRing = self.hashRing;
+        if hashRing is () {
+            return;
+        }
+        if mode != MODE_REGISTER && mode != MODE_DEREGISTER && mode != MODE_SUBSCRIBE && mode != MODE_UNSUBSCRIBE
+            && mode != MODE_PUBLISH {
+            return;
+        }
+        string? topic = params[HUB_TOPIC];
+        if topic is string {
+            string owner = hashRing.getOwner(topic);
+            return owner == self.localMember ? () : owner;
+        }
+        string[]|error topics = params.hasKey(HUB_TOPICS) ? retrieveBulkTopics(params) : [];
+        if topics is error || topics.length() == 0 {
+            return;
+        }
+        // a bulk request is redirected only if all of its topics are owned by the same node
+        string owner = hashRing.getOwner(topics[0]);
+        foreach string bulkTopic in topics {
+            if hashRing.getOwner(bulkTopic) != owner {
+                return;
+            }
+        }
+        return owner == self.localMember ? () : owner;
+    }
+
+    isolated function rejectRemoteTopics(string[] topics) returns http:Response? {
+        map<string> remoteOwners = self.retrieveRemoteOwners(topics);
+        if remoteOwners.length() == 0 {
+            return;
+        }
+        // the subscriptions of a topic should be kept by the node which owns the topic, since only that node
+        // distributes its content
+        http:Response response = new;
+        response.statusCode = http:STATUS_BAD_REQUEST;
+        response.setTextPayload(string `Topics [${string:'join(", ", ...remoteOwners.keys())}] are owned by ` +
+            "other hub nodes, hence they should be sent to their owners");
+        return response;
+    }
+
+    isolated function retrieveBulkRemoteOwners(map<string> params) returns map<string> {
+        string[]|error topics = params.hasKey(HUB_TOPICS) ? retrieveBulkTopics(params) : [];
+        return topics is error ? {} : self.retrieveRemoteOwners(topics);
+    }
+
+    isolated function retrieveRemoteOwners(string[] topics) returns map<string> {
+        HashRing? hashRing = self.hashRing;
+        map<string> remoteOwners = {};
+        if hashRing is () {
+            return remoteOwners;
+        }
+        foreach string topic in topics {
+            string owner = hashRing.getOwner(topic);
+            if owner != self.localMember {
+                remoteOwners[topic] = owner;
+            }
+        }
+        return remoteOwners;
+    }
+
+    isolated function retrieveParams(http:Request request, http:Headers headers, string contentType)
+    returns map<string>|error {
         map<string> params = {};
-        string contentTypeValue = request.getContentType();
-        http:HeaderValue[] values = check http:parseHeader(contentTypeValue);
-        string contentType = values[0].value;
         map<string[]> queryParams = request.getQueryParams();
         match contentType {
             mime:APPLICATION_FORM_URLENCODED => {
@@ -108,8 +235,11 @@ isolated service class HttpService {
         return params;
     }
 
-    isolated function processSubscription(http:Caller caller, http:Headers headers, map<string> params)
-    returns Error? {
+    isolated function processSubscription(http:Caller caller, http:Headers headers, map<string> params,
+            QuotaPermit? permit = ()) returns Error? {
+        if params.hasKey(HUB_TOPICS) {
+            return self.processBulkSubscription(caller, headers, params, permit);
+        }
 
         Subscription|error subscription = createSubscriptionMessage(self.hub, self.defaultLeaseSeconds, params);
         if subscription is error {
@@ -119,6 +249,11 @@ isolated service class HttpService {
             return respondWithResult(caller, response);
         }
 
+        VerifiedLease? lease = self.subscriptionHandler.retrieveRenewal(subscription);
+        if lease is VerifiedLease {
+            return self.processRenewal(caller, headers, subscription, lease, permit);
+        }
+
         http:Response|Redirect result = self.subscriptionHandler.intiateSubscription(subscription, headers);
         if result is Redirect {
             error? redirectError = caller->redirect(new http:Response(), result.code, result.redirectUrls);
@@ -133,14 +268,32 @@ isolated service class HttpService {
             return;
         }
 
+        // the quota is not held while waiting for the subscriber
+        releaseQuota(permit);
         error? verification = self.subscriptionHandler.verifySubscription(subscription, headers);
         if verification is error {
             log:printError("Error occurred while processing subscription", 'error = verification);
         }
     }
 
-    isolated function processUnsubscription(http:Caller caller, http:Headers headers, map<string> params)
-    returns Error? {
+    isolated function processRenewal(http:Caller caller, http:Headers headers, Subscription subscription,
+            VerifiedLease lease, QuotaPermit? permit = ()) returns Error? {
+        http:Response response = new;
+        updateSuccessResponse(response, http:STATUS_ACCEPTED, (), ());
+        check respondWithResult(caller, response);
+
+        releaseQuota(permit);
+        error? renewal = self.subscriptionHandler.renewSubscription(subscription, lease, headers);
+        if renewal is error {
+            log:printError("Error occurred while processing subscription renewal", 'error = renewal);
+        }
+    }
+
+    isolated function processUnsubscription(http:Caller caller, http:Headers headers, map<string> params,
+            QuotaPermit? permit = ()) returns Error? {
+        if params.hasKey(HUB_TOPICS) {
+            return self.processBulkUnsubscription(caller, headers, params, permit);
+        }
 
         Unsubscription|error unsubscription = createUnsubscriptionMessage(params);
         if unsubscription is error {
@@ -156,11 +309,80 @@ isolated service class HttpService {
             return;
         }
 
+        releaseQuota(permit);
         error? verification = self.subscriptionHandler.verifyUnsubscription(unsubscription, headers);
         if verification is error {
             log:printError("Error occurred while processing unsubscription", 'error = verification);
         }
     }
+
+    isolated function processBulkSubscription(http:Caller caller, http:Headers headers, map<string> params,
+            QuotaPermit? permit = ()) returns Error? {
+        Subscription[]|error subscriptions = createBulkSubscriptionMessages(self.hub, self.defaultLeaseSeconds, params);
+        if subscriptions is error {
+            http:Response response = new;
+            response.statusCode = http:STATUS_BAD_REQUEST;
+            response.setTextPayload(subscriptions.message());
+            return respondWithResult(caller, response);
+        }
+        string[] topics = from Subscription msg in subscriptions select msg.hubTopic;
+        http:Response? misdirected = self.rejectRemoteTopics(topics);
+        if misdirected is http:Response {
+            return respondWithResult(caller, misdirected);
+        }
+
+        http:Response result = self.subscriptionHandler.initiateBulkSubscription(subscriptions, headers);
+        check respondWithResult(caller, result);
+        if result.statusCode != http:STATUS_ACCEPTED {
+            return;
+        }
+
+        releaseQuota(permit);
+        error? verification = self.subscriptionHandler.verifyBulkSubscription(subscriptions, headers);
+        if verification is error {
+            log:printError("Error occurred while processing bulk subscription", 'error = verification);
+        }
+    }
+
+    isolated function processBulkUnsubscription(http:Caller caller, http:Headers headers, map<string> params,
+            QuotaPermit? permit = ()) returns Error? {
+        Unsubscription[]|error unsubscriptions = createBulkUnsubscriptionMessages(params);
+        if unsubscriptions is error {
+            http:Response response = new;
+            response.statusCode = http:STATUS_BAD_REQUEST;
+            response.setTextPayload(unsubscriptions.message());
+            return respondWithResult(caller, response);
+        }
+        string[] topics = from Unsubscription msg in unsubscriptions select msg.hubTopic;
+        http:Response? misdirected = self.rejectRemoteTopics(topics);
+        if misdirected is http:Response {
+            return respondWithResult(caller, misdirected);
+        }
+
+        http:Response result = self.subscriptionHandler.initiateBulkUnsubscription(unsubscriptions, headers);
+        check respondWithResult(caller, result);
+        if result.statusCode != http:STATUS_ACCEPTED {
+            return;
+        }
+
+        releaseQuota(permit);
+        error? verification = self.subscriptionHandler.verifyBulkUnsubscription(unsubscriptions, headers);
+        if verification is error {
+            log:printError("Error occurred while processing bulk unsubscription", 'error = verification);
+        }
+    }
+}
+
+isolated function redirectToPartitionOwner(http:Caller caller, http:Request request, string owner) returns Error? {
+    // the query parameters are retained, since the content publish requests carry the `hub.mode` and the `hub.topic` in
+    // the query
+    int? queryIndex = request.rawPath.indexOf("?");
+    string location = queryIndex is int ? owner + request.rawPath.substring(queryIndex) : owner;
+    error? redirectError = caller->redirect(new http:Response(), http:REDIRECT_TEMPORARY_REDIRECT_307, [location]);
+    if redirectError is error {
+        return error Error("Error occurred while redirecting the request to the partition owner", redirectError,
+            statusCode = http:STATUS_INTERNAL_SERVER_ERROR);
+    }
 }
 
 isolated function respondWithResult(http:Caller caller, http:Response|error result) returns Error? {
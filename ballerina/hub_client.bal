@@ -15,8 +15,9 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/io;
+import ballerina/jballerina.java;
 import ballerina/mime;
-import ballerina/crypto;
 
 # HTTP Based client for WebSub content publishing to subscribers
 public isolated client class HubClient {
@@ -25,7 +26,12 @@ public isolated client class HubClient {
     private final string topic;
     private final string hubLinks;
     private final string? secret;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final readonly & SubscriberResponseConfig responseConfig;
+    private final Compression compression;
+    private final int compressionThreshold;
     private final http:Client httpClient;
+    private final Tracer? tracer;
 
     # Initializes the `websubhub:HubClient`.
     # ```ballerina
@@ -47,10 +53,17 @@ public isolated client class HubClient {
         self.topic = subscription.hubTopic;
         self.hubLinks = generateLinkUrl(self.hub,  self.topic);
         self.secret = subscription?.hubSecret;
+        self.signatureAlgorithm = check getSignatureAlgorithm(subscription);
+        self.responseConfig = config.subscriberResponse.cloneReadOnly();
+        // content is only compressed for the subscribers, which could decode it
+        self.compression = acceptsGzip(subscription) ? config.compression : COMPRESSION_NEVER;
+        self.compressionThreshold = config.compressionThreshold;
         self.httpClient = check retrieveHttpClient(subscription.hubCallback, retrieveHttpClientConfig(config));
+        self.tracer = check createTracer(config?.tracing);
     }
 
-    # Distributes the published content to the subscribers.
+    # Distributes the published content to the subscribers. A `websubhub:PreparedContentDistributionMessage` could be
+    # used to serialize and compress the content once when it is distributed to many subscribers.
     # ```ballerina
     # ContentDistributionSuccess publishUpdate = check websubHubClientEP->notifyContentDistribution({ content: "This is sample content" });
     # ```
@@ -58,10 +71,19 @@ public isolated client class HubClient {
     # + message - Content to be distributed to the topic subscriber 
     # + return - An `websubhub:Error` if an exception occurred, a `websubhub:SubscriptionDeletedError` if the subscriber responded with `HTTP 410`,
     #            or else a `websubhub:ContentDistributionSuccess` for successful content delivery
-    isolated remote function notifyContentDistribution(ContentDistributionMessage message) 
+    isolated remote function notifyContentDistribution(
+            ContentDistributionMessage|PreparedContentDistributionMessage message)
                                 returns ContentDistributionSuccess|SubscriptionDeletedError|Error {
+        PreparedContentDistributionMessage prepared;
+        if message is PreparedContentDistributionMessage {
+            prepared = message;
+        } else {
+            int? compressionThreshold = self.compression == COMPRESSION_AUTO ? self.compressionThreshold
+                : self.compression == COMPRESSION_ALWAYS ? 0 : ();
+            prepared = check prepareMessage(message, compressionThreshold);
+        }
         http:Request request = new;
-        map<string|string[]>? headers = message?.headers;
+        map<string|string[]>? headers = prepared.headers;
         if headers is map<string|string[]> {
             foreach var [header, values] in headers.entries() {
                 if values is string {
@@ -73,33 +95,105 @@ public isolated client class HubClient {
                 }
             }
         }
-        string contentType = retrieveContentType(message.contentType, message.content);
-        json|xml|byte[] payload = retrieveRequestPayload(contentType, message.content);
-        request.setPayload(payload);
-        error? result = request.setContentType(contentType);
+        byte[]? gzipBody = check self.retrieveCompressedBody(prepared);
+        int contentLength = prepared.body.length();
+        if gzipBody is byte[] {
+            request.setBinaryPayload(gzipBody);
+            request.setHeader(CONTENT_ENCODING, GZIP);
+            contentLength = gzipBody.length();
+        } else {
+            request.setBinaryPayload(prepared.body);
+        }
+        error? result = request.setContentType(prepared.contentType);
         if (result is error) {
             return error ContentDeliveryError(
                 "Error occurred while setting content type", result, statusCode = http:STATUS_BAD_REQUEST);
         }
+        // the signature is generated for the uncompressed content, which the subscriber verifies after decoding
+        return self.sendContentDistribution(request, prepared.body, contentLength, prepared.traceContext);
+    }
+
+    # Distributes a batch of published content to a subscriber, which has opted in for batched delivery, in a single
+    # request. The request body contains one JSON object per message, separated by new lines (NDJSON), and the
+    # signature covers the whole body.
+    # ```ballerina
+    # ContentDistributionSuccess publishUpdate = check websubHubClientEP->notifyContentDistributionBatch([
+    #     {content: "This is sample content"}, {content: {"message": "This is sample content"}}
+    # ]);
+    # ```
+    #
+    # + messages - Contents to be distributed to the topic subscriber
+    # + return - An `websubhub:Error` if an exception occurred, a `websubhub:SubscriptionDeletedError` if the
+    #            subscriber responded with `HTTP 410`, or else a `websubhub:ContentDistributionSuccess` for successful
+    #            content delivery
+    isolated remote function notifyContentDistributionBatch(ContentDistributionMessage[] messages)
+                                returns ContentDistributionSuccess|SubscriptionDeletedError|Error {
+        if messages.length() == 0 {
+            return error ContentDeliveryError(
+                "Content distribution batch should contain at least one message", statusCode = http:STATUS_BAD_REQUEST);
+        }
+        http:Request request = new;
+        byte[] payload = encodeContentDistributionBatch(messages);
+        request.setBinaryPayload(payload, NDJSON_CONTENT_TYPE);
+        // a batch is delivered in the trace of its first message
+        return self.sendContentDistribution(request, payload, payload.length(), messages[0].traceContext);
+    }
+
+    isolated function sendContentDistribution(http:Request request, json|xml|byte[] payload, int contentLength,
+            TraceContext? traceContext) returns ContentDistributionSuccess|SubscriptionDeletedError|Error {
         request.setHeader(LINK, self.hubLinks);
+        Tracer? tracer = self.tracer;
+        SpanScope? span = tracer is Tracer ? tracer.startSpan(SPAN_DELIVERY, traceContext) : ();
+        TraceContext? propagatedContext = span is SpanScope ? span.context : traceContext;
+        if propagatedContext is TraceContext {
+            request.setHeader(TRACEPARENT, formatTraceparent(propagatedContext));
+        }
         string? secret = self.secret;
         if secret is string {
-            byte[]|error hash = generateSignature(secret, payload);
+            byte[]|error hash = generateSignature(secret, payload, self.signatureAlgorithm);
             if hash is byte[] {
-                request.setHeader(X_HUB_SIGNATURE, string `${SHA256_HMAC}=${hash.toBase16()}`);
+                request.setHeader(X_HUB_SIGNATURE, string `${self.signatureAlgorithm}=${hash.toBase16()}`);
             } else {
                 return error ContentDeliveryError(
                     "Error retrieving content signature", hash, statusCode = http:STATUS_BAD_REQUEST);
             }
         }
+        handle event = beginContentDeliveryEvent();
         http:Response|error response = self.httpClient->post("", request);
+        int statusCode = response is http:Response ? response.statusCode : 0;
+        commitContentDeliveryEvent(event, self.topic, self.callback, statusCode, contentLength);
+        if tracer is Tracer && span is SpanScope {
+            tracer.endSpan(span, {topic: self.topic, callback: self.callback, statusCode: statusCode.toString()});
+        }
         if response is http:Response {
+            if self.responseConfig.statusOnly {
+                return processSubscriberStatus(response, self.topic, self.responseConfig.maxErrorBodySize);
+            }
             return processSubscriberResponse(response, self.topic);
         } else {
             string errorMsg = string `Content distribution failed for topic [${self.topic}]`;
             return error ContentDeliveryError(errorMsg, statusCode = http:STATUS_INTERNAL_SERVER_ERROR);
         }
     }
+
+    isolated function retrieveCompressedBody(PreparedContentDistributionMessage message) returns byte[]?|Error {
+        if self.compression == COMPRESSION_NEVER {
+            return;
+        }
+        byte[]? gzipBody = message.gzipBody;
+        if gzipBody is byte[] || self.compression == COMPRESSION_AUTO {
+            return gzipBody;
+        }
+        return compress(message.body);
+    }
+
+    isolated function getTopic() returns string {
+        return self.topic;
+    }
+
+    isolated function getCallback() returns string {
+        return self.callback;
+    }
 }
 
 isolated function retrieveContentType(string? contentType, string|xml|json|byte[] payload) returns string {
@@ -132,25 +226,42 @@ isolated function retrieveRequestPayload(string contentType, json|xml|byte[] pay
     }
 }
 
-isolated function generateSignature(string 'key, json|xml|byte[] payload) returns byte[]|error {
-    byte[] keyArr = 'key.toBytes();
+isolated function generateSignature(string 'key, json|xml|byte[] payload,
+        SignatureAlgorithm algorithm = HMAC_SHA256) returns byte[]|error {
+    return externSign(algorithm, 'key, serializePayload(payload));
+}
+
+isolated function getSignatureAlgorithm(Subscription subscription) returns SignatureAlgorithm|Error {
+    anydata algorithm = subscription[HUB_SIGNATURE_ALGORITHM];
+    if algorithm is () {
+        return HMAC_SHA256;
+    }
+    if algorithm is SignatureAlgorithm {
+        return algorithm;
+    }
+    return error Error(string `Invalid ${HUB_SIGNATURE_ALGORITHM} param in the request.`,
+        statusCode = CLIENT_INIT_ERROR);
+}
+
+isolated function serializePayload(json|xml|byte[] payload) returns byte[] {
     if payload is byte[] {
-        return check crypto:hmacSha256(payload, keyArr);
+        return payload;
     } else if payload is string {
-        byte[] inputArr = payload.toBytes();
-        return check crypto:hmacSha256(inputArr, keyArr);
+        return payload.toBytes();
     } else if payload is xml {
-        byte[] inputArr = payload.toString().toBytes();
-        return check crypto:hmacSha256(inputArr, keyArr);   
+        return payload.toString().toBytes();
     } else if payload is map<string> {
-        byte[] inputArr = payload.toString().toBytes();
-        return check crypto:hmacSha256(inputArr, keyArr); 
+        return payload.toString().toBytes();
     } else {
-        byte[] inputArr = payload.toJsonString().toBytes();
-        return check crypto:hmacSha256(inputArr, keyArr);
+        return payload.toJsonString().toBytes();
     }
 }
 
+isolated function externSign(string algorithm, string 'key, byte[] payload) returns byte[]|error = @java:Method {
+    name: "sign",
+    'class: "io.ballerina.stdlib.websubhub.NativeHmac"
+} external;
+
 isolated function processSubscriberResponse(http:Response response, string topic) returns ContentDistributionSuccess|SubscriptionDeletedError|ContentDeliveryError {
     int status = response.statusCode;
     string & readonly responseContentType = response.getContentType();
@@ -163,16 +274,85 @@ isolated function processSubscriberResponse(http:Response response, string topic
             mediaType: responseContentType,
             body: responsePayload
         };
-    } else if status == http:STATUS_GONE {
+    }
+    return createDeliveryError(status, topic, responseContentType, responseHeaders, responsePayload);
+}
+
+isolated function processSubscriberStatus(http:Response response, string topic, int maxErrorBodySize)
+        returns ContentDistributionSuccess|SubscriptionDeletedError|ContentDeliveryError {
+    int status = response.statusCode;
+    if isSuccessStatusCode(status) {
+        _ = readResponseBody(response, 0);
+        return <ContentDistributionSuccess>{statusCode: status};
+    }
+    string & readonly responseContentType = response.getContentType();
+    byte[] responseBody = readResponseBody(response, maxErrorBodySize);
+    return createDeliveryError(status, topic, responseContentType, getHeaders(response),
+        parseResponseBody(responseBody, responseContentType));
+}
+
+isolated function createDeliveryError(int status, string topic, string mediaType, map<string|string[]> headers,
+        string|byte[]|json|xml|map<string>? body) returns SubscriptionDeletedError|ContentDeliveryError {
+    if status == http:STATUS_GONE {
         // HTTP 410 is used to communicate that subscriber no longer need to continue the subscription
         string errorMsg = string `Subscription to topic [${topic}] is terminated by the subscriber`;
         return error SubscriptionDeletedError(errorMsg, 
-            statusCode = status, mediaType = responseContentType, body = responsePayload, headers = responseHeaders);
-    } else {
-        string errorMsg = "Error occurred distributing updated content";
-        return error ContentDeliveryError(errorMsg, 
-            statusCode = status, mediaType = responseContentType, body = responsePayload, headers = responseHeaders);
+            statusCode = status, mediaType = mediaType, body = body, headers = headers);
+    }
+    string errorMsg = "Error occurred distributing updated content";
+    return error ContentDeliveryError(errorMsg, 
+        statusCode = status, mediaType = mediaType, body = body, headers = headers);
+}
+
+isolated function readResponseBody(http:Response response, int maxSize) returns byte[] {
+    // the remaining bytes are read and discarded, so that the connection could be reused
+    stream<byte[], io:Error?>|http:ClientError byteStream = response.getByteStream();
+    if byteStream is http:ClientError {
+        return [];
+    }
+    byte[] body = [];
+    record {|byte[] value;|}|io:Error? chunk = byteStream.next();
+    while chunk is record {|byte[] value;|} {
+        int remaining = maxSize - body.length();
+        if remaining > 0 {
+            body.push(...chunk.value.slice(0, int:min(remaining, chunk.value.length())));
+        }
+        chunk = byteStream.next();
+    }
+    _ = byteStream.close();
+    return body;
+}
+
+isolated function parseResponseBody(byte[] body, string contentType) returns string|byte[]|json|xml|map<string>? {
+    if contentType == mime:APPLICATION_OCTET_STREAM {
+        return body;
+    }
+    string|error content = string:fromBytes(body);
+    if content is error {
+        return;
+    }
+    match contentType {
+        mime:APPLICATION_JSON => {
+            json|error payload = content.fromJsonString();
+            if payload is json {
+                return payload;
+            }
+        }
+        mime:APPLICATION_XML => {
+            xml|error payload = xml:fromString(content);
+            if payload is xml {
+                return payload;
+            }
+        }
+        mime:TEXT_PLAIN => {
+            return content;
+        }
+        mime:APPLICATION_FORM_URLENCODED => {
+            return getFormData(content);
+        }
+        _ => {}
     }
+    return;
 }
 
 isolated function retrieveResponseBody(http:Response subscriberResponse, string contentType) returns string|byte[]|json|xml|map<string>? {
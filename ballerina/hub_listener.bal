@@ -22,7 +22,7 @@ public class Listener {
     private http:Listener httpListener;
     private http:InferredListenerConfiguration listenerConfig;
     private int port;
-    private HttpService? httpService;
+    private [Service, HttpService][] attachedServices;
 
     # Initiliazes the `websubhub:Listener` instance.
     # ```ballerina
@@ -46,10 +46,11 @@ public class Listener {
 
         self.listenerConfig = self.httpListener.getConfig();
         self.port = self.httpListener.getPort();
-        self.httpService = ();
+        self.attachedServices = [];
     }
 
-    # Attaches the provided `websubhub:Service` to the `websubhub:Listener`.
+    # Attaches the provided `websubhub:Service` to the `websubhub:Listener`. Multiple services could be attached to the
+    # same listener on different paths, each with its own configuration and resource quota.
     # ```ballerina
     # check hubListenerEp.attach('service, "/hub");
     # ```
@@ -62,14 +63,40 @@ public class Listener {
             log:printWarn("HTTPS is recommended but using HTTP");
         }
 
+        if self.retrieveHttpService('service) is HttpService {
+            return error Error("Error occurred while attaching the service",
+                error("The service is already attached to the listener"), statusCode = LISTENER_ATTACH_ERROR);
+        }
         string hubUrl = self.retrieveHubUrl(name);
         ServiceConfiguration? configuration = retrieveServiceAnnotations('service);
-        HttpToWebsubhubAdaptor adaptor = new ('service);
-        self.httpService = new (adaptor, hubUrl, configuration);
-        error? result = self.httpListener.attach(<HttpService>self.httpService, name);
+        HttpToWebsubhubAdaptor|error adaptor = new ('service, retrieveDispatchDescriptor('service), configuration);
+        if adaptor is error {
+            return error Error("Error occurred while attaching the service", adaptor,
+                statusCode = LISTENER_ATTACH_ERROR);
+        }
+        HttpService|Error httpService = new (adaptor, hubUrl, configuration);
+        if httpService is Error {
+            return error Error("Error occurred while attaching the service", httpService,
+                statusCode = LISTENER_ATTACH_ERROR);
+        }
+        error? result = self.httpListener.attach(httpService, name);
         if (result is error) {
             return error Error("Error occurred while attaching the service", result, statusCode = LISTENER_ATTACH_ERROR);
         }
+        self.attachedServices.push(['service, httpService]);
+    }
+
+    # Retrieves the underlying HTTP service of an attached `websubhub:Service`.
+    #
+    # + 'service - The `websubhub:Service` object
+    # + return - The underlying HTTP service or else `()` if the service is not attached to the listener
+    isolated function retrieveHttpService(Service 'service) returns HttpService? {
+        foreach [Service, HttpService] [attachedService, httpService] in self.attachedServices {
+            if attachedService === 'service {
+                return httpService;
+            }
+        }
+        return;
     }
 
     # Retrieves the URL on which the `hub` is published.
@@ -102,10 +129,18 @@ public class Listener {
     # + s - The `websubhub:Service` object to be detached
     # + return - An `websubhub:Error` if an error occurred during the service detaching process or else `()`
     public isolated function detach(Service s) returns Error? {
-        error? result = self.httpListener.detach(<HttpService> self.httpService);
+        HttpService? httpService = self.retrieveHttpService(s);
+        if httpService is () {
+            return error Error("Error occurred while detaching the service",
+                error("The service is not attached to the listener"), statusCode = LISTENER_DETACH_ERROR);
+        }
+        error? result = self.httpListener.detach(httpService);
         if (result is error) {
             return error Error("Error occurred while detaching the service", result, statusCode = LISTENER_DETACH_ERROR);
         }
+        self.attachedServices = from [Service, HttpService] entry in self.attachedServices
+            where entry[0] !== s
+            select entry;
     }
 
     # Starts the registered service programmatically.
@@ -159,3 +194,15 @@ isolated function retrieveServiceAnnotations(Service serviceType) returns Servic
     typedesc<any> serviceTypedesc = typeof serviceType;
     return serviceTypedesc.@ServiceConfig;
 }
+
+# Retrieves the `websubhub:DispatchDescriptor` generated by the compiler plugin.
+# ```ballerina
+# websubhub:DispatchDescriptor? descriptor = retrieveDispatchDescriptor('service);
+# ```
+#
+# + serviceType - Current `websubhub:Service` object
+# + return - The generated `websubhub:DispatchDescriptor` or else `()` if it is not available
+isolated function retrieveDispatchDescriptor(Service serviceType) returns DispatchDescriptor? {
+    typedesc<any> serviceTypedesc = typeof serviceType;
+    return serviceTypedesc.@DispatchConfig;
+}
@@ -0,0 +1,208 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int TOPICS_NAMESPACE = 0;
+const int SUBSCRIPTIONS_NAMESPACE = 1;
+
+# Configurations related to the `websubhub:HubStateStore`.
+#
+# + directory - Directory in which the write-ahead log and the snapshot are stored
+# + syncOnWrite - Flag to notify whether each write should be flushed to the disk before returning. Concurrent writes
+#                 share a single flush
+# + compactionThreshold - Number of write-ahead log entries after which the log is compacted into a new snapshot
+public type PersistenceConfiguration record {|
+    string directory;
+    boolean syncOnWrite = true;
+    int compactionThreshold = 1000;
+|};
+
+# Durable store for the registered topics and the verified subscriptions of a `hub`. Each change is appended to a
+# write-ahead log, which is periodically compacted into a snapshot, so that the state could be restored on a restart
+# without replaying the full history of the `hub`.
+public isolated class HubStateStore {
+
+    # Initializes the `websubhub:HubStateStore` and restores the previously persisted state.
+    # ```ballerina
+    # websubhub:HubStateStore store = check new (directory = "./hub-state");
+    # ```
+    #
+    # + config - The `websubhub:PersistenceConfiguration` to be used
+    # + return - A `websubhub:Error` if the initialization failed or else `()`
+    public isolated function init(*PersistenceConfiguration config) returns Error? {
+        error? result = self.externInit(config.directory, config.syncOnWrite, config.compactionThreshold);
+        if result is error {
+            return error Error("Error occurred while initializing the hub state store", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Persists a registered topic.
+    # ```ballerina
+    # check store.registerTopic({topic: "https://sample.topic.com"});
+    # ```
+    #
+    # + message - The topic registration details
+    # + return - A `websubhub:Error` if the topic could not be persisted or else `()`
+    public isolated function registerTopic(TopicRegistration message) returns Error? {
+        error? result = self.externPut(TOPICS_NAMESPACE, message.topic, message.toJsonString());
+        if result is error {
+            return error Error("Error occurred while persisting the topic registration", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Removes a persisted topic.
+    # ```ballerina
+    # check store.deregisterTopic({topic: "https://sample.topic.com"});
+    # ```
+    #
+    # + message - The topic deregistration details
+    # + return - A `websubhub:Error` if the topic could not be removed or else `()`
+    public isolated function deregisterTopic(TopicDeregistration message) returns Error? {
+        error? result = self.externRemove(TOPICS_NAMESPACE, message.topic);
+        if result is error {
+            return error Error("Error occurred while persisting the topic deregistration", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Persists a verified subscription. An existing subscription for the same topic and callback is replaced.
+    # ```ballerina
+    # check store.addSubscription(subscription);
+    # ```
+    #
+    # + message - The verified subscription details
+    # + return - A `websubhub:Error` if the subscription could not be persisted or else `()`
+    public isolated function addSubscription(VerifiedSubscription message) returns Error? {
+        string key = getSubscriptionKey(message.hubTopic, message.hubCallback);
+        error? result = self.externPut(SUBSCRIPTIONS_NAMESPACE, key, message.toJsonString());
+        if result is error {
+            return error Error("Error occurred while persisting the subscription", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Removes a persisted subscription.
+    # ```ballerina
+    # check store.removeSubscription(unsubscription);
+    # ```
+    #
+    # + message - The verified unsubscription details
+    # + return - A `websubhub:Error` if the subscription could not be removed or else `()`
+    public isolated function removeSubscription(VerifiedUnsubscription message) returns Error? {
+        error? result = self.externRemove(SUBSCRIPTIONS_NAMESPACE,
+            getSubscriptionKey(message.hubTopic, message.hubCallback));
+        if result is error {
+            return error Error("Error occurred while persisting the unsubscription", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Retrieves the persisted topics.
+    # ```ballerina
+    # websubhub:TopicRegistration[] topics = check store.retrieveTopics();
+    # ```
+    #
+    # + return - The persisted topics or else a `websubhub:Error` if the topics could not be retrieved
+    public isolated function retrieveTopics() returns TopicRegistration[]|Error {
+        do {
+            TopicRegistration[] topics = [];
+            foreach string value in check self.externValues(TOPICS_NAMESPACE) {
+                topics.push(check value.fromJsonStringWithType());
+            }
+            return topics;
+        } on fail error e {
+            return error Error("Error occurred while retrieving the persisted topics", e,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Retrieves the persisted subscriptions.
+    # ```ballerina
+    # websubhub:VerifiedSubscription[] subscriptions = check store.retrieveSubscriptions();
+    # ```
+    #
+    # + return - The persisted subscriptions or else a `websubhub:Error` if the subscriptions could not be retrieved
+    public isolated function retrieveSubscriptions() returns VerifiedSubscription[]|Error {
+        do {
+            VerifiedSubscription[] subscriptions = [];
+            foreach string value in check self.externValues(SUBSCRIPTIONS_NAMESPACE) {
+                subscriptions.push(check value.fromJsonStringWithType());
+            }
+            return subscriptions;
+        } on fail error e {
+            return error Error("Error occurred while retrieving the persisted subscriptions", e,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Compacts the write-ahead log into a new snapshot. The log is compacted automatically once the
+    # `compactionThreshold` is reached, hence this is only required to force a compaction (e.g. before a shutdown).
+    #
+    # + return - A `websubhub:Error` if the compaction failed or else `()`
+    public isolated function compact() returns Error? {
+        error? result = self.externCompact();
+        if result is error {
+            return error Error("Error occurred while compacting the hub state", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    # Flushes the pending writes and closes the store.
+    #
+    # + return - A `websubhub:Error` if the store could not be closed or else `()`
+    public isolated function close() returns Error? {
+        error? result = self.externClose();
+        if result is error {
+            return error Error("Error occurred while closing the hub state store", result,
+                statusCode = HUB_STATE_STORE_ERROR);
+        }
+    }
+
+    isolated function externInit(string directory, boolean syncOnWrite, int compactionThreshold)
+    returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeHubStateStore"
+    } external;
+
+    isolated function externPut(int namespace, string key, string value) returns error? = @java:Method {
+        name: "put",
+        'class: "io.ballerina.stdlib.websubhub.NativeHubStateStore"
+    } external;
+
+    isolated function externRemove(int namespace, string key) returns error? = @java:Method {
+        name: "remove",
+        'class: "io.ballerina.stdlib.websubhub.NativeHubStateStore"
+    } external;
+
+    isolated function externValues(int namespace) returns string[]|error = @java:Method {
+        name: "values",
+        'class: "io.ballerina.stdlib.websubhub.NativeHubStateStore"
+    } external;
+
+    isolated function externCompact() returns error? = @java:Method {
+        name: "compact",
+        'class: "io.ballerina.stdlib.websubhub.NativeHubStateStore"
+    } external;
+
+    isolated function externClose() returns error? = @java:Method {
+        name: "close",
+        'class: "io.ballerina.stdlib.websubhub.NativeHubStateStore"
+    } external;
+}
+
+isolated function getSubscriptionKey(string topic, string callback) returns string => string `${topic}:::${callback}`;
@@ -0,0 +1,104 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/jballerina.java;
+
+const string IDEMPOTENCY_KEY = "Idempotency-Key";
+
+# Retains the `websubhub:Acknowledgement` of the content publish requests for their idempotency keys, so that a
+# retried publish request is acknowledged without invoking the `onUpdateMessage` remote method again. A retry which
+# arrives while the original request is in progress waits for the result of the original request.
+isolated class IdempotencyCache {
+    private final decimal window;
+    private final decimal reservationTimeout;
+
+    isolated function init(IdempotencyConfiguration config) returns Error? {
+        if config.reservationTimeout < 0d {
+            return error Error("Idempotency reservation timeout should not be a negative value",
+                statusCode = IDEMPOTENCY_CACHE_ERROR);
+        }
+        self.window = config.window;
+        self.reservationTimeout = config.reservationTimeout;
+        error? result = self.externInit(config.capacity, config.window);
+        if result is error {
+            return error Error("Error occurred while initializing the idempotency cache", result,
+                statusCode = IDEMPOTENCY_CACHE_ERROR);
+        }
+    }
+
+    isolated function get(string topic, string idempotencyKey) returns Acknowledgement? {
+        return self.externGet(getIdempotencyCacheKey(topic, idempotencyKey));
+    }
+
+    isolated function reserve(string topic, string idempotencyKey) returns Acknowledgement|Error? {
+        Acknowledgement|error? result = self.externReserve(getIdempotencyCacheKey(topic, idempotencyKey),
+            self.reservationTimeout);
+        if result is error {
+            return error UpdateMessageError("Original request with the same idempotency key is still in progress",
+                result, statusCode = http:STATUS_CONFLICT);
+        }
+        return result;
+    }
+
+    isolated function put(string topic, string idempotencyKey, Acknowledgement acknowledgement) {
+        self.externPut(getIdempotencyCacheKey(topic, idempotencyKey), acknowledgement.cloneReadOnly(), self.window);
+    }
+
+    isolated function release(string topic, string idempotencyKey) {
+        self.externRelease(getIdempotencyCacheKey(topic, idempotencyKey));
+    }
+
+    isolated function size() returns int = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeIdempotencyCache"
+    } external;
+
+    isolated function externInit(int capacity, decimal window) returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeIdempotencyCache"
+    } external;
+
+    isolated function externGet(string 'key) returns Acknowledgement? = @java:Method {
+        name: "get",
+        'class: "io.ballerina.stdlib.websubhub.NativeIdempotencyCache"
+    } external;
+
+    isolated function externReserve(string 'key, decimal timeout) returns Acknowledgement|error? = @java:Method {
+        name: "reserve",
+        'class: "io.ballerina.stdlib.websubhub.NativeIdempotencyCache"
+    } external;
+
+    isolated function externPut(string 'key, readonly & Acknowledgement ack, decimal window) = @java:Method {
+        name: "put",
+        'class: "io.ballerina.stdlib.websubhub.NativeIdempotencyCache"
+    } external;
+
+    isolated function externRelease(string 'key) = @java:Method {
+        name: "release",
+        'class: "io.ballerina.stdlib.websubhub.NativeIdempotencyCache"
+    } external;
+}
+
+isolated function getIdempotencyCacheKey(string topic, string idempotencyKey) returns string {
+    return string `${topic} ${idempotencyKey}`;
+}
+
+isolated function retrieveIdempotencyKey(http:Headers headers) returns string? {
+    string|http:HeaderNotFoundError idempotencyKey = headers.getHeader(IDEMPOTENCY_KEY);
+    if idempotencyKey is string && idempotencyKey.trim().length() > 0 {
+        return idempotencyKey.trim();
+    }
+    return;
+}
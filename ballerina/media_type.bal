@@ -0,0 +1,73 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+const MAX_CACHED_MEDIA_TYPES = 64;
+
+# Represents a parsed `Content-Type` header value.
+#
+# + value - The media type without the parameters (e.g. `application/json`)
+# + params - The media type parameters (e.g. `charset`)
+type MediaType readonly & record {|
+    string value;
+    map<string> params;
+|};
+
+# Bounded cache of parsed `Content-Type` header values. Publishers tend to use a handful of content types, hence
+# the parsed values are shared across requests, and the cache is reset once it reaches the maximum size so that
+# arbitrary header values could not grow it unbounded.
+isolated class MediaTypeCache {
+    private final map<MediaType> mediaTypes = {};
+    private final int maxSize;
+
+    isolated function init(int maxSize) {
+        self.maxSize = maxSize;
+    }
+
+    isolated function parse(string contentTypeValue) returns MediaType|error {
+        lock {
+            MediaType? cached = self.mediaTypes[contentTypeValue];
+            if cached is MediaType {
+                return cached;
+            }
+        }
+        http:HeaderValue[] values = check http:parseHeader(contentTypeValue);
+        MediaType mediaType = {
+            value: values[0].value,
+            params: values[0].params.cloneReadOnly()
+        };
+        lock {
+            if self.mediaTypes.length() >= self.maxSize {
+                self.mediaTypes.removeAll();
+            }
+            self.mediaTypes[contentTypeValue] = mediaType;
+        }
+        return mediaType;
+    }
+
+    isolated function size() returns int {
+        lock {
+            return self.mediaTypes.length();
+        }
+    }
+}
+
+final MediaTypeCache mediaTypeCache = new (MAX_CACHED_MEDIA_TYPES);
+
+isolated function parseMediaType(string contentTypeValue) returns MediaType|error {
+    return mediaTypeCache.parse(contentTypeValue);
+}
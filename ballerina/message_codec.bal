@@ -0,0 +1,139 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+const CONTENT_KIND_NIL = "nil";
+const CONTENT_KIND_STRING = "string";
+const CONTENT_KIND_XML = "xml";
+const CONTENT_KIND_BINARY = "binary";
+const CONTENT_KIND_JSON = "json";
+
+type EncodedContent record {|
+    CONTENT_KIND_NIL|CONTENT_KIND_STRING|CONTENT_KIND_XML|CONTENT_KIND_BINARY|CONTENT_KIND_JSON kind;
+    json value = ();
+|};
+
+type EncodedContentDistributionMessage record {|
+    map<string|string[]>? headers = ();
+    string? contentType = ();
+    EncodedContent content;
+    TraceContext? traceContext = ();
+|};
+
+type EncodedUpdateMessage record {|
+    MessageType msgType;
+    string hubTopic;
+    string contentType;
+    EncodedContent content;
+|};
+
+isolated function encodeContentDistributionMessage(ContentDistributionMessage message) returns byte[] {
+    return toEncodedContentDistributionMessage(message).toJsonString().toBytes();
+}
+
+isolated function encodeContentDistributionBatch(ContentDistributionMessage[] messages) returns byte[] {
+    // each line carries the trace context of its message, since only the first one is sent as the `traceparent` header
+    string[] lines = from ContentDistributionMessage message in messages
+        select toEncodedContentDistributionMessage(message).toJsonString();
+    return string:'join("\n", ...lines).concat("\n").toBytes();
+}
+
+isolated function decodeContentDistributionBatch(byte[] encoded) returns ContentDistributionMessage[]|error {
+    string batch = check string:fromBytes(encoded);
+    ContentDistributionMessage[] messages = [];
+    foreach string line in re `\n`.split(batch) {
+        if line.trim().length() == 0 {
+            continue;
+        }
+        messages.push(check decodeContentDistributionMessage(line.toBytes()));
+    }
+    return messages;
+}
+
+isolated function toEncodedContentDistributionMessage(ContentDistributionMessage message)
+        returns EncodedContentDistributionMessage => {
+    headers: message.headers,
+    contentType: message.contentType,
+    content: encodeContent(message.content),
+    traceContext: message.traceContext
+};
+
+isolated function decodeContentDistributionMessage(byte[] encoded) returns ContentDistributionMessage|error {
+    string encodedMessage = check string:fromBytes(encoded);
+    EncodedContentDistributionMessage message = check encodedMessage.fromJsonStringWithType();
+    return {
+        headers: message.headers,
+        contentType: message.contentType,
+        content: check decodeContent(message.content),
+        traceContext: message.traceContext
+    };
+}
+
+isolated function encodeUpdateMessage(UpdateMessage message) returns byte[] {
+    EncodedUpdateMessage encoded = {
+        msgType: message.msgType,
+        hubTopic: message.hubTopic,
+        contentType: message.contentType,
+        content: encodeContent(message.content)
+    };
+    return encoded.toJsonString().toBytes();
+}
+
+isolated function decodeUpdateMessage(byte[] encoded) returns UpdateMessage|error {
+    string encodedMessage = check string:fromBytes(encoded);
+    EncodedUpdateMessage message = check encodedMessage.fromJsonStringWithType();
+    return {
+        msgType: message.msgType,
+        hubTopic: message.hubTopic,
+        contentType: message.contentType,
+        content: check decodeContent(message.content)
+    };
+}
+
+isolated function encodeContent(json|xml|string|byte[]? content) returns EncodedContent {
+    if content is () {
+        return {kind: CONTENT_KIND_NIL};
+    } else if content is xml {
+        return {kind: CONTENT_KIND_XML, value: content.toString()};
+    } else if content is byte[] {
+        return {kind: CONTENT_KIND_BINARY, value: content.toBase64()};
+    } else if content is string {
+        return {kind: CONTENT_KIND_STRING, value: content};
+    }
+    return {kind: CONTENT_KIND_JSON, value: content};
+}
+
+isolated function decodeContent(EncodedContent content) returns json|xml|string|byte[]|error {
+    json value = content.value;
+    match content.kind {
+        CONTENT_KIND_XML => {
+            string xmlContent = check value.ensureType();
+            return xml:fromString(xmlContent);
+        }
+        CONTENT_KIND_BINARY => {
+            string binaryContent = check value.ensureType();
+            return array:fromBase64(binaryContent);
+        }
+        CONTENT_KIND_STRING => {
+            string textContent = check value.ensureType();
+            return textContent;
+        }
+        _ => {
+            return value;
+        }
+    }
+}
@@ -18,11 +18,13 @@ import ballerina/http;
 import ballerina/jballerina.java;
 
 isolated class HttpToWebsubhubAdaptor {
-    isolated function init(Service 'service) {
-        self.externInit('service);
+    isolated function init(Service 'service, DispatchDescriptor? dispatchDescriptor = (),
+            ServiceConfiguration? serviceConfig = ()) returns error? {
+        check self.externInit('service, dispatchDescriptor, serviceConfig);
     }
 
-    isolated function externInit(Service serviceObj) = @java:Method {
+    isolated function externInit(Service serviceObj, DispatchDescriptor? dispatchDescriptor,
+            ServiceConfiguration? serviceConfig) returns error? = @java:Method {
         'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
     } external;
 
@@ -40,6 +42,16 @@ isolated class HttpToWebsubhubAdaptor {
         'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
     } external;
 
+    isolated function callRegisterTopicsMethod(TopicRegistration[] msgs, http:Headers headers)
+    returns (TopicRegistrationSuccess|TopicRegistrationError)[]|error = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
+    } external;
+
+    isolated function callDeregisterTopicsMethod(TopicDeregistration[] msgs, http:Headers headers)
+    returns (TopicDeregistrationSuccess|TopicDeregistrationError)[]|error = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
+    } external;
+
     isolated function callOnUpdateMethod(UpdateMessage msg, http:Headers headers)
     returns Acknowledgement|UpdateMessageError|error = @java:Method {
         'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
@@ -60,6 +72,11 @@ isolated class HttpToWebsubhubAdaptor {
         'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
     } external;
 
+    isolated function callOnSubscriptionIntentVerifiedBatchMethod(VerifiedSubscription[] msgs)
+    returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
+    } external;
+
     isolated function callOnUnsubscriptionMethod(Unsubscription msg, http:Headers headers, Controller hubController) 
     returns UnsubscriptionAccepted|BadUnsubscriptionError|InternalUnsubscriptionError|error = @java:Method {
         'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
@@ -73,4 +90,9 @@ isolated class HttpToWebsubhubAdaptor {
     isolated function callOnUnsubscriptionIntentVerifiedMethod(VerifiedUnsubscription msg, http:Headers headers) returns error? = @java:Method {
         'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
     } external;
+
+    isolated function callOnUnsubscriptionIntentVerifiedBatchMethod(VerifiedUnsubscription[] msgs)
+    returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
+    } external;
 }
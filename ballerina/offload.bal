@@ -0,0 +1,42 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Metrics of the remote method executions of a `websubhub:Service`, which are limited by the `offload` configuration.
+#
+# + active - Number of executions in progress
+# + waiting - Number of executions waiting for the `maxConcurrency` limit
+# + completed - Number of executions completed without an error
+# + failed - Number of executions which returned an error
+public type OffloadMetrics record {|
+    int active;
+    int waiting;
+    int completed;
+    int failed;
+|};
+
+# Retrieves the metrics of the remote method executions of a `websubhub:Service`, which are limited by the `offload`
+# configuration.
+# ```ballerina
+# websubhub:OffloadMetrics? metrics = websubhub:getOffloadMetrics(hubService);
+# ```
+#
+# + 'service - The attached `websubhub:Service`
+# + return - The `websubhub:OffloadMetrics` or else `()` if the offloading is not configured for the service
+public isolated function getOffloadMetrics(Service 'service) returns OffloadMetrics? = @java:Method {
+    'class: "io.ballerina.stdlib.websubhub.NativeHttpToWebsubhubAdaptor"
+} external;
@@ -0,0 +1,156 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/crypto;
+import ballerina/io;
+
+const DEFAULT_VIRTUAL_NODES = 100;
+
+# Configuration to partition the topics across the nodes of a `hub` cluster. The topic-based requests (i.e. topic
+# registration, subscription and content publishing) for a topic owned by another node are redirected to that node
+# with a `307 Temporary Redirect` response.
+#
+# + localMember - The URL of this `hub` node, as it is listed in the members
+# + members - The URLs of the `hub` nodes in the cluster
+# + membersFile - Path to a file which contains the URLs of the `hub` nodes, one per line. This is used when the
+#                 `members` are not provided
+# + virtualNodes - Number of positions of each member on the consistent-hash ring
+public type PartitionConfiguration record {|
+    string localMember;
+    string[] members?;
+    string membersFile?;
+    int virtualNodes = DEFAULT_VIRTUAL_NODES;
+|};
+
+# Consistent-hash ring, which assigns each topic to a member. Each member is placed on the ring at a number of
+# positions (virtual nodes), so that the topics are evenly distributed and only the topics of a removed or an added
+# member change their owner.
+public isolated class HashRing {
+    private final readonly & string[] members;
+    private final readonly & int[] positions;
+    private final readonly & string[] owners;
+
+    # Initializes the `websubhub:HashRing`.
+    # ```ballerina
+    # websubhub:HashRing ring = check new (["http://node1:9090/hub", "http://node2:9090/hub"]);
+    # ```
+    #
+    # + members - The members of the ring
+    # + virtualNodes - Number of positions of each member on the ring
+    # + return - A `websubhub:Error` if the provided configuration is invalid or else `()`
+    public isolated function init(string[] members, int virtualNodes = DEFAULT_VIRTUAL_NODES) returns Error? {
+        string[] uniqueMembers = [];
+        foreach string member in members {
+            if uniqueMembers.indexOf(member) is () {
+                uniqueMembers.push(member);
+            }
+        }
+        if uniqueMembers.length() == 0 || virtualNodes < 1 {
+            return error Error("Invalid hash ring configuration provided", statusCode = PARTITIONING_ERROR);
+        }
+        [int, string][] points = [];
+        foreach string member in uniqueMembers {
+            foreach int i in 0 ..< virtualNodes {
+                points.push([computeRingPosition(string `${member}#${i}`), member]);
+            }
+        }
+        [int, string][] sortedPoints = from [int, string] [position, member] in points
+            order by position ascending, member ascending
+            select [position, member];
+        self.members = uniqueMembers.cloneReadOnly();
+        self.positions = (from [int, string] [position, _] in sortedPoints select position).cloneReadOnly();
+        self.owners = (from [int, string] [_, member] in sortedPoints select member).cloneReadOnly();
+    }
+
+    # Retrieves the member which owns the provided topic.
+    # ```ballerina
+    # string owner = ring.getOwner("orders");
+    # ```
+    #
+    # + topic - The topic
+    # + return - The member which owns the topic
+    public isolated function getOwner(string topic) returns string {
+        int position = computeRingPosition(topic);
+        // the owner is the member at the first position clockwise from the position of the topic
+        int low = 0;
+        int high = self.positions.length();
+        while low < high {
+            int mid = (low + high) / 2;
+            if self.positions[mid] < position {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return self.owners[low == self.positions.length() ? 0 : low];
+    }
+
+    # Retrieves the members of the ring.
+    #
+    # + return - The members of the ring
+    public isolated function getMembers() returns string[] {
+        return self.members;
+    }
+}
+
+# Loads the members of a `hub` cluster from a file, which contains the URL of a member per line. Empty lines and the
+# lines starting with `#` are ignored.
+# ```ballerina
+# string[] members = check websubhub:loadMembers("./cluster-members.txt");
+# ```
+#
+# + path - Path to the file
+# + return - The members or else a `websubhub:Error` if the file could not be read
+public isolated function loadMembers(string path) returns string[]|Error {
+    string[]|io:Error lines = io:fileReadLines(path);
+    if lines is io:Error {
+        return error Error(string `Error occurred while reading the members file [${path}]`, lines,
+            statusCode = PARTITIONING_ERROR);
+    }
+    return from string line in lines
+        let string member = line.trim()
+        where member.length() > 0 && !member.startsWith("#")
+        select member;
+}
+
+isolated function createHashRing(PartitionConfiguration config) returns HashRing|Error {
+    string[]? configuredMembers = config?.members;
+    string? membersFile = config?.membersFile;
+    string[] members;
+    if configuredMembers is string[] {
+        members = configuredMembers;
+    } else if membersFile is string {
+        members = check loadMembers(membersFile);
+    } else {
+        return error Error("Either the members or the members file should be provided for the partitioning",
+            statusCode = PARTITIONING_ERROR);
+    }
+    HashRing ring = check new (members, config.virtualNodes);
+    if ring.getMembers().indexOf(config.localMember) is () {
+        return error Error(string `Local member [${config.localMember}] is not one of the cluster members`,
+            statusCode = PARTITIONING_ERROR);
+    }
+    return ring;
+}
+
+isolated function computeRingPosition(string value) returns int {
+    byte[] digest = crypto:hashSha256(value.toBytes());
+    int position = 0;
+    foreach int i in 0 ..< 8 {
+        position = (position << 8) | digest[i];
+    }
+    return position;
+}
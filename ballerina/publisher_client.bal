@@ -16,11 +16,17 @@
 
 import ballerina/http;
 import ballerina/mime;
+import ballerina/url;
+import ballerina/uuid;
 
 # The HTTP based client for WebSub topic registration and deregistration, and notifying the hub of new updates.
 public isolated client class PublisherClient {
     private final string url;
     private final http:Client httpClient;
+    private final Compression compression;
+    private final int compressionThreshold;
+    private final boolean idempotentPublish;
+    private final Tracer? tracer;
 
     # Initializes the `websub:PublisherClient`.
     # ```ballerina
@@ -32,7 +38,12 @@ public isolated client class PublisherClient {
     # + return - The `websubhub:PublisherClient` or an `websubhub:Error` if the initialization failed
     public isolated function init(string url, *ClientConfiguration config) returns Error? {
         self.url = url;
+        self.compression = config.compression;
+        self.compressionThreshold = config.compressionThreshold;
+        // retried publish requests carry the same idempotency key, so that the hub could deduplicate them
+        self.idempotentPublish = config.retryConfig !is ();
         self.httpClient = check retrieveHttpClient(self.url, retrieveHttpClientConfig(config));
+        self.tracer = check createTracer(config?.tracing);
     }
 
     # Registers a topic in a Ballerina WebSub Hub to which the subscribers can subscribe and the publisher will publish updates.
@@ -85,6 +96,71 @@ public isolated client class PublisherClient {
         }
     }
 
+    # Registers multiple topics in a Ballerina WebSub Hub with a single request.
+    # ```ballerina
+    # (websubhub:TopicRegistrationSuccess|websubhub:TopicRegistrationError)[] results =
+    #     check publisherClient->registerTopics(["http://websubpubtopic.com", "http://websubpubtopic2.com"]);
+    # ```
+    #
+    # + topics - The topics to register
+    # + return - A `websubhub:TopicRegistrationSuccess` or a `websubhub:TopicRegistrationError` for each topic in the
+    #            same order, or else a `websubhub:TopicRegistrationError` if the bulk registration request failed
+    isolated remote function registerTopics(string[] topics)
+            returns (TopicRegistrationSuccess|TopicRegistrationError)[]|TopicRegistrationError {
+        BulkTopicResult[]|Error results = self.sendBulkTopicRequest(MODE_REGISTER, topics, REGISTER_TOPIC_ACTION);
+        if results is Error {
+            CommonResponse errorDetails = results.detail();
+            return error TopicRegistrationError(results.message(), results, statusCode = errorDetails.statusCode,
+                mediaType = errorDetails?.mediaType, body = errorDetails?.body, headers = errorDetails?.headers);
+        }
+        return from BulkTopicResult result in results
+            select result.mode == MODE_ACCEPTED ? {statusCode: result.statusCode}
+                : error TopicRegistrationError(result.reason ?: "Topic registration failed",
+                    statusCode = result.statusCode);
+    }
+
+    # Deregisters multiple topics in a Ballerina WebSub Hub with a single request.
+    # ```ballerina
+    # (websubhub:TopicDeregistrationSuccess|websubhub:TopicDeregistrationError)[] results =
+    #     check publisherClient->deregisterTopics(["http://websubpubtopic.com", "http://websubpubtopic2.com"]);
+    # ```
+    #
+    # + topics - The topics to deregister
+    # + return - A `websubhub:TopicDeregistrationSuccess` or a `websubhub:TopicDeregistrationError` for each topic in
+    #            the same order, or else a `websubhub:TopicDeregistrationError` if the bulk deregistration request
+    #            failed
+    isolated remote function deregisterTopics(string[] topics)
+            returns (TopicDeregistrationSuccess|TopicDeregistrationError)[]|TopicDeregistrationError {
+        BulkTopicResult[]|Error results = self.sendBulkTopicRequest(MODE_DEREGISTER, topics, DEREGISTER_TOPIC_ACTION);
+        if results is Error {
+            CommonResponse errorDetails = results.detail();
+            return error TopicDeregistrationError(results.message(), results, statusCode = errorDetails.statusCode,
+                mediaType = errorDetails?.mediaType, body = errorDetails?.body, headers = errorDetails?.headers);
+        }
+        return from BulkTopicResult result in results
+            select result.mode == MODE_ACCEPTED ? {statusCode: result.statusCode}
+                : error TopicDeregistrationError(result.reason ?: "Topic deregistration failed",
+                    statusCode = result.statusCode);
+    }
+
+    isolated function sendBulkTopicRequest(string mode, string[] topics, string action)
+            returns BulkTopicResult[]|Error {
+        string|error encodedTopics = url:encode(string:'join(" ", ...topics), "UTF-8");
+        if encodedTopics is error {
+            return error Error("Error occurred while encoding the topics", encodedTopics,
+                statusCode = http:STATUS_BAD_REQUEST);
+        }
+        http:Request request = new;
+        request.setTextPayload(string `${HUB_MODE}=${mode}&${HUB_TOPICS}=${encodedTopics}`);
+        request.setHeader(CONTENT_TYPE, mime:APPLICATION_FORM_URLENCODED);
+        http:Response|error response = self.httpClient->post("", request);
+        if response is error {
+            return error Error(string `Error sending bulk ${action} request`, response,
+                statusCode = http:STATUS_INTERNAL_SERVER_ERROR);
+        }
+        return handleBulkTopicResponse(response, action);
+    }
+
     # Publishes an update to a remote Ballerina WebSub Hub.
     # ```ballerina
     # websubhub:Acknowledgement response = check publisherClient->publishUpdate("http://websubpubtopic.com",{"action": "publish",
@@ -112,8 +188,25 @@ public isolated client class PublisherClient {
                 return error UpdateMessageError(errorMsg, setContent, statusCode = http:STATUS_BAD_REQUEST);
              }
         }
+        error? compressed = compressRequest(contentUpdateRequest, self.compression, self.compressionThreshold);
+        if compressed is error {
+            return error UpdateMessageError(string `Error occurred while compressing the update for topic [${topic}]`,
+                compressed, statusCode = http:STATUS_BAD_REQUEST);
+        }
+        if self.idempotentPublish {
+            contentUpdateRequest.setHeader(IDEMPOTENCY_KEY, uuid:createType4AsString());
+        }
+        Tracer? tracer = self.tracer;
+        SpanScope? span = tracer is Tracer ? tracer.startSpan(SPAN_PUBLISH) : ();
+        if span is SpanScope {
+            contentUpdateRequest.setHeader(TRACEPARENT, formatTraceparent(span.context));
+        }
         string queryParams = string `${HUB_MODE}=${MODE_PUBLISH}&${HUB_TOPIC}=${topic}`;
         http:Response|error contentPublishResponse = self.httpClient->post(string `?${queryParams}`, contentUpdateRequest);
+        if tracer is Tracer && span is SpanScope {
+            int statusCode = contentPublishResponse is http:Response ? contentPublishResponse.statusCode : 0;
+            tracer.endSpan(span, {topic, hub: self.url, statusCode: statusCode.toString()});
+        }
         if contentPublishResponse is http:Response {
             Acknowledgement|Error clientResponse = handleResponse(contentPublishResponse, topic, CONTENT_PUBLISH_ACTION);
             if clientResponse is Error {
@@ -185,6 +278,24 @@ isolated function handleResponse(http:Response response, string topic, string ac
     }
 }
 
+isolated function handleBulkTopicResponse(http:Response response, string action) returns BulkTopicResult[]|Error {
+    if response.statusCode == http:STATUS_OK {
+        json|http:ClientError payload = response.getJsonPayload();
+        if payload is json {
+            BulkTopicResult[]|error results = payload.cloneWithType();
+            if results is BulkTopicResult[] {
+                return results;
+            }
+        }
+    }
+    string|http:ClientError result = response.getTextPayload();
+    string responsePayload = result is string ? result : result.message();
+    map<string> responseBody = getFormData(responsePayload);
+    string errorMsg = responseBody[HUB_REASON] ?: string `Error occurred while executing bulk ${action} action`;
+    return error Error(errorMsg, statusCode = response.statusCode, mediaType = response.getContentType(),
+        body = responseBody, headers = getHeaders(response));
+}
+
 isolated function buildTopicRegistrationChangeRequest(string mode, string topic) returns http:Request {
     http:Request request = new;
     request.setTextPayload(string `${HUB_MODE}=${mode}&${HUB_TOPIC}=${topic}`);
@@ -0,0 +1,267 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/http;
+import ballerina/time;
+
+const string RETRY_AFTER = "Retry-After";
+
+# Resource quota of a `websubhub:Service`. Each service attached to a `websubhub:Listener` has its own quota, so that
+# a flood of requests to one service does not starve the other services attached to the same listener. A request,
+# which exceeds the quota is rejected with a `429 Too Many Requests` or a `503 Service Unavailable` response.
+#
+# + maxConcurrentRequests - Maximum number of requests processed by the service at a time
+# + maxRequestsPerSecond - Maximum rate of requests accepted by the service, which is enforced with a token bucket
+#                          that allows bursts of up to one second worth of requests
+# + maxInFlightBytes - Maximum total size (in bytes) of the payloads of the requests processed by the service at a
+#                      time. The size of a request is derived from its `Content-Length` header, and the decoded size
+#                      of a compressed payload is charged in addition. A request without the `Content-Length` header
+#                      is rejected with a `411 Length Required` response, and a request with an invalid
+#                      `Content-Length` header is rejected with a `400 Bad Request` response
+public type QuotaConfiguration record {|
+    int maxConcurrentRequests?;
+    decimal maxRequestsPerSecond?;
+    int maxInFlightBytes?;
+|};
+
+isolated class ServiceQuota {
+    private final int? maxConcurrentRequests;
+    private final decimal? maxRequestsPerSecond;
+    private final int? maxInFlightBytes;
+    private int activeRequests = 0;
+    private int inFlightBytes = 0;
+    private decimal availableTokens;
+    private decimal lastRefilledAt;
+
+    isolated function init(QuotaConfiguration config) returns Error? {
+        int? maxConcurrentRequests = config?.maxConcurrentRequests;
+        decimal? maxRequestsPerSecond = config?.maxRequestsPerSecond;
+        int? maxInFlightBytes = config?.maxInFlightBytes;
+        if (maxConcurrentRequests is int && maxConcurrentRequests < 1)
+            || (maxRequestsPerSecond is decimal && maxRequestsPerSecond <= 0d)
+            || (maxInFlightBytes is int && maxInFlightBytes < 1) {
+            return error Error("Invalid service quota configuration provided", statusCode = SERVICE_QUOTA_ERROR);
+        }
+        self.maxConcurrentRequests = maxConcurrentRequests;
+        self.maxRequestsPerSecond = maxRequestsPerSecond;
+        self.maxInFlightBytes = maxInFlightBytes;
+        self.availableTokens = maxRequestsPerSecond is decimal ? decimal:max(maxRequestsPerSecond, 1d) : 0d;
+        self.lastRefilledAt = time:monotonicNow();
+    }
+
+    # Acquires the quota for a request.
+    #
+    # + payloadSize - The size of the request payload in bytes, `()` if the request has no `Content-Length` header or
+    #                 else an `error` if the `Content-Length` header is invalid
+    # + return - The `websubhub:QuotaPermit` of the request or else the `http:Response` to be sent if the request
+    #            exceeds the quota
+    isolated function acquire(int|error? payloadSize) returns QuotaPermit|http:Response {
+        if self.maxInFlightBytes is int && payloadSize is error {
+            // an invalid size could not be charged, hence it would bypass the budget
+            http:Response response = new;
+            response.statusCode = http:STATUS_BAD_REQUEST;
+            response.setTextPayload("Invalid Content-Length header received");
+            return response;
+        }
+        if self.maxInFlightBytes is int && payloadSize is () {
+            // the size of a chunked payload is not known upfront, hence it could not be bound by the budget
+            http:Response response = new;
+            response.statusCode = http:STATUS_LENGTH_REQUIRED;
+            response.setTextPayload("Content-Length header is required by the memory budget of the hub service");
+            return response;
+        }
+        int size = payloadSize is int ? payloadSize : 0;
+        lock {
+            int? rejectionStatus = self.retrieveBudgetRejection(size);
+            if rejectionStatus is int {
+                return createBudgetExceededResponse(rejectionStatus);
+            }
+            int? maxConcurrentRequests = self.maxConcurrentRequests;
+            if maxConcurrentRequests is int && self.activeRequests >= maxConcurrentRequests {
+                return createQuotaExceededResponse(http:STATUS_SERVICE_UNAVAILABLE,
+                    "Hub service is processing the maximum number of concurrent requests");
+            }
+            if !self.tryConsumeToken() {
+                return createQuotaExceededResponse(http:STATUS_TOO_MANY_REQUESTS,
+                    "Request rate exceeds the rate limit of the hub service");
+            }
+            self.activeRequests += 1;
+            self.inFlightBytes += size;
+        }
+        return new QuotaPermit(self, size);
+    }
+
+    # Charges the memory budget for the additional bytes held by a request, such as its decoded payload.
+    #
+    # + size - The number of additional bytes
+    # + return - The `http:Response` to be sent if the memory budget is exceeded or else `()`
+    isolated function charge(int size) returns http:Response? {
+        lock {
+            int? rejectionStatus = self.retrieveBudgetRejection(size);
+            if rejectionStatus is int {
+                return createBudgetExceededResponse(rejectionStatus);
+            }
+            self.inFlightBytes += size;
+        }
+        return;
+    }
+
+    # Retrieves the number of bytes which could be charged at the moment.
+    #
+    # + return - The available bytes or else `()` if the memory budget is not limited
+    isolated function availableBytes() returns int? {
+        int? maxInFlightBytes = self.maxInFlightBytes;
+        if maxInFlightBytes is () {
+            return;
+        }
+        lock {
+            return int:max(0, maxInFlightBytes - self.inFlightBytes);
+        }
+    }
+
+    # Releases the quota acquired for a request.
+    #
+    # + chargedBytes - The number of bytes charged for the request
+    isolated function release(int chargedBytes) {
+        lock {
+            self.activeRequests -= 1;
+            self.inFlightBytes -= chargedBytes;
+        }
+    }
+
+    isolated function retrieveBudgetRejection(int size) returns int? {
+        int? maxInFlightBytes = self.maxInFlightBytes;
+        if maxInFlightBytes is () {
+            return;
+        }
+        if size > maxInFlightBytes {
+            return http:STATUS_PAYLOAD_TOO_LARGE;
+        }
+        lock {
+            if self.inFlightBytes + size > maxInFlightBytes {
+                return http:STATUS_SERVICE_UNAVAILABLE;
+            }
+        }
+        return;
+    }
+
+    isolated function tryConsumeToken() returns boolean {
+        lock {
+            decimal? maxRequestsPerSecond = self.maxRequestsPerSecond;
+            if maxRequestsPerSecond is () {
+                return true;
+            }
+            decimal now = time:monotonicNow();
+            decimal elapsedSeconds = now - self.lastRefilledAt;
+            decimal capacity = decimal:max(maxRequestsPerSecond, 1d);
+            self.availableTokens = decimal:min(capacity, self.availableTokens + elapsedSeconds * maxRequestsPerSecond);
+            self.lastRefilledAt = now;
+            if self.availableTokens < 1d {
+                return false;
+            }
+            self.availableTokens -= 1d;
+            return true;
+        }
+    }
+}
+
+# Quota acquired for a request. The quota is released once the request no longer holds the resources of the service,
+# e.g. before the intent verification of a subscription, which waits for the subscriber.
+isolated class QuotaPermit {
+    private final ServiceQuota quota;
+    private int chargedBytes;
+    private boolean released = false;
+
+    isolated function init(ServiceQuota quota, int chargedBytes) {
+        self.quota = quota;
+        self.chargedBytes = chargedBytes;
+    }
+
+    isolated function availableBytes() returns int? {
+        return self.quota.availableBytes();
+    }
+
+    isolated function charge(int size) returns http:Response? {
+        http:Response? rejection = self.quota.charge(size);
+        if rejection is () {
+            lock {
+                self.chargedBytes += size;
+            }
+        }
+        return rejection;
+    }
+
+    isolated function rejectPayload(int size) returns http:Response {
+        int chargedBytes;
+        lock {
+            chargedBytes = self.chargedBytes;
+        }
+        // the request could never be accepted, if it exceeds the memory budget together with the bytes already charged
+        int rejectionStatus = self.quota.retrieveBudgetRejection(chargedBytes + size)
+            ?: http:STATUS_SERVICE_UNAVAILABLE;
+        return createBudgetExceededResponse(rejectionStatus);
+    }
+
+    isolated function release() {
+        int chargedBytes;
+        lock {
+            if self.released {
+                return;
+            }
+            self.released = true;
+            chargedBytes = self.chargedBytes;
+        }
+        self.quota.release(chargedBytes);
+    }
+}
+
+isolated function releaseQuota(QuotaPermit? permit) {
+    if permit is QuotaPermit {
+        permit.release();
+    }
+}
+
+isolated function createBudgetExceededResponse(int statusCode) returns http:Response {
+    if statusCode == http:STATUS_PAYLOAD_TOO_LARGE {
+        return createQuotaExceededResponse(statusCode, "Request payload exceeds the memory budget of the hub service");
+    }
+    return createQuotaExceededResponse(statusCode, "Hub service has exhausted its memory budget");
+}
+
+isolated function createQuotaExceededResponse(int statusCode, string message) returns http:Response {
+    http:Response response = new;
+    response.statusCode = statusCode;
+    response.setHeader(RETRY_AFTER, "1");
+    response.setTextPayload(message);
+    return response;
+}
+
+isolated function retrievePayloadSize(http:Headers headers) returns int|error? {
+    string|http:HeaderNotFoundError contentLength = headers.getHeader(CONTENT_LENGTH);
+    return parsePayloadSize(contentLength is string ? contentLength : ());
+}
+
+isolated function parsePayloadSize(string? contentLength) returns int|error? {
+    if contentLength is () {
+        return;
+    }
+    int payloadSize = check int:fromString(contentLength.trim());
+    if payloadSize < 0 {
+        return error(string `Invalid ${CONTENT_LENGTH} header: ${contentLength}`);
+    }
+    return payloadSize;
+}
@@ -0,0 +1,336 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/io;
+import ballerina/lang.runtime;
+import ballerina/log;
+import ballerina/random;
+import ballerina/time;
+
+# Configurations related to the asynchronous redelivery of failed content distributions.
+#
+# + maxAttempts - Maximum number of delivery attempts (including the initial delivery) before the message is
+#                 dead-lettered
+# + initialInterval - Delay (in seconds) before the first redelivery attempt
+# + backoffFactor - Multiplier applied to the delay after each failed attempt
+# + maxInterval - Upper bound (in seconds) for the delay between two consecutive attempts
+# + jitterFactor - Fraction of the computed delay which is randomized, in the range `[0.0, 1.0]`
+# + maxAge - Maximum time (in seconds) since the first failure during which the message is eligible for redelivery
+# + tickInterval - Resolution (in seconds) of the underlying timing wheel
+# + wheelSize - Number of slots in the underlying timing wheel
+public type RedeliveryPolicy record {|
+    int maxAttempts = 5;
+    decimal initialInterval = 1;
+    float backoffFactor = 2.0;
+    decimal maxInterval = 300;
+    float jitterFactor = 0.2;
+    decimal maxAge = 3600;
+    decimal tickInterval = 0.1;
+    int wheelSize = 512;
+|};
+
+# Record to represent a content distribution message which could not be delivered to the subscriber.
+#
+# + topic - Topic to which the message was published
+# + callback - Callback URL of the subscriber
+# + message - The undelivered content distribution message
+# + attempts - Number of delivery attempts made
+# + reason - Reason for the last delivery failure
+public type DeadLetterMessage record {|
+    string topic;
+    string callback;
+    ContentDistributionMessage message;
+    int attempts;
+    string reason;
+|};
+
+# Represents a sink to which undeliverable content distribution messages are handed over.
+public type DeadLetterSink isolated object {
+
+    # Stores a content distribution message which exhausted its redelivery attempts.
+    #
+    # + message - The undelivered message
+    # + return - An `error` if the message could not be stored or else `()`
+    public isolated function deadLetter(readonly & DeadLetterMessage message) returns error?;
+};
+
+# File based `websubhub:DeadLetterSink`, which appends each dead-lettered message to a file as a JSON line.
+public isolated class FileDeadLetterSink {
+    *DeadLetterSink;
+
+    private final string filePath;
+
+    # Initializes the `websubhub:FileDeadLetterSink`.
+    # ```ballerina
+    # websubhub:FileDeadLetterSink deadLetterSink = new ("./dead-letters.jsonl");
+    # ```
+    #
+    # + filePath - Path of the file to which the dead-lettered messages are appended
+    public isolated function init(string filePath = DEFAULT_DEAD_LETTER_FILE) {
+        self.filePath = filePath;
+    }
+
+    # Appends the provided message to the dead-letter file.
+    #
+    # + message - The undelivered message
+    # + return - An `error` if the message could not be written to the file or else `()`
+    public isolated function deadLetter(readonly & DeadLetterMessage message) returns error? {
+        string entry = message.toJsonString() + "\n";
+        lock {
+            check io:fileWriteString(self.filePath, entry, io:APPEND);
+        }
+    }
+}
+
+type RedeliveryTask readonly & record {|
+    ContentDistributionMessage message;
+    string clientKey;
+    int attempts;
+    decimal firstFailedAt;
+    int deadlineTick;
+|};
+
+# Component which asynchronously redelivers failed content distributions using jittered exponential backoff.
+# Pending redeliveries are kept in a hashed timing wheel, hence scheduling and expiring a redelivery does not depend
+# on the number of pending messages. The timing wheel is kept in memory, hence pending redeliveries are not retained
+# across restarts.
+public isolated class RedeliveryScheduler {
+    private final readonly & RedeliveryPolicy policy;
+    private final DeadLetterSink deadLetterSink;
+
+    private final RedeliveryTask[][] wheel = [];
+    private final map<HubClient> hubClients = {};
+    private final map<int> clientReferences = {};
+    private int currentTick = 0;
+    private int pendingTasks = 0;
+    private boolean running = false;
+    private boolean stopped = false;
+
+    # Initializes the `websubhub:RedeliveryScheduler`.
+    # ```ballerina
+    # websubhub:RedeliveryScheduler scheduler = check new ({maxAttempts: 10}, new websubhub:FileDeadLetterSink());
+    # ```
+    #
+    # + policy - The `websubhub:RedeliveryPolicy` to be used
+    # + deadLetterSink - The `websubhub:DeadLetterSink` to which the undeliverable messages are handed over
+    # + return - A `websubhub:Error` if the provided policy is invalid or else `()`
+    public isolated function init(RedeliveryPolicy policy = {},
+            DeadLetterSink deadLetterSink = new FileDeadLetterSink()) returns Error? {
+        if policy.maxAttempts < 1 || policy.tickInterval <= 0d || policy.wheelSize < 1 {
+            return error Error("Invalid redelivery policy provided", statusCode = REDELIVERY_SCHEDULER_ERROR);
+        }
+        self.policy = policy.cloneReadOnly();
+        self.deadLetterSink = deadLetterSink;
+        lock {
+            foreach int i in 0 ..< self.policy.wheelSize {
+                self.wheel.push([]);
+            }
+        }
+    }
+
+    # Schedules a content distribution message, which failed to be delivered, for redelivery. The pending messages of
+    # a subscriber are redelivered using the `websubhub:HubClient` with which its latest message was scheduled.
+    # ```ballerina
+    # websubhub:ContentDistributionSuccess|error result = hubClient->notifyContentDistribution(message);
+    # if result is websubhub:ContentDeliveryError {
+    #     check scheduler.schedule(hubClient, message);
+    # }
+    # ```
+    #
+    # + hubClient - The `websubhub:HubClient` of the subscriber to which the message should be delivered
+    # + message - The failed content distribution message
+    # + return - A `websubhub:Error` if the scheduler has already been stopped or else `()`
+    public isolated function schedule(HubClient hubClient, ContentDistributionMessage message) returns Error? {
+        return self.scheduleRedelivery(hubClient, message.cloneReadOnly(), 1, time:monotonicNow());
+    }
+
+    # Retrieves the number of messages waiting for redelivery.
+    #
+    # + return - The number of pending redeliveries
+    public isolated function pendingCount() returns int {
+        lock {
+            return self.pendingTasks;
+        }
+    }
+
+    # Stops the scheduler. Messages which are still waiting for redelivery are handed over to the dead-letter sink.
+    # ```ballerina
+    # scheduler.stop();
+    # ```
+    public isolated function stop() {
+        RedeliveryTask[] pending;
+        lock {
+            self.stopped = true;
+            RedeliveryTask[] tasks = [];
+            foreach RedeliveryTask[] slot in self.wheel {
+                tasks.push(...slot);
+            }
+            foreach int i in 0 ..< self.wheel.length() {
+                self.wheel[i] = [];
+            }
+            pending = tasks.cloneReadOnly();
+        }
+        foreach RedeliveryTask task in pending {
+            HubClient? hubClient = self.releaseHubClient(task.clientKey);
+            if hubClient is HubClient {
+                self.deadLetter(hubClient, task.message, task.attempts, "Redelivery scheduler stopped");
+            }
+        }
+    }
+
+    isolated function scheduleRedelivery(HubClient hubClient, readonly & ContentDistributionMessage message,
+            int attempts, decimal firstFailedAt) returns Error? {
+        string clientKey = string `${hubClient.getTopic()}:::${hubClient.getCallback()}`;
+        decimal delay = computeRedeliveryDelay(self.policy, attempts, random:createDecimal());
+        int ticks = int:max(1, <int>(delay / self.policy.tickInterval).ceiling());
+        boolean startTicker = false;
+        lock {
+            if self.stopped {
+                return error Error("Redelivery scheduler has already been stopped",
+                    statusCode = REDELIVERY_SCHEDULER_ERROR);
+            }
+            int deadlineTick = self.currentTick + ticks;
+            RedeliveryTask task = {
+                message: message,
+                clientKey: clientKey,
+                attempts: attempts,
+                firstFailedAt: firstFailedAt,
+                deadlineTick: deadlineTick
+            };
+            self.wheel[deadlineTick % self.wheel.length()].push(task);
+            // the latest client of a subscriber is retained, since a re-subscription could have changed its secret
+            self.hubClients[clientKey] = hubClient;
+            self.clientReferences[clientKey] = (self.clientReferences[clientKey] ?: 0) + 1;
+            self.pendingTasks += 1;
+            if !self.running {
+                self.running = true;
+                startTicker = true;
+            }
+        }
+        if startTicker {
+            _ = start self.run();
+        }
+    }
+
+    isolated function run() {
+        while true {
+            runtime:sleep(self.policy.tickInterval);
+            readonly & RedeliveryTask[] dueTasks;
+            lock {
+                if self.stopped {
+                    return;
+                }
+                // park the ticker while there is nothing to redeliver, it is restarted by the next `schedule`
+                if self.pendingTasks == 0 {
+                    self.running = false;
+                    return;
+                }
+                self.currentTick += 1;
+                int slot = self.currentTick % self.wheel.length();
+                RedeliveryTask[] due = [];
+                RedeliveryTask[] remaining = [];
+                foreach RedeliveryTask task in self.wheel[slot] {
+                    if task.deadlineTick <= self.currentTick {
+                        due.push(task);
+                    } else {
+                        remaining.push(task);
+                    }
+                }
+                self.wheel[slot] = remaining;
+                dueTasks = due.cloneReadOnly();
+            }
+            foreach RedeliveryTask task in dueTasks {
+                HubClient? hubClient = self.releaseHubClient(task.clientKey);
+                if hubClient is HubClient {
+                    _ = start self.redeliver(hubClient, task);
+                }
+            }
+        }
+    }
+
+    isolated function redeliver(HubClient hubClient, RedeliveryTask task) {
+        if time:monotonicNow() - task.firstFailedAt >= self.policy.maxAge {
+            self.deadLetter(hubClient, task.message, task.attempts, "Maximum redelivery age exceeded");
+            return;
+        }
+
+        ContentDistributionSuccess|SubscriptionDeletedError|Error result =
+            hubClient->notifyContentDistribution(task.message);
+        if result is ContentDistributionSuccess {
+            return;
+        }
+        if result is SubscriptionDeletedError {
+            log:printWarn("Subscriber has terminated the subscription, hence discarding the pending redelivery",
+                topic = hubClient.getTopic(), callback = hubClient.getCallback());
+            return;
+        }
+
+        int attempts = task.attempts + 1;
+        if attempts >= self.policy.maxAttempts || !isRetriableDeliveryError(result) {
+            self.deadLetter(hubClient, task.message, attempts, result.message());
+            return;
+        }
+        Error? scheduled = self.scheduleRedelivery(hubClient, task.message, attempts, task.firstFailedAt);
+        if scheduled is Error {
+            self.deadLetter(hubClient, task.message, attempts, result.message());
+        }
+    }
+
+    isolated function releaseHubClient(string clientKey) returns HubClient? {
+        lock {
+            self.pendingTasks -= 1;
+            int references = (self.clientReferences[clientKey] ?: 1) - 1;
+            if references > 0 {
+                self.clientReferences[clientKey] = references;
+                return self.hubClients[clientKey];
+            }
+            _ = self.clientReferences.removeIfHasKey(clientKey);
+            return self.hubClients.removeIfHasKey(clientKey);
+        }
+    }
+
+    isolated function deadLetter(HubClient hubClient, readonly & ContentDistributionMessage message, int attempts,
+            string reason) {
+        readonly & DeadLetterMessage deadLetterMessage = {
+            topic: hubClient.getTopic(),
+            callback: hubClient.getCallback(),
+            message: message,
+            attempts: attempts,
+            reason: reason
+        };
+        error? result = self.deadLetterSink.deadLetter(deadLetterMessage);
+        if result is error {
+            log:printError("Error occurred while dead-lettering the content distribution message", 'error = result);
+        }
+    }
+}
+
+isolated function computeRedeliveryDelay(RedeliveryPolicy policy, int attempts, float randomValue) returns decimal {
+    float exponentialDelay = <float>policy.initialInterval * policy.backoffFactor.pow(<float>(attempts - 1));
+    float cappedDelay = float:min(exponentialDelay, <float>policy.maxInterval);
+    // spread the retries of concurrently failed deliveries to avoid synchronized retry storms
+    float jitter = cappedDelay * policy.jitterFactor * (2.0 * randomValue - 1.0);
+    return <decimal>float:max(cappedDelay + jitter, 0.0);
+}
+
+isolated function isRetriableDeliveryError(Error deliveryError) returns boolean {
+    int statusCode = deliveryError.detail().statusCode;
+    if statusCode == http:STATUS_REQUEST_TIMEOUT || statusCode == http:STATUS_TOO_MANY_REQUESTS {
+        return true;
+    }
+    return statusCode < 400 || statusCode >= 500;
+}
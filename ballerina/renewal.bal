@@ -0,0 +1,118 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/time;
+
+# Configuration to renew the subscriptions without repeating the complete subscription flow. A re-subscription for
+# the same topic, callback and secret as a verified subscription, within the lease of that subscription, is
+# considered as a renewal. A subscription without a secret is never renewed, since its subscriber could not be
+# authenticated. A renewal skips the `onSubscription` and the `onSubscriptionValidation` remote methods and
+# only extends the lease by invoking the `onSubscriptionIntentVerified` remote method.
+#
+# + trustWindow - Time (in seconds) since the last intent verification of a subscription, within which a renewal
+#                 skips the intent verification. A renewal beyond this window is verified with a challenge request
+# + capacity - Maximum number of verified subscriptions retained. The least recently used subscriptions are evicted
+#              beyond this limit, hence their renewals go through the complete subscription flow
+public type RenewalConfiguration record {|
+    decimal trustWindow = 3600;
+    int capacity = 100000;
+|};
+
+type VerifiedLease record {|
+    string secret;
+    decimal verifiedAt;
+|};
+
+# Retains the verified subscriptions until their lease expires, so that the renewals of them could be recognized.
+isolated class RenewalCache {
+    private final decimal trustWindow;
+
+    isolated function init(RenewalConfiguration config) returns Error? {
+        if config.trustWindow < 0d {
+            return error Error("Renewal trust window should not be a negative value", statusCode = RENEWAL_CACHE_ERROR);
+        }
+        self.trustWindow = config.trustWindow;
+        error? result = self.externInit(config.capacity);
+        if result is error {
+            return error Error("Error occurred while initializing the renewal cache", result,
+                statusCode = RENEWAL_CACHE_ERROR);
+        }
+    }
+
+    isolated function retrieve(Subscription message) returns VerifiedLease? {
+        string? secret = message.hubSecret;
+        if secret is () || secret == "" {
+            return;
+        }
+        VerifiedLease? lease = self.externGet(getSubscriptionKey(message.hubTopic, message.hubCallback));
+        // a re-subscription with a different secret is a new subscription rather than a renewal
+        if lease is () || !isEqualSecret(lease.secret, secret) {
+            return;
+        }
+        return lease;
+    }
+
+    isolated function isTrusted(VerifiedLease lease) returns boolean {
+        return time:monotonicNow() - lease.verifiedAt <= self.trustWindow;
+    }
+
+    isolated function put(Subscription message, decimal verifiedAt) {
+        string? hubLeaseSeconds = message.hubLeaseSeconds;
+        int|error leaseSeconds = hubLeaseSeconds is string ? int:fromString(hubLeaseSeconds) : 0;
+        string? secret = message.hubSecret;
+        if leaseSeconds is error || leaseSeconds <= 0 || secret is () || secret == "" {
+            return;
+        }
+        readonly & VerifiedLease lease = {secret, verifiedAt};
+        self.externPut(getSubscriptionKey(message.hubTopic, message.hubCallback), lease, <decimal>leaseSeconds);
+    }
+
+    isolated function remove(string topic, string callback) {
+        self.externRemove(getSubscriptionKey(topic, callback));
+    }
+
+    isolated function externInit(int capacity) returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeRenewalCache"
+    } external;
+
+    isolated function externGet(string 'key) returns VerifiedLease? = @java:Method {
+        name: "get",
+        'class: "io.ballerina.stdlib.websubhub.NativeRenewalCache"
+    } external;
+
+    isolated function externPut(string 'key, readonly & VerifiedLease lease, decimal leaseSeconds) = @java:Method {
+        name: "put",
+        'class: "io.ballerina.stdlib.websubhub.NativeRenewalCache"
+    } external;
+
+    isolated function externRemove(string 'key) = @java:Method {
+        name: "remove",
+        'class: "io.ballerina.stdlib.websubhub.NativeRenewalCache"
+    } external;
+}
+
+// the secrets are compared in constant time, so that the timing of a comparison does not reveal a secret
+isolated function isEqualSecret(string secret, string other) returns boolean {
+    byte[] secretBytes = secret.toBytes();
+    byte[] otherBytes = other.toBytes();
+    int difference = secretBytes.length() ^ otherBytes.length();
+    foreach int i in 0 ..< secretBytes.length() {
+        int otherByte = i < otherBytes.length() ? otherBytes[i] : 0;
+        difference |= secretBytes[i] ^ otherByte;
+    }
+    return difference == 0;
+}
@@ -0,0 +1,351 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+import ballerina/time;
+
+const string REPLAY_OFFSET_HEADER = "X-Hub-Replay-Offset";
+
+# Configurations related to the `websubhub:ReplayLog`.
+#
+# + directory - Directory in which the per-topic logs are stored
+# + retentionCount - Minimum number of messages retained for a topic
+# + retentionPeriod - Minimum duration (in seconds) for which a message is retained. A message is removed only once
+#                     it falls outside both the `retentionCount` and the `retentionPeriod`
+# + segmentSize - Size (in bytes) after which a new log segment is created. The retention is applied per segment
+public type ReplayLogConfiguration record {|
+    string directory;
+    int retentionCount = 10000;
+    decimal retentionPeriod = 86400;
+    int segmentSize = 1048576;
+|};
+
+# Represents a replay requested from a given offset of the topic log.
+#
+# + offset - Offset of the first message to be replayed
+public type OffsetPosition record {|
+    int offset;
+|};
+
+# Represents a replay requested from a given point in time.
+#
+# + timestamp - Messages published at or after this time are replayed
+public type TimestampPosition record {|
+    time:Utc timestamp;
+|};
+
+# Represents the position of the topic log from which the messages should be replayed.
+public type ReplayPosition OffsetPosition|TimestampPosition;
+
+# Represents a message retrieved from the `websubhub:ReplayLog`.
+#
+# + offset - Offset of the message in the topic log
+# + timestamp - Time at which the message was appended to the log
+# + message - The published message
+public type ReplayedMessage record {|
+    int offset;
+    time:Utc timestamp;
+    UpdateMessage message;
+|};
+
+# Configurations related to replaying messages to a subscriber.
+#
+# + batchSize - Number of messages read from the log at once
+# + batchInterval - Delay (in seconds) between two batches, which limits the rate at which the messages are replayed
+public type ReplayOptions record {|
+    int batchSize = 100;
+    decimal batchInterval = 0;
+|};
+
+type LogEntry record {|
+    int offset;
+    int timestamp;
+    byte[] payload;
+|};
+
+# Retains a window of the messages published to each topic in an indexed, segmented log on the disk, so that the
+# subscribers which were unavailable for a while could request a replay from an offset or a timestamp using the
+# `hub.replay_offset` or `hub.replay_from` subscription parameters.
+public isolated class ReplayLog {
+
+    # Initializes the `websubhub:ReplayLog`.
+    # ```ballerina
+    # websubhub:ReplayLog replayLog = check new (directory = "./replay-log");
+    # ```
+    #
+    # + config - The `websubhub:ReplayLogConfiguration` to be used
+    # + return - A `websubhub:Error` if the initialization failed or else `()`
+    public isolated function init(*ReplayLogConfiguration config) returns Error? {
+        int retentionMillis = <int>(config.retentionPeriod * 1000d).floor();
+        error? result = self.externInit(config.directory, config.segmentSize, config.retentionCount, retentionMillis);
+        if result is error {
+            return error Error("Error occurred while initializing the replay log", result,
+                statusCode = REPLAY_LOG_ERROR);
+        }
+    }
+
+    # Appends a published message to the log of its topic.
+    # ```ballerina
+    # int offset = check replayLog.append(message);
+    # ```
+    #
+    # + message - The published message
+    # + return - The offset of the message or else a `websubhub:Error` if the message could not be appended
+    public isolated function append(UpdateMessage message) returns int|Error {
+        int|error offset = self.externAppend(message.hubTopic, toEpochMillis(time:utcNow()),
+            encodeUpdateMessage(message));
+        if offset is error {
+            return error Error("Error occurred while appending the message to the replay log", offset,
+                statusCode = REPLAY_LOG_ERROR);
+        }
+        return offset;
+    }
+
+    # Retrieves the messages of a topic starting from the given position. The messages are read from the log in
+    # batches as the stream is consumed, hence only a single batch is kept in the memory at a time.
+    # ```ballerina
+    # stream<websubhub:ReplayedMessage, websubhub:Error?> messages = check replayLog.replay("topic", {offset: 10});
+    # ```
+    #
+    # + topic - The topic of which the messages should be replayed
+    # + position - The position from which the messages should be replayed. If the messages at the position were
+    #              already removed from the log, the replay starts from the oldest retained message
+    # + batchSize - Number of messages read from the log at once
+    # + return - A stream of the messages or else a `websubhub:Error` if the position could not be resolved
+    public isolated function replay(string topic, ReplayPosition position, int batchSize = 100)
+            returns stream<ReplayedMessage, Error?>|Error {
+        if batchSize < 1 {
+            return error Error("Batch size of the replay should be a positive value", statusCode = REPLAY_LOG_ERROR);
+        }
+        int offset = check self.resolveOffset(topic, position);
+        ReplayStream replayStream = new (self, topic, offset, batchSize);
+        return new stream<ReplayedMessage, Error?>(replayStream);
+    }
+
+    # Replays the messages of a topic to a subscriber starting from the given position. A batch is read from the log
+    # only after the previous batch has been delivered. Each message carries its offset in the `X-Hub-Replay-Offset`
+    # header, so that the subscriber could resume the replay from the last received offset.
+    # ```ballerina
+    # int nextOffset = check replayLog.replayTo(hubClient, {offset: 10});
+    # ```
+    #
+    # + hubClient - The `websubhub:HubClient` of the subscriber
+    # + position - The position from which the messages should be replayed
+    # + options - The `websubhub:ReplayOptions` to be used
+    # + return - The offset following the last replayed message or else a `websubhub:Error` if the replay failed
+    public isolated function replayTo(HubClient hubClient, ReplayPosition position, *ReplayOptions options)
+            returns int|Error {
+        if options.batchSize < 1 {
+            return error Error("Batch size of the replay should be a positive value", statusCode = REPLAY_LOG_ERROR);
+        }
+        string topic = hubClient.getTopic();
+        int nextOffset = check self.resolveOffset(topic, position);
+        while true {
+            ReplayedMessage[] batch = check self.read(topic, nextOffset, options.batchSize);
+            foreach ReplayedMessage replayed in batch {
+                UpdateMessage message = replayed.message;
+                ContentDistributionSuccess|error response = hubClient->notifyContentDistribution({
+                    headers: {[REPLAY_OFFSET_HEADER]: replayed.offset.toString()},
+                    contentType: message.contentType,
+                    content: message.content
+                });
+                if response is error {
+                    return error Error(string `Error occurred while replaying the message at offset ${replayed.offset}`,
+                        response, statusCode = REPLAY_LOG_ERROR);
+                }
+                nextOffset = replayed.offset + 1;
+            }
+            if batch.length() < options.batchSize {
+                return nextOffset;
+            }
+            if options.batchInterval > 0d {
+                runtime:sleep(options.batchInterval);
+            }
+        }
+    }
+
+    # Retrieves the offset of the oldest retained message of a topic.
+    #
+    # + topic - The topic
+    # + return - The offset or else a `websubhub:Error` if the log could not be read
+    public isolated function startOffset(string topic) returns int|Error {
+        int|error offset = self.externStartOffset(topic);
+        if offset is error {
+            return error Error("Error occurred while retrieving the start offset of the replay log", offset,
+                statusCode = REPLAY_LOG_ERROR);
+        }
+        return offset;
+    }
+
+    # Retrieves the offset which will be assigned to the next message of a topic.
+    #
+    # + topic - The topic
+    # + return - The offset or else a `websubhub:Error` if the log could not be read
+    public isolated function endOffset(string topic) returns int|Error {
+        int|error offset = self.externEndOffset(topic);
+        if offset is error {
+            return error Error("Error occurred while retrieving the end offset of the replay log", offset,
+                statusCode = REPLAY_LOG_ERROR);
+        }
+        return offset;
+    }
+
+    # Flushes and closes the topic logs.
+    #
+    # + return - A `websubhub:Error` if the logs could not be closed or else `()`
+    public isolated function close() returns Error? {
+        error? result = self.externClose();
+        if result is error {
+            return error Error("Error occurred while closing the replay log", result, statusCode = REPLAY_LOG_ERROR);
+        }
+    }
+
+    isolated function resolveOffset(string topic, ReplayPosition position) returns int|Error {
+        if position is OffsetPosition {
+            return position.offset;
+        }
+        int|error offset = self.externOffsetOf(topic, toEpochMillis(position.timestamp));
+        if offset is error {
+            return error Error("Error occurred while resolving the replay position", offset,
+                statusCode = REPLAY_LOG_ERROR);
+        }
+        return offset;
+    }
+
+    isolated function read(string topic, int fromOffset, int maxEntries) returns ReplayedMessage[]|Error {
+        do {
+            ReplayedMessage[] messages = [];
+            foreach LogEntry entry in check self.externRead(topic, fromOffset, maxEntries) {
+                messages.push({
+                    offset: entry.offset,
+                    timestamp: fromEpochMillis(entry.timestamp),
+                    message: check decodeUpdateMessage(entry.payload)
+                });
+            }
+            return messages;
+        } on fail error e {
+            return error Error("Error occurred while reading the replay log", e, statusCode = REPLAY_LOG_ERROR);
+        }
+    }
+
+    isolated function externInit(string directory, int segmentSize, int retentionCount, int retentionMillis)
+    returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+
+    isolated function externAppend(string topic, int timestamp, byte[] payload) returns int|error = @java:Method {
+        name: "append",
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+
+    isolated function externRead(string topic, int fromOffset, int maxEntries) returns LogEntry[]|error = @java:Method {
+        name: "read",
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+
+    isolated function externOffsetOf(string topic, int timestamp) returns int|error = @java:Method {
+        name: "offsetOf",
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+
+    isolated function externStartOffset(string topic) returns int|error = @java:Method {
+        name: "startOffset",
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+
+    isolated function externEndOffset(string topic) returns int|error = @java:Method {
+        name: "endOffset",
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+
+    isolated function externClose() returns error? = @java:Method {
+        name: "close",
+        'class: "io.ballerina.stdlib.websubhub.NativeReplayLog"
+    } external;
+}
+
+isolated class ReplayStream {
+    private final ReplayLog replayLog;
+    private final string topic;
+    private final int batchSize;
+    private int nextOffset;
+    private ReplayedMessage[] batch = [];
+    private boolean exhausted = false;
+
+    isolated function init(ReplayLog replayLog, string topic, int fromOffset, int batchSize) {
+        self.replayLog = replayLog;
+        self.topic = topic;
+        self.nextOffset = fromOffset;
+        self.batchSize = batchSize;
+    }
+
+    public isolated function next() returns record {|ReplayedMessage value;|}|Error? {
+        lock {
+            if self.batch.length() == 0 && !self.exhausted {
+                ReplayedMessage[] batch = check self.replayLog.read(self.topic, self.nextOffset, self.batchSize);
+                // a partial batch means that the replay has caught up with the end of the log
+                self.exhausted = batch.length() < self.batchSize;
+                self.batch = batch;
+            }
+            if self.batch.length() == 0 {
+                return;
+            }
+            ReplayedMessage message = self.batch.shift();
+            self.nextOffset = message.offset + 1;
+            return {value: message.clone()};
+        }
+    }
+}
+
+# Retrieves the replay position requested by a subscriber using the `hub.replay_offset` or the `hub.replay_from`
+# subscription parameter. The `hub.replay_from` parameter should be an RFC 3339 timestamp.
+# ```ballerina
+# websubhub:ReplayPosition? position = check websubhub:getReplayPosition(subscription);
+# ```
+#
+# + message - The subscription request
+# + return - The requested replay position, `()` if a replay is not requested or else a `websubhub:Error` if the
+#            parameters are invalid
+public isolated function getReplayPosition(Subscription message) returns ReplayPosition|Error? {
+    anydata offset = message[HUB_REPLAY_OFFSET];
+    anydata timestamp = message[HUB_REPLAY_FROM];
+    if offset is () && timestamp is () {
+        return;
+    }
+    if offset !is () && timestamp !is () {
+        return error Error(string `Only one of ${HUB_REPLAY_OFFSET} and ${HUB_REPLAY_FROM} params should be provided.`,
+            statusCode = REPLAY_LOG_ERROR);
+    }
+    if offset is string {
+        int|error replayOffset = int:fromString(offset);
+        if replayOffset is int && replayOffset >= 0 {
+            return {offset: replayOffset};
+        }
+    } else if timestamp is string {
+        time:Utc|error replayFrom = time:utcFromString(timestamp);
+        if replayFrom is time:Utc {
+            return {timestamp: replayFrom};
+        }
+    }
+    string param = offset is () ? HUB_REPLAY_FROM : HUB_REPLAY_OFFSET;
+    return error Error(string `Invalid ${param} param in the request.`, statusCode = REPLAY_LOG_ERROR);
+}
+
+isolated function toEpochMillis(time:Utc timestamp) returns int =>
+    timestamp[0] * 1000 + <int>(timestamp[1] * 1000d).floor();
+
+isolated function fromEpochMillis(int millis) returns time:Utc => [millis / 1000, <decimal>(millis % 1000) / 1000d];
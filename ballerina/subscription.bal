@@ -15,28 +15,39 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/time;
 import ballerina/uuid;
 
 isolated class SubscriptionHandler {
     private final HttpToWebsubhubAdaptor adaptor;
     private final Controller hubController;
     private final readonly & ClientConfiguration clientConfig;
+    private final boolean hierarchicalTopics;
+    private final RenewalCache? renewalCache;
 
     private final boolean isOnSubscriptionAvailable;
     private final boolean isOnSubscriptionValidationAvailable;
     private final boolean isOnUnsubscriptionAvailable;
     private final boolean isOnUnsubscriptionValidationAvailable;
+    private final boolean isOnSubscriptionIntentVerifiedBatchAvailable;
+    private final boolean isOnUnsubscriptionIntentVerifiedBatchAvailable;
 
     isolated function init(HttpToWebsubhubAdaptor adaptor, boolean autoVerifySubscriptionIntent,
-            ClientConfiguration clientConfig) {
+            ClientConfiguration clientConfig, boolean hierarchicalTopics = false, RenewalCache? renewalCache = ()) {
         self.adaptor = adaptor;
         self.hubController = new (autoVerifySubscriptionIntent);
         self.clientConfig = clientConfig.cloneReadOnly();
+        self.hierarchicalTopics = hierarchicalTopics;
+        self.renewalCache = renewalCache;
         string[] methodNames = adaptor.getServiceMethodNames();
         self.isOnSubscriptionAvailable = methodNames.indexOf("onSubscription") is int;
         self.isOnSubscriptionValidationAvailable = methodNames.indexOf("onSubscriptionValidation") is int;
         self.isOnUnsubscriptionAvailable = methodNames.indexOf("onUnsubscription") is int;
         self.isOnUnsubscriptionValidationAvailable = methodNames.indexOf("onUnsubscriptionValidation") is int;
+        self.isOnSubscriptionIntentVerifiedBatchAvailable =
+            methodNames.indexOf("onSubscriptionIntentVerifiedBatch") is int;
+        self.isOnUnsubscriptionIntentVerifiedBatchAvailable =
+            methodNames.indexOf("onUnsubscriptionIntentVerifiedBatch") is int;
     }
 
     isolated function intiateSubscription(Subscription message, http:Headers headers) returns http:Response|Redirect {
@@ -76,28 +87,78 @@ isolated class SubscriptionHandler {
                 [HUB_CHALLENGE, challenge],
                 [HUB_LEASE_SECONDS, message.hubLeaseSeconds]
             ];
-            http:Response subscriberResponse = check sendNotification(message.hubCallback, params, self.clientConfig);
-            string responsePayload = check subscriberResponse.getTextPayload();
-            if challenge != responsePayload {
+            boolean verified = check verifyIntent(
+                message.hubCallback, MODE_SUBSCRIBE, message.hubTopic, challenge, params, self.clientConfig);
+            if !verified {
                 return;
             }
         }
 
+        return self.notifySubscriptionIntentVerified(message, headers, time:monotonicNow());
+    }
+
+    isolated function retrieveRenewal(Subscription message) returns VerifiedLease? {
+        RenewalCache? renewalCache = self.renewalCache;
+        return renewalCache is () ? () : renewalCache.retrieve(message);
+    }
+
+    isolated function renewSubscription(Subscription message, VerifiedLease lease, http:Headers headers)
+            returns error? {
+        RenewalCache? renewalCache = self.renewalCache;
+        if renewalCache is () {
+            return;
+        }
+        decimal verifiedAt = lease.verifiedAt;
+        if !renewalCache.isTrusted(lease) {
+            string challenge = uuid:createType4AsString();
+            [string, string?][] params = [
+                [HUB_MODE, MODE_SUBSCRIBE],
+                [HUB_TOPIC, message.hubTopic],
+                [HUB_CHALLENGE, challenge],
+                [HUB_LEASE_SECONDS, message.hubLeaseSeconds]
+            ];
+            boolean verified = check verifyIntent(
+                message.hubCallback, MODE_SUBSCRIBE, message.hubTopic, challenge, params, self.clientConfig);
+            if !verified {
+                // the subscriber did not confirm the renewal, hence its next re-subscription is verified in full
+                renewalCache.remove(message.hubTopic, message.hubCallback);
+                return;
+            }
+            verifiedAt = time:monotonicNow();
+        }
+        return self.notifySubscriptionIntentVerified(message, headers, verifiedAt);
+    }
+
+    isolated function notifySubscriptionIntentVerified(Subscription message, http:Headers headers, decimal verifiedAt)
+            returns error? {
         VerifiedSubscription verifiedSubscription = {
             ...message
         };
         error? result = self.adaptor.callOnSubscriptionIntentVerifiedMethod(verifiedSubscription, headers);
         if result is error {
+            self.forgetLease(message.hubTopic, message.hubCallback);
             [string, string?][] params = [
                 [HUB_MODE, MODE_HUB_ERROR],
                 [HUB_TOPIC, message.hubTopic],
                 [HUB_REASON, result.message()]
             ];
             _ = check sendNotification(message.hubCallback, params, self.clientConfig);
+            return;
+        }
+        RenewalCache? renewalCache = self.renewalCache;
+        if renewalCache is RenewalCache {
+            renewalCache.put(message, verifiedAt);
         }
     }
 
     isolated function validateSubscription(Subscription message, http:Headers headers) returns error? {
+        if self.hierarchicalTopics {
+            Error? topicValidation = validateTopicPattern(message.hubTopic);
+            if topicValidation is Error {
+                return error SubscriptionDeniedError(
+                    topicValidation.message(), statusCode = http:STATUS_NOT_ACCEPTABLE);
+            }
+        }
         if self.isOnSubscriptionValidationAvailable {
             return self.adaptor.callOnSubscriptionValidationMethod(message, headers);
         }
@@ -108,6 +169,97 @@ isolated class SubscriptionHandler {
         }
     }
 
+    isolated function initiateBulkSubscription(Subscription[] messages, http:Headers headers) returns http:Response {
+        foreach Subscription message in messages {
+            http:Response|Redirect result = self.intiateSubscription(message, headers);
+            if result is Redirect {
+                http:Response response = new;
+                response.statusCode = http:STATUS_BAD_REQUEST;
+                response.setTextPayload("Redirects are not supported for the bulk subscriptions.");
+                return response;
+            }
+            if result.statusCode != http:STATUS_ACCEPTED {
+                return result;
+            }
+        }
+        http:Response response = new;
+        response.statusCode = http:STATUS_ACCEPTED;
+        return response;
+    }
+
+    isolated function verifyBulkSubscription(Subscription[] messages, http:Headers headers) returns error? {
+        Subscription firstMessage = messages[0];
+        string topics = joinTopics(messages);
+        foreach Subscription message in messages {
+            error? validationResult = self.validateSubscription(message, headers);
+            if validationResult is error {
+                [string, string?][] params = [
+                    [HUB_MODE, MODE_DENIED],
+                    [HUB_TOPICS, topics],
+                    [HUB_REASON, validationResult.message()]
+                ];
+                _ = check sendNotification(firstMessage.hubCallback, params, self.clientConfig);
+                return;
+            }
+        }
+
+        if !self.skipBulkVerification(messages) {
+            string challenge = uuid:createType4AsString();
+            [string, string?][] params = [
+                [HUB_MODE, MODE_SUBSCRIBE],
+                [HUB_TOPICS, topics],
+                [HUB_CHALLENGE, challenge],
+                [HUB_LEASE_SECONDS, firstMessage.hubLeaseSeconds]
+            ];
+            boolean verified = check verifyIntent(
+                firstMessage.hubCallback, MODE_SUBSCRIBE, topics, challenge, params, self.clientConfig);
+            if !verified {
+                return;
+            }
+        }
+
+        decimal verifiedAt = time:monotonicNow();
+        VerifiedSubscription[] verifiedSubscriptions = from Subscription message in messages
+            select {...message};
+        error? result = ();
+        if self.isOnSubscriptionIntentVerifiedBatchAvailable {
+            result = self.adaptor.callOnSubscriptionIntentVerifiedBatchMethod(verifiedSubscriptions);
+        } else {
+            foreach VerifiedSubscription verifiedSubscription in verifiedSubscriptions {
+                result = self.adaptor.callOnSubscriptionIntentVerifiedMethod(verifiedSubscription, headers);
+                if result is error {
+                    break;
+                }
+            }
+        }
+        if result is error {
+            [string, string?][] params = [
+                [HUB_MODE, MODE_HUB_ERROR],
+                [HUB_TOPICS, topics],
+                [HUB_REASON, result.message()]
+            ];
+            _ = check sendNotification(firstMessage.hubCallback, params, self.clientConfig);
+            return;
+        }
+        RenewalCache? renewalCache = self.renewalCache;
+        if renewalCache is RenewalCache {
+            foreach Subscription message in messages {
+                renewalCache.put(message, verifiedAt);
+            }
+        }
+    }
+
+    // the auto-verification state of every message is consumed, even if one of them requires the verification
+    isolated function skipBulkVerification((Subscription|Unsubscription)[] messages) returns boolean {
+        boolean skipIntentVerification = true;
+        foreach Subscription|Unsubscription message in messages {
+            if !self.hubController.skipSubscriptionVerification(message) {
+                skipIntentVerification = false;
+            }
+        }
+        return skipIntentVerification;
+    }
+
     isolated function initiateUnsubscription(Unsubscription message, http:Headers headers) returns http:Response {
         if !self.isOnUnsubscriptionAvailable {
             http:Response response = new;
@@ -140,13 +292,14 @@ isolated class SubscriptionHandler {
                 [HUB_TOPIC, message.hubTopic],
                 [HUB_CHALLENGE, challenge]
             ];
-            http:Response subscriberResponse = check sendNotification(message.hubCallback, params, self.clientConfig);
-            string responsePayload = check subscriberResponse.getTextPayload();
-            if challenge != responsePayload {
+            boolean verified = check verifyIntent(
+                message.hubCallback, MODE_UNSUBSCRIBE, message.hubTopic, challenge, params, self.clientConfig);
+            if !verified {
                 return;
             }
         }
 
+        self.forgetLease(message.hubTopic, message.hubCallback);
         VerifiedUnsubscription verifiedUnsubscription = {
             ...message
         };
@@ -171,6 +324,99 @@ isolated class SubscriptionHandler {
                 "Invalid hub.callback param in the request.", statusCode = http:STATUS_NOT_ACCEPTABLE);
         }
     }
+
+    isolated function forgetLease(string topic, string callback) {
+        RenewalCache? renewalCache = self.renewalCache;
+        if renewalCache is RenewalCache {
+            renewalCache.remove(topic, callback);
+        }
+    }
+
+    isolated function initiateBulkUnsubscription(Unsubscription[] messages, http:Headers headers)
+            returns http:Response {
+        foreach Unsubscription message in messages {
+            http:Response result = self.initiateUnsubscription(message, headers);
+            if result.statusCode != http:STATUS_ACCEPTED {
+                return result;
+            }
+        }
+        http:Response response = new;
+        response.statusCode = http:STATUS_ACCEPTED;
+        return response;
+    }
+
+    isolated function verifyBulkUnsubscription(Unsubscription[] messages, http:Headers headers) returns error? {
+        Unsubscription firstMessage = messages[0];
+        string topics = joinTopics(messages);
+        foreach Unsubscription message in messages {
+            error? validationResult = self.validateUnsubscription(message, headers);
+            if validationResult is error {
+                [string, string?][] params = [
+                    [HUB_MODE, MODE_DENIED],
+                    [HUB_TOPICS, topics],
+                    [HUB_REASON, validationResult.message()]
+                ];
+                _ = check sendNotification(firstMessage.hubCallback, params, self.clientConfig);
+                return;
+            }
+        }
+
+        if !self.skipBulkVerification(messages) {
+            string challenge = uuid:createType4AsString();
+            [string, string?][] params = [
+                [HUB_MODE, MODE_UNSUBSCRIBE],
+                [HUB_TOPICS, topics],
+                [HUB_CHALLENGE, challenge]
+            ];
+            boolean verified = check verifyIntent(
+                firstMessage.hubCallback, MODE_UNSUBSCRIBE, topics, challenge, params, self.clientConfig);
+            if !verified {
+                return;
+            }
+        }
+
+        foreach Unsubscription message in messages {
+            self.forgetLease(message.hubTopic, message.hubCallback);
+        }
+        VerifiedUnsubscription[] verifiedUnsubscriptions = from Unsubscription message in messages
+            select {...message};
+        error? result = ();
+        if self.isOnUnsubscriptionIntentVerifiedBatchAvailable {
+            result = self.adaptor.callOnUnsubscriptionIntentVerifiedBatchMethod(verifiedUnsubscriptions);
+        } else {
+            foreach VerifiedUnsubscription verifiedUnsubscription in verifiedUnsubscriptions {
+                result = self.adaptor.callOnUnsubscriptionIntentVerifiedMethod(verifiedUnsubscription, headers);
+                if result is error {
+                    break;
+                }
+            }
+        }
+        if result is error {
+            [string, string?][] params = [
+                [HUB_MODE, MODE_HUB_ERROR],
+                [HUB_TOPICS, topics],
+                [HUB_REASON, result.message()]
+            ];
+            _ = check sendNotification(firstMessage.hubCallback, params, self.clientConfig);
+        }
+    }
+}
+
+isolated function verifyIntent(string callback, string mode, string topic, string challenge,
+        [string, string?][] params, ClientConfiguration clientConfig) returns boolean|error {
+    handle event = beginIntentVerificationEvent();
+    http:Response|error subscriberResponse = sendNotification(callback, params, clientConfig);
+    if subscriberResponse is error {
+        commitIntentVerificationEvent(event, mode, topic, callback, 0, false);
+        return subscriberResponse;
+    }
+    string|error responsePayload = subscriberResponse.getTextPayload();
+    boolean verified = responsePayload is string && responsePayload == challenge;
+    commitIntentVerificationEvent(event, mode, topic, callback, subscriberResponse.statusCode, verified);
+    if responsePayload is error {
+        return responsePayload;
+    }
+    return verified;
 }
 
 isolated function createSubscriptionMessage(string hubUrl, int defaultLeaseSeconds, map<string> params)
@@ -190,6 +436,9 @@ returns Subscription|error {
     foreach var ['key, value] in params.entries() {
         message['key] = value;
     }
+    _ = check getReplayPosition(message);
+    _ = check getBatchPreference(message);
+    _ = check getSignatureAlgorithm(message);
     return message;
 }
 
@@ -236,6 +485,52 @@ isolated function createUnsubscriptionMessage(map<string> params) returns Unsubs
     return message;
 }
 
+isolated function createBulkSubscriptionMessages(string hubUrl, int defaultLeaseSeconds, map<string> params)
+        returns Subscription[]|error {
+    string[] topics = check retrieveBulkTopics(params);
+    Subscription[] messages = [];
+    // the topic list is not carried by the message of each topic
+    map<string> commonParams = params.clone();
+    _ = commonParams.removeIfHasKey(HUB_TOPICS);
+    foreach string topic in topics {
+        map<string> topicParams = commonParams.clone();
+        topicParams[HUB_TOPIC] = topic;
+        messages.push(check createSubscriptionMessage(hubUrl, defaultLeaseSeconds, topicParams));
+    }
+    return messages;
+}
+
+isolated function createBulkUnsubscriptionMessages(map<string> params) returns Unsubscription[]|error {
+    string[] topics = check retrieveBulkTopics(params);
+    Unsubscription[] messages = [];
+    // the topic list is not carried by the message of each topic
+    map<string> commonParams = params.clone();
+    _ = commonParams.removeIfHasKey(HUB_TOPICS);
+    foreach string topic in topics {
+        map<string> topicParams = commonParams.clone();
+        topicParams[HUB_TOPIC] = topic;
+        messages.push(check createUnsubscriptionMessage(topicParams));
+    }
+    return messages;
+}
+
+isolated function retrieveBulkTopics(map<string> params) returns string[]|error {
+    string topics = check retrieveQueryParameter(params, HUB_TOPICS);
+    string[] topicList = from string topic in re `\s+`.split(topics.trim())
+        where topic.length() > 0
+        select topic;
+    if topicList.length() == 0 {
+        return error("Empty value found for parameter '" + HUB_TOPICS + "'");
+    }
+    return topicList;
+}
+
+isolated function joinTopics((Subscription|Unsubscription)[] messages) returns string {
+    string[] topics = from Subscription|Unsubscription message in messages
+        select message.hubTopic;
+    return string:'join(" ", ...topics);
+}
+
 isolated function processOnUnsubscriptionResult(UnsubscriptionAccepted|error result) returns http:Response {
     http:Response response = new;
     if result is UnsubscriptionAccepted {
@@ -0,0 +1,184 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const string TOPIC_LEVEL_SEPARATOR = "/";
+const string SINGLE_LEVEL_WILDCARD = "*";
+const string MULTI_LEVEL_WILDCARD = "#";
+
+type TopicTrieNode record {|
+    map<TopicTrieNode> children = {};
+    map<readonly & Subscription> subscriptions = {};
+|};
+
+# Registry of the subscriptions of a `hub`, which supports hierarchical topics. The topic of a subscription is split
+# into `/` separated levels and could contain the `*` wildcard, which matches exactly one level, and the `#` wildcard
+# as the last level, which matches any number of remaining levels (including none). The subscriptions are indexed in
+# a trie, hence resolving the subscriptions of a published topic takes time proportional to the depth of the topic
+# rather than the number of subscriptions.
+public isolated class SubscriptionRegistry {
+    private final TopicTrieNode root = {};
+    private int count = 0;
+
+    # Adds a subscription to the registry, replacing an existing subscription for the same topic and callback.
+    # ```ballerina
+    # check registry.add(subscription);
+    # ```
+    #
+    # + subscription - The subscription, whose topic could contain wildcards
+    # + return - An `websubhub:Error` if the topic is not a valid topic pattern or else `()`
+    public isolated function add(Subscription subscription) returns Error? {
+        check validateTopicPattern(subscription.hubTopic);
+        readonly & Subscription entry = subscription.cloneReadOnly();
+        readonly & string[] levels = splitTopic(entry.hubTopic);
+        lock {
+            TopicTrieNode node = self.root;
+            foreach string level in levels {
+                TopicTrieNode? child = node.children[level];
+                if child is () {
+                    TopicTrieNode newChild = {};
+                    node.children[level] = newChild;
+                    node = newChild;
+                } else {
+                    node = child;
+                }
+            }
+            if !node.subscriptions.hasKey(entry.hubCallback) {
+                self.count += 1;
+            }
+            node.subscriptions[entry.hubCallback] = entry;
+        }
+    }
+
+    # Removes the subscription for a topic and a callback.
+    # ```ballerina
+    # boolean removed = registry.remove("orders/#", "https://subscriber.com/callback");
+    # ```
+    #
+    # + topic - The topic of the subscription, as it was subscribed
+    # + callback - The callback URL of the subscription
+    # + return - `true` if a subscription was removed or else `false`
+    public isolated function remove(string topic, string callback) returns boolean {
+        readonly & string[] levels = splitTopic(topic);
+        lock {
+            boolean removed = removeSubscription(self.root, levels, 0, callback);
+            if removed {
+                self.count -= 1;
+            }
+            return removed;
+        }
+    }
+
+    # Retrieves the subscriptions, whose topic matches a published topic.
+    # ```ballerina
+    # websubhub:Subscription[] subscriptions = registry.match("orders/eu/created");
+    # ```
+    #
+    # + topic - The published topic
+    # + return - The matching subscriptions
+    public isolated function match(string topic) returns Subscription[] {
+        readonly & string[] levels = splitTopic(topic);
+        lock {
+            map<readonly & Subscription> matches = {};
+            collectMatches(self.root, levels, 0, matches);
+            readonly & Subscription[] subscriptions = matches.toArray().cloneReadOnly();
+            return subscriptions;
+        }
+    }
+
+    # Retrieves the number of subscriptions in the registry.
+    # ```ballerina
+    # int count = registry.size();
+    # ```
+    #
+    # + return - The number of subscriptions
+    public isolated function size() returns int {
+        lock {
+            return self.count;
+        }
+    }
+}
+
+# Validates a hierarchical topic pattern. The `*` and `#` wildcards should span a complete level of the topic, and the
+# `#` wildcard is only allowed as the last level.
+# ```ballerina
+# check websubhub:validateTopicPattern("orders/*/created");
+# ```
+#
+# + topic - The topic pattern
+# + return - An `websubhub:Error` if the topic is not a valid topic pattern or else `()`
+public isolated function validateTopicPattern(string topic) returns Error? {
+    if topic.length() == 0 {
+        return error Error("Topic should not be empty", statusCode = TOPIC_PATTERN_ERROR);
+    }
+    readonly & string[] levels = splitTopic(topic);
+    foreach int i in 0 ..< levels.length() {
+        string level = levels[i];
+        if level == MULTI_LEVEL_WILDCARD {
+            if i != levels.length() - 1 {
+                return error Error(string `Invalid topic [${topic}], '#' is only allowed as the last level`,
+                    statusCode = TOPIC_PATTERN_ERROR);
+            }
+        } else if level != SINGLE_LEVEL_WILDCARD
+                && (level.includes(SINGLE_LEVEL_WILDCARD) || level.includes(MULTI_LEVEL_WILDCARD)) {
+            return error Error(string `Invalid topic [${topic}], wildcards should span a complete level`,
+                statusCode = TOPIC_PATTERN_ERROR);
+        }
+    }
+}
+
+isolated function splitTopic(string topic) returns readonly & string[] => re `/`.split(topic).cloneReadOnly();
+
+isolated function collectMatches(TopicTrieNode node, string[] levels, int index,
+        map<readonly & Subscription> matches) {
+    TopicTrieNode? multiLevel = node.children[MULTI_LEVEL_WILDCARD];
+    if multiLevel is TopicTrieNode {
+        addMatches(multiLevel, matches);
+    }
+    if index == levels.length() {
+        addMatches(node, matches);
+        return;
+    }
+    TopicTrieNode? exact = node.children[levels[index]];
+    if exact is TopicTrieNode {
+        collectMatches(exact, levels, index + 1, matches);
+    }
+    TopicTrieNode? singleLevel = node.children[SINGLE_LEVEL_WILDCARD];
+    if singleLevel is TopicTrieNode && levels[index] != SINGLE_LEVEL_WILDCARD {
+        collectMatches(singleLevel, levels, index + 1, matches);
+    }
+}
+
+isolated function addMatches(TopicTrieNode node, map<readonly & Subscription> matches) {
+    foreach readonly & Subscription subscription in node.subscriptions {
+        matches[getSubscriptionKey(subscription.hubTopic, subscription.hubCallback)] = subscription;
+    }
+}
+
+isolated function removeSubscription(TopicTrieNode node, string[] levels, int index, string callback) returns boolean {
+    if index == levels.length() {
+        return node.subscriptions.removeIfHasKey(callback) !is ();
+    }
+    TopicTrieNode? child = node.children[levels[index]];
+    if child is () {
+        return false;
+    }
+    boolean removed = removeSubscription(child, levels, index + 1, callback);
+    // prune the branches which no longer lead to a subscription
+    if removed && child.subscriptions.length() == 0 && child.children.length() == 0 {
+        _ = node.children.remove(levels[index]);
+    }
+    return removed;
+}
@@ -0,0 +1,128 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/crypto;
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated byte[][] receivedBatches = [];
+isolated string[] receivedSignatures = [];
+
+service /batch on new http:Listener(9106) {
+    isolated resource function post .(http:Request req) returns string|error {
+        byte[] payload = check req.getBinaryPayload();
+        string signature = check req.getHeader("X-Hub-Signature");
+        lock {
+            receivedBatches.push(payload.clone());
+        }
+        lock {
+            receivedSignatures.push(signature);
+        }
+        return "Content Delivery Success";
+    }
+}
+
+@test:Config {
+    groups: ["batching"]
+}
+function testContentDistributionBatchEncoding() returns error? {
+    ContentDistributionMessage[] messages = [
+        {content: "This is a test message"},
+        {content: {"message": "This is a test message"}, contentType: "application/json"},
+        {content: "This is a test message".toBytes(), headers: {"header1": "value1"}},
+        {
+            content: "This is a traced message",
+            traceContext: {traceId: "4bf92f3577b34da6a3ce929d0e0e4736", spanId: "00f067aa0ba902b7", sampled: true}
+        }
+    ];
+    test:assertEquals(check decodeContentDistributionBatch(encodeContentDistributionBatch(messages)), messages);
+}
+
+@test:Config {
+    groups: ["batching"]
+}
+function testBatchedDeliveryIsSigned() returns error? {
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9106/batch"));
+    ContentDistributionMessage[] messages = [{content: "message-1"}, {content: "message-2"}];
+    _ = check hubClient->notifyContentDistributionBatch(messages);
+
+    byte[] payload;
+    string signature;
+    lock {
+        payload = receivedBatches[receivedBatches.length() - 1].clone();
+    }
+    lock {
+        signature = receivedSignatures[receivedSignatures.length() - 1];
+    }
+    test:assertEquals(check decodeContentDistributionBatch(payload), messages);
+    byte[] expectedSignature = check crypto:hmacSha256(payload, "secretkey1".toBytes());
+    test:assertEquals(signature, string `sha256=${expectedSignature.toBase16()}`);
+    test:assertTrue(hubClient->notifyContentDistributionBatch([]) is Error);
+}
+
+@test:Config {
+    groups: ["batching"],
+    dependsOn: [testBatchedDeliveryIsSigned]
+}
+function testDeliveryBatcherFlushesOnSizeAndDelay() returns error? {
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9106/batch"));
+    DeliveryBatcher batcher = check new (hubClient, {maxMessages: 3, maxDelay: 0.2});
+    int initialBatches;
+    lock {
+        initialBatches = receivedBatches.length();
+    }
+    test:assertEquals(check batcher.add({content: "message-1"}), ());
+    test:assertEquals(check batcher.add({content: "message-2"}), ());
+    test:assertTrue(check batcher.add({content: "message-3"}) is ContentDistributionSuccess);
+    test:assertEquals(batcher.pendingCount(), 0);
+
+    _ = check batcher.add({content: "message-4"});
+    runtime:sleep(0.5);
+    test:assertEquals(batcher.pendingCount(), 0);
+    int deliveredBatches;
+    byte[] delayedBatch;
+    lock {
+        deliveredBatches = receivedBatches.length() - initialBatches;
+        delayedBatch = receivedBatches[receivedBatches.length() - 1].clone();
+    }
+    test:assertEquals(deliveredBatches, 2);
+    test:assertEquals(check decodeContentDistributionBatch(delayedBatch), [{content: "message-4"}]);
+
+    _ = check batcher.close();
+    test:assertTrue(batcher.add({content: "message-5"}) is Error);
+}
+
+@test:Config {
+    groups: ["batching"]
+}
+isolated function testBatchPreferenceParams() returns error? {
+    Subscription subscription = check createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.batch_size": "50",
+        "hub.batch_interval": "250"
+    });
+    test:assertEquals(check getBatchPreference(subscription), {maxMessages: 50, maxDelay: 0.25d});
+
+    subscription = check createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com"
+    });
+    test:assertEquals(check getBatchPreference(subscription), ());
+
+    Subscription|error invalid = createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.batch_size": "0"
+    });
+    test:assertTrue(invalid is Error);
+}
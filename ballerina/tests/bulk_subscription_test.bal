@@ -0,0 +1,206 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+listener Listener bulkSubscriptionListener = new (9116);
+
+http:Client bulkSubscriptionClient = check new ("http://localhost:9116");
+
+isolated string[] batchVerifiedTopics = [];
+isolated int batchVerificationCount = 0;
+isolated string[] batchUnverifiedTopics = [];
+isolated string[] perMessageVerifiedTopics = [];
+
+Service bulkSubscriptionBatchService = @ServiceConfig {
+    autoVerifySubscriptionIntent: true
+}
+service object {
+
+    isolated remote function onRegisterTopic(TopicRegistration message) returns TopicRegistrationError {
+        return TOPIC_REGISTRATION_ERROR;
+    }
+
+    isolated remote function onDeregisterTopic(TopicDeregistration message) returns TopicDeregistrationError {
+        return TOPIC_DEREGISTRATION_ERROR;
+    }
+
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns UpdateMessageError {
+        return UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscription(Subscription msg, http:Headers headers, Controller hubController)
+            returns SubscriptionAccepted|InternalSubscriptionError {
+        Error? result = hubController.markAsVerified(msg);
+        return result is Error ? INTERNAL_SUBSCRIPTION_ERROR : SUBSCRIPTION_ACCEPTED;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(VerifiedSubscription msg) {}
+
+    isolated remote function onSubscriptionIntentVerifiedBatch(readonly & VerifiedSubscription[] msgs) {
+        lock {
+            batchVerificationCount += 1;
+            foreach VerifiedSubscription msg in msgs {
+                batchVerifiedTopics.push(msg.hubTopic);
+            }
+        }
+    }
+
+    isolated remote function onUnsubscription(Unsubscription msg, http:Headers headers, Controller hubController)
+            returns UnsubscriptionAccepted|InternalUnsubscriptionError {
+        Error? result = hubController.markAsVerified(msg);
+        return result is Error ? INTERNAL_UNSUBSCRIPTION_ERROR : UNSUBSCRIPTION_ACCEPTED;
+    }
+
+    isolated remote function onUnsubscriptionIntentVerified(VerifiedUnsubscription msg) {}
+
+    isolated remote function onUnsubscriptionIntentVerifiedBatch(readonly & VerifiedUnsubscription[] msgs) {
+        lock {
+            foreach VerifiedUnsubscription msg in msgs {
+                batchUnverifiedTopics.push(msg.hubTopic);
+            }
+        }
+    }
+};
+
+Service bulkSubscriptionFallbackService = @ServiceConfig {
+    autoVerifySubscriptionIntent: true
+}
+service object {
+
+    isolated remote function onRegisterTopic(TopicRegistration message) returns TopicRegistrationError {
+        return TOPIC_REGISTRATION_ERROR;
+    }
+
+    isolated remote function onDeregisterTopic(TopicDeregistration message) returns TopicDeregistrationError {
+        return TOPIC_DEREGISTRATION_ERROR;
+    }
+
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns UpdateMessageError {
+        return UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscription(Subscription msg, http:Headers headers, Controller hubController)
+            returns SubscriptionAccepted|InternalSubscriptionError {
+        Error? result = hubController.markAsVerified(msg);
+        return result is Error ? INTERNAL_SUBSCRIPTION_ERROR : SUBSCRIPTION_ACCEPTED;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(VerifiedSubscription msg) {
+        lock {
+            perMessageVerifiedTopics.push(msg.hubTopic);
+        }
+    }
+
+    isolated remote function onUnsubscriptionIntentVerified(VerifiedUnsubscription msg) {}
+};
+
+@test:BeforeGroups { value: ["bulkSubscription"] }
+function beforeBulkSubscriptionTest() returns error? {
+    check bulkSubscriptionListener.attach(bulkSubscriptionBatchService, "batch");
+    check bulkSubscriptionListener.attach(bulkSubscriptionFallbackService, "fallback");
+}
+
+@test:AfterGroups { value: ["bulkSubscription"] }
+function afterBulkSubscriptionTest() returns error? {
+    check bulkSubscriptionListener.gracefulStop();
+}
+
+@test:Config {
+    groups: ["bulkSubscription"]
+}
+function testBulkSubscriptionWithBatchMethod() returns error? {
+    http:Request request = new;
+    request.setTextPayload(
+        "hub.mode=subscribe&hub.topics=bulkTopic1+bulkTopic2+bulkTopic3&hub.callback=https://sample.subscriber.xyz",
+        "application/x-www-form-urlencoded");
+    http:Response response = check bulkSubscriptionClient->post("/batch", request);
+    test:assertEquals(response.statusCode, 202);
+
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(batchVerificationCount, 1);
+        test:assertEquals(batchVerifiedTopics, ["bulkTopic1", "bulkTopic2", "bulkTopic3"]);
+    }
+}
+
+@test:Config {
+    groups: ["bulkSubscription"]
+}
+function testBulkUnsubscriptionWithBatchMethod() returns error? {
+    http:Request request = new;
+    request.setTextPayload(
+        "hub.mode=unsubscribe&hub.topics=bulkTopic1%20bulkTopic2&hub.callback=https://sample.subscriber.xyz",
+        "application/x-www-form-urlencoded");
+    http:Response response = check bulkSubscriptionClient->post("/batch", request);
+    test:assertEquals(response.statusCode, 202);
+
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(batchUnverifiedTopics, ["bulkTopic1", "bulkTopic2"]);
+    }
+}
+
+@test:Config {
+    groups: ["bulkSubscription"]
+}
+function testBulkSubscriptionWithoutBatchMethod() returns error? {
+    http:Request request = new;
+    request.setTextPayload(
+        "hub.mode=subscribe&hub.topics=fallbackTopic1+fallbackTopic2&hub.callback=https://sample.subscriber.xyz",
+        "application/x-www-form-urlencoded");
+    http:Response response = check bulkSubscriptionClient->post("/fallback", request);
+    test:assertEquals(response.statusCode, 202);
+
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(perMessageVerifiedTopics, ["fallbackTopic1", "fallbackTopic2"]);
+    }
+}
+
+@test:Config {
+    groups: ["bulkSubscription"]
+}
+function testBulkSubscriptionWithEmptyTopics() returns error? {
+    http:Request request = new;
+    request.setTextPayload("hub.mode=subscribe&hub.topics=+&hub.callback=https://sample.subscriber.xyz",
+        "application/x-www-form-urlencoded");
+    http:Response response = check bulkSubscriptionClient->post("/batch", request);
+    test:assertEquals(response.statusCode, 400);
+}
+
+@test:Config {
+    groups: ["bulkSubscription"]
+}
+isolated function testBulkMessagesWithoutTopicList() returns error? {
+    map<string> params = {
+        [HUB_MODE]: MODE_SUBSCRIBE,
+        [HUB_TOPICS]: "bulkTopic1 bulkTopic2",
+        [HUB_CALLBACK]: "https://sample.subscriber.xyz"
+    };
+    Subscription[] subscriptions = check createBulkSubscriptionMessages("https://hub.com", 3600, params);
+    test:assertEquals(subscriptions.length(), 2);
+    foreach Subscription subscription in subscriptions {
+        test:assertEquals(subscription[HUB_TOPICS], ());
+    }
+    Unsubscription[] unsubscriptions = check createBulkUnsubscriptionMessages(params);
+    test:assertEquals(unsubscriptions.length(), 2);
+    foreach Unsubscription unsubscription in unsubscriptions {
+        test:assertEquals(unsubscription[HUB_TOPICS], ());
+    }
+}
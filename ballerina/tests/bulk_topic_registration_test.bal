@@ -0,0 +1,144 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+listener Listener bulkTopicRegistrationListener = new (9117);
+
+isolated int registerTopicsInvocationCount = 0;
+
+Service bulkTopicRegistrationBatchService = service object {
+
+    isolated remote function onRegisterTopic(TopicRegistration message) returns TopicRegistrationError {
+        return TOPIC_REGISTRATION_ERROR;
+    }
+
+    isolated remote function onRegisterTopics(readonly & TopicRegistration[] messages)
+            returns (TopicRegistrationSuccess|TopicRegistrationError)[] {
+        lock {
+            registerTopicsInvocationCount += 1;
+        }
+        // the `hub.topics` parameter of the request should not be carried by the message of each topic
+        return from TopicRegistration message in messages
+            select message.topic.startsWith("invalid") || message.hasKey(HUB_TOPICS) ? error TopicRegistrationError(
+                "Invalid topic received", statusCode = http:STATUS_BAD_REQUEST) : TOPIC_REGISTRATION_SUCCESS;
+    }
+
+    isolated remote function onDeregisterTopic(TopicDeregistration message) returns TopicDeregistrationError {
+        return TOPIC_DEREGISTRATION_ERROR;
+    }
+
+    isolated remote function onDeregisterTopics(TopicDeregistration[] messages) returns error {
+        return error("Topic deregistration is not available");
+    }
+
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns UpdateMessageError {
+        return UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(VerifiedSubscription msg) {}
+
+    isolated remote function onUnsubscriptionIntentVerified(VerifiedUnsubscription msg) {}
+};
+
+Service bulkTopicRegistrationFallbackService = service object {
+
+    isolated remote function onRegisterTopic(TopicRegistration message)
+            returns TopicRegistrationSuccess|TopicRegistrationError {
+        if message.topic.startsWith("invalid") {
+            return error TopicRegistrationError("Invalid topic received", statusCode = http:STATUS_BAD_REQUEST);
+        }
+        return TOPIC_REGISTRATION_SUCCESS;
+    }
+
+    isolated remote function onDeregisterTopic(TopicDeregistration message) returns TopicDeregistrationSuccess {
+        return TOPIC_DEREGISTRATION_SUCCESS;
+    }
+
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns UpdateMessageError {
+        return UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(VerifiedSubscription msg) {}
+
+    isolated remote function onUnsubscriptionIntentVerified(VerifiedUnsubscription msg) {}
+};
+
+@test:BeforeGroups { value: ["bulkTopicRegistration"] }
+function beforeBulkTopicRegistrationTest() returns error? {
+    check bulkTopicRegistrationListener.attach(bulkTopicRegistrationBatchService, "batch");
+    check bulkTopicRegistrationListener.attach(bulkTopicRegistrationFallbackService, "fallback");
+}
+
+@test:AfterGroups { value: ["bulkTopicRegistration"] }
+function afterBulkTopicRegistrationTest() returns error? {
+    check bulkTopicRegistrationListener.gracefulStop();
+}
+
+@test:Config {
+    groups: ["bulkTopicRegistration"]
+}
+function testBulkTopicRegistrationWithBatchMethod() returns error? {
+    PublisherClient publisherClient = check new ("http://localhost:9117/batch");
+    (TopicRegistrationSuccess|TopicRegistrationError)[] results =
+        check publisherClient->registerTopics(["topic1", "invalidTopic", "topic2"]);
+    test:assertEquals(results.length(), 3);
+    test:assertTrue(results[0] is TopicRegistrationSuccess);
+    test:assertTrue(results[2] is TopicRegistrationSuccess);
+    TopicRegistrationSuccess|TopicRegistrationError invalidResult = results[1];
+    if invalidResult is TopicRegistrationError {
+        test:assertEquals(invalidResult.message(), "Invalid topic received");
+        test:assertEquals(invalidResult.detail().statusCode, http:STATUS_BAD_REQUEST);
+    } else {
+        test:assertFail("Expected a topic registration error for the invalid topic");
+    }
+    lock {
+        test:assertEquals(registerTopicsInvocationCount, 1);
+    }
+}
+
+@test:Config {
+    groups: ["bulkTopicRegistration"]
+}
+function testBulkTopicDeregistrationWithBatchMethodError() returns error? {
+    PublisherClient publisherClient = check new ("http://localhost:9117/batch");
+    (TopicDeregistrationSuccess|TopicDeregistrationError)[] results =
+        check publisherClient->deregisterTopics(["topic1", "topic2"]);
+    test:assertEquals(results.length(), 2);
+    foreach TopicDeregistrationSuccess|TopicDeregistrationError result in results {
+        if result is TopicDeregistrationError {
+            test:assertEquals(result.message(), "Topic deregistration is not available");
+        } else {
+            test:assertFail("Expected a topic deregistration error for every topic");
+        }
+    }
+}
+
+@test:Config {
+    groups: ["bulkTopicRegistration"]
+}
+function testBulkTopicRegistrationWithoutBatchMethod() returns error? {
+    PublisherClient publisherClient = check new ("http://localhost:9117/fallback");
+    (TopicRegistrationSuccess|TopicRegistrationError)[] registrationResults =
+        check publisherClient->registerTopics(["http://topic1.com", "invalidTopic"]);
+    test:assertTrue(registrationResults[0] is TopicRegistrationSuccess);
+    test:assertTrue(registrationResults[1] is TopicRegistrationError);
+
+    (TopicDeregistrationSuccess|TopicDeregistrationError)[] deregistrationResults =
+        check publisherClient->deregisterTopics(["http://topic1.com"]);
+    test:assertTrue(deregistrationResults[0] is TopicDeregistrationSuccess);
+}
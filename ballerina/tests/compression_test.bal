@@ -0,0 +1,130 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+@test:Config {
+    groups: ["compression"]
+}
+isolated function testGzipRoundTrip() returns error? {
+    byte[] content = "This is a test message".toBytes();
+    byte[] compressed = check compress(content);
+    test:assertNotEquals(compressed, content);
+    test:assertEquals(check externGunzip(compressed, 1024), content);
+    test:assertEquals(externGunzip(compressed, 4), ());
+    test:assertTrue(externGunzip(content, 1024) is error);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+isolated function testPrepareContentDistribution() returns error? {
+    PreparedContentDistributionMessage small = check prepareContentDistribution({content: {"message": "hello"}});
+    test:assertEquals(small.contentType, "application/json");
+    test:assertEquals(small.body, {"message": "hello"}.toJsonString().toBytes());
+    test:assertEquals(small.gzipBody, ());
+
+    PreparedContentDistributionMessage large = check prepareContentDistribution(
+        {content: "This is a test message"}, compressionThreshold = 8);
+    byte[]? gzipBody = large.gzipBody;
+    if gzipBody is () {
+        test:assertFail("Content was not compressed");
+    }
+    test:assertEquals(check externGunzip(gzipBody, 1024), large.body);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+isolated function testAcceptsGzip() {
+    Subscription subscription = retrieveSubscriptionMsg("http://localhost:9094/callback/success");
+    test:assertFalse(acceptsGzip(subscription));
+    subscription[HUB_ACCEPT_ENCODING] = "br, GZIP";
+    test:assertTrue(acceptsGzip(subscription));
+    subscription[HUB_ACCEPT_ENCODING] = "identity";
+    test:assertFalse(acceptsGzip(subscription));
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+isolated function testDecodeContentEncoding() returns error? {
+    http:Request request = new;
+    request.setBinaryPayload(check compress({"message": "hello"}.toJsonString().toBytes()), "application/json");
+    request.setHeader(CONTENT_ENCODING, GZIP);
+    test:assertEquals(check decodeContentEncoding(request), {"message": "hello"}.toJsonString().toBytes().length());
+    test:assertFalse(request.hasHeader(CONTENT_ENCODING));
+    test:assertEquals(request.getContentType(), "application/json");
+    test:assertEquals(check request.getJsonPayload(), {"message": "hello"});
+
+    http:Request unsupported = new;
+    unsupported.setTextPayload("hello");
+    unsupported.setHeader(CONTENT_ENCODING, "br");
+    Error? result = decodeContentEncoding(unsupported);
+    if result is () {
+        test:assertFail("Unsupported content encoding was accepted");
+    }
+    test:assertEquals(result.detail().statusCode, http:STATUS_UNSUPPORTED_MEDIA_TYPE);
+
+    http:Request oversized = new;
+    oversized.setBinaryPayload(check compress({"message": "hello"}.toJsonString().toBytes()), "application/json");
+    oversized.setHeader(CONTENT_ENCODING, GZIP);
+    int|Error oversizedResult = decodeContentEncoding(oversized, 4);
+    if oversizedResult is int {
+        test:assertFail("Content exceeding the maximum decompressed size was accepted");
+    }
+    test:assertEquals(oversizedResult.detail().statusCode, http:STATUS_PAYLOAD_TOO_LARGE);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+isolated function testCompressRequestThreshold() returns error? {
+    http:Request request = new;
+    request.setTextPayload("hello");
+    check compressRequest(request, COMPRESSION_AUTO, 1024);
+    test:assertFalse(request.hasHeader(CONTENT_ENCODING));
+    check compressRequest(request, COMPRESSION_ALWAYS, 1024);
+    test:assertEquals(check request.getHeader(CONTENT_ENCODING), GZIP);
+    test:assertEquals(request.getContentType(), "text/plain");
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+function testCompressedContentDelivery() returns error? {
+    Subscription subscription = retrieveSubscriptionMsg("http://localhost:9094/callback/success");
+    subscription[HUB_ACCEPT_ENCODING] = GZIP;
+    HubClient hubClientEp = check new (subscription, compression = COMPRESSION_ALWAYS);
+    ContentDistributionSuccess response = check hubClientEp->notifyContentDistribution(
+        {content: "This is sample content delivery"});
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+
+    PreparedContentDistributionMessage prepared = check prepareContentDistribution(
+        {content: {"message": "This is sample content delivery"}}, compressionThreshold = 0);
+    response = check hubClientEp->notifyContentDistribution(prepared);
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+function testCompressedContentPublish() returns error? {
+    PublisherClient publisherClient = check new ("http://localhost:9092/websubhub", compression = COMPRESSION_ALWAYS);
+    Acknowledgement response = check publisherClient->publishUpdate("test", {"message": "This is a test message"});
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["conflation"]
+}
+isolated function testConflationWithoutKey() {
+    ConflatingQueue queue = new;
+    test:assertFalse(queue.enqueue({content: "state-1"}));
+    test:assertTrue(queue.enqueue({content: "state-2"}));
+    test:assertTrue(queue.enqueue({content: "state-3"}));
+    test:assertEquals(queue.size(), 1);
+    test:assertEquals(queue.poll()?.content, "state-3");
+    test:assertEquals(queue.poll(), ());
+}
+
+@test:Config {
+    groups: ["conflation"]
+}
+isolated function testConflationWithKey() {
+    ConflatingQueue queue = new ({keyField: "id"});
+    _ = queue.enqueue({content: {"id": "sensor-1", "value": 1}});
+    _ = queue.enqueue({content: {"id": "sensor-2", "value": 1}});
+    _ = queue.enqueue({content: {"id": "sensor-1", "value": 2}});
+    _ = queue.enqueue({content: "without a key"});
+    _ = queue.enqueue({content: "without a key"});
+    test:assertEquals(queue.size(), 4);
+    test:assertEquals(queue.poll()?.content, {"id": "sensor-1", "value": 2});
+    test:assertEquals(queue.poll()?.content, {"id": "sensor-2", "value": 1});
+    test:assertEquals(queue.poll()?.content, "without a key");
+    test:assertEquals(queue.poll()?.content, "without a key");
+    test:assertEquals(queue.size(), 0);
+}
+
+@test:Config {
+    groups: ["conflation"]
+}
+function testConflatedDelivery() returns error? {
+    ConflatingQueue queue = new ({keyField: "id"});
+    _ = queue.enqueue({content: {"id": "sensor-1", "value": 1}});
+    _ = queue.enqueue({content: {"id": "sensor-1", "value": 2}});
+    _ = queue.enqueue({content: {"id": "sensor-2", "value": 1}});
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    test:assertEquals(check queue.deliverTo(hubClient), 2);
+    test:assertEquals(queue.size(), 0);
+
+    _ = queue.enqueue({content: {"id": "sensor-1", "value": 3}});
+    HubClient failingClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/contentError"));
+    test:assertTrue(queue.deliverTo(failingClient) is Error);
+    test:assertEquals(queue.poll()?.content, {"id": "sensor-1", "value": 3});
+}
+
+@test:Config {
+    groups: ["conflation"]
+}
+isolated function testConflationPolicyAttributes() returns error? {
+    test:assertEquals(check getConflationPolicy({topic: "test"}), ());
+    test:assertEquals(check getConflationPolicy({topic: "test", "hub.conflation": "latest"}), {});
+    test:assertEquals(check getConflationPolicy({
+        topic: "test", "hub.conflation": "latest", "hub.conflation_key": "id"
+    }), {keyField: "id"});
+    test:assertTrue(getConflationPolicy({topic: "test", "hub.conflation": "oldest"}) is Error);
+    test:assertTrue(getConflationPolicy({topic: "test", "hub.conflation_key": "id"}) is Error);
+}
+
+@test:Config {
+    groups: ["conflation"]
+}
+isolated function testTopicRegistrationAttributes() {
+    TopicRegistration msg = createTopicRegistration("test", {
+        "hub.mode": "register", "hub.topic": "test", "hub.topics": "test,other", "hub.conflation": "latest"
+    });
+    test:assertEquals(msg, {topic: "test", hubMode: MODE_REGISTER, "hub.conflation": "latest"});
+}
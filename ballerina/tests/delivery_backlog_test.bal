@@ -0,0 +1,84 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["deliveryBacklog"]
+}
+isolated function testContentDistributionMessageCodec() returns error? {
+    ContentDistributionMessage[] messages = [
+        {content: "This is a test message"},
+        {content: {"message": "This is a test message"}, contentType: "application/json"},
+        {content: xml `<content><message>This is a test message</message></content>`},
+        {content: "This is a test message".toBytes(), headers: {"header1": ["value1", "value2"]}},
+        {content: ()}
+    ];
+    foreach ContentDistributionMessage message in messages {
+        ContentDistributionMessage decoded = check decodeContentDistributionMessage(
+            encodeContentDistributionMessage(message));
+        test:assertEquals(decoded, message);
+    }
+}
+
+@test:Config {
+    groups: ["deliveryBacklog"]
+}
+function testDeliveryBacklogSpillsToSegments() returns error? {
+    DeliveryBacklog backlog = check new (directory = "build/delivery-backlog/spill", inMemoryCapacity = 2,
+        segmentSize = 256);
+    foreach int i in 0 ..< 50 {
+        check backlog.enqueue({content: string `message-${i}`});
+    }
+    test:assertEquals(backlog.size(), 50);
+    foreach int i in 0 ..< 50 {
+        ContentDistributionMessage? message = check backlog.peek();
+        test:assertEquals(message?.content, string `message-${i}`);
+        check backlog.acknowledge();
+    }
+    test:assertEquals(backlog.size(), 0);
+    test:assertEquals(check backlog.peek(), ());
+    check backlog.close();
+}
+
+@test:Config {
+    groups: ["deliveryBacklog"]
+}
+function testDeliveryBacklogInterleavedAccess() returns error? {
+    DeliveryBacklog backlog = check new (directory = "build/delivery-backlog/interleaved", inMemoryCapacity = 1,
+        segmentSize = 128);
+    check backlog.enqueue({content: "first"});
+    check backlog.enqueue({content: "second"});
+    ContentDistributionMessage? message = check backlog.peek();
+    test:assertEquals(message?.content, "first");
+    check backlog.acknowledge();
+    check backlog.enqueue({content: "third"});
+    message = check backlog.peek();
+    test:assertEquals(message?.content, "second");
+    check backlog.acknowledge();
+    message = check backlog.peek();
+    test:assertEquals(message?.content, "third");
+    check backlog.close();
+    test:assertTrue(backlog.enqueue({content: "fourth"}) is Error);
+}
+
+@test:Config {
+    groups: ["deliveryBacklog"]
+}
+function testDeliveryBacklogInvalidConfig() {
+    DeliveryBacklog|Error backlog = new (directory = "build/delivery-backlog/invalid", inMemoryCapacity = 0);
+    test:assertTrue(backlog is Error);
+}
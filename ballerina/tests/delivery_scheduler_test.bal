@@ -0,0 +1,183 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated function drainScheduledTopics(DeliveryScheduler scheduler) returns string[] {
+    string[] topics = [];
+    ScheduledDelivery? delivery = scheduler.nextDelivery();
+    while delivery is ScheduledDelivery {
+        topics.push(delivery.topic);
+        scheduler.complete(delivery);
+        delivery = scheduler.nextDelivery();
+    }
+    return topics;
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testWeightedTopicScheduling() returns error? {
+    DeliveryScheduler scheduler = check new;
+    check scheduler.registerTopic("bulk");
+    check scheduler.registerTopic("alerts", {weight: 2});
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    foreach string topic in ["bulk", "bulk", "bulk", "bulk", "alerts", "alerts", "alerts", "alerts"] {
+        check scheduler.enqueue(topic, hubClient, {content: "This is sample content"});
+    }
+    test:assertEquals(scheduler.pendingCount(), 8);
+    test:assertEquals(drainScheduledTopics(scheduler),
+        ["bulk", "alerts", "alerts", "bulk", "alerts", "alerts", "bulk", "bulk"]);
+    test:assertEquals(scheduler.pendingCount(), 0);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testWeightedTenantScheduling() returns error? {
+    DeliveryScheduler scheduler = check new ({tenantWeights: {"premium": 3}});
+    check scheduler.registerTopic("premium-feed", {tenant: "premium"});
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    foreach int i in 0 ..< 4 {
+        check scheduler.enqueue("free-feed", hubClient, {content: "This is sample content"});
+    }
+    foreach int i in 0 ..< 4 {
+        check scheduler.enqueue("premium-feed", hubClient, {content: "This is sample content"});
+    }
+    test:assertEquals(drainScheduledTopics(scheduler), ["free-feed", "premium-feed", "premium-feed", "premium-feed",
+        "free-feed", "premium-feed", "free-feed", "free-feed"]);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testLowVolumeTopicNotHeldBack() returns error? {
+    DeliveryScheduler scheduler = check new;
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    foreach int i in 0 ..< 100 {
+        check scheduler.enqueue("bulk", hubClient, {content: "This is sample content"});
+    }
+    check scheduler.enqueue("alerts", hubClient, {content: "This is sample content"});
+    test:assertEquals(drainScheduledTopics(scheduler).indexOf("alerts"), 1);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testSubscribersOfTopicScheduledConcurrently() returns error? {
+    DeliveryScheduler scheduler = check new;
+    check scheduler.registerTopic("bulk", {weight: 2});
+    HubClient slowClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/slow"));
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    check scheduler.enqueue("bulk", slowClient, {content: "first"});
+    check scheduler.enqueue("bulk", slowClient, {content: "second"});
+    check scheduler.enqueue("bulk", hubClient, {content: "first"});
+
+    ScheduledDelivery? slowDelivery = scheduler.nextDelivery();
+    ScheduledDelivery? delivery = scheduler.nextDelivery();
+    if slowDelivery is () || delivery is () {
+        test:assertFail("Expected a delivery in progress for each subscriber of the topic");
+    }
+    test:assertEquals(slowDelivery.message.content, "first");
+    test:assertTrue(slowDelivery.clientKey.endsWith("/callback/slow"));
+    test:assertTrue(delivery.clientKey.endsWith("/callback/success"));
+    // the next delivery of a subscriber waits until its previous delivery completes
+    test:assertEquals(scheduler.nextDelivery(), ());
+    scheduler.complete(delivery);
+    test:assertEquals(scheduler.nextDelivery(), ());
+    scheduler.complete(slowDelivery);
+    ScheduledDelivery? nextDelivery = scheduler.nextDelivery();
+    if nextDelivery is () {
+        test:assertFail("Expected the next delivery of the subscriber");
+    }
+    test:assertEquals(nextDelivery.message.content, "second");
+    test:assertTrue(nextDelivery.clientKey.endsWith("/callback/slow"));
+    scheduler.complete(nextDelivery);
+    test:assertEquals(scheduler.pendingCount(), 0);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testDeregisteredTopicDiscardsDeliveries() returns error? {
+    DeliveryScheduler scheduler = check new;
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    foreach int i in 0 ..< 3 {
+        check scheduler.enqueue("bulk", hubClient, {content: "This is sample content"});
+    }
+    test:assertEquals(scheduler.deregisterTopic("bulk"), 3);
+    test:assertEquals(scheduler.pendingCount(), 0);
+    test:assertEquals(scheduler.nextDelivery(), ());
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testLatestHubClientIsUsed() returns error? {
+    DeliveryScheduler scheduler = check new;
+    Subscription subscription = retrieveSubscriptionMsg("http://localhost:9094/callback/success");
+    HubClient staleClient = check new (subscription);
+    HubClient hubClient = check new ({...subscription, hubSecret: "secretkey2"});
+    check scheduler.enqueue("bulk", staleClient, {content: "This is sample content"});
+    check scheduler.enqueue("bulk", hubClient, {content: "This is sample content"});
+    ScheduledDelivery? delivery = scheduler.nextDelivery();
+    if delivery is () {
+        test:assertFail("Expected a scheduled delivery");
+    }
+    test:assertTrue(scheduler.releaseHubClient(delivery.clientKey) === hubClient);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+function testScheduledDelivery() returns error? {
+    DeliveryScheduler scheduler = check new ({concurrency: 2});
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    check scheduler.schedule("bulk", hubClient, {content: "This is sample content"});
+    check scheduler.schedule("bulk", hubClient, {content: "This is sample content"});
+    check scheduler.schedule("alerts", hubClient, {content: "This is sample content"});
+    runtime:sleep(2);
+    test:assertEquals(scheduler.pendingCount(), 0);
+    test:assertEquals(scheduler.stop(), 0);
+    Error? result = scheduler.schedule("bulk", hubClient, {content: "This is sample content"});
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+isolated function testInvalidDeliverySchedulerConfiguration() returns error? {
+    DeliveryScheduler|Error scheduler = new ({quantum: 0});
+    test:assertTrue(scheduler is Error);
+    scheduler = new ({tenantWeights: {"premium": 0}});
+    test:assertTrue(scheduler is Error);
+    DeliveryScheduler validScheduler = check new;
+    test:assertTrue(validScheduler.registerTopic("bulk", {weight: 0}) is Error);
+}
+
+@test:Config {
+    groups: ["deliveryScheduler"]
+}
+isolated function testSchedulingPolicyAttributes() returns error? {
+    test:assertEquals(check getSchedulingPolicy({topic: "test"}), ());
+    test:assertEquals(check getSchedulingPolicy({topic: "test", "hub.weight": "4"}), {weight: 4, tenant: "default"});
+    test:assertEquals(check getSchedulingPolicy({topic: "test", "hub.weight": "2", "hub.tenant": "premium"}),
+        {weight: 2, tenant: "premium"});
+    test:assertTrue(getSchedulingPolicy({topic: "test", "hub.weight": "0"}) is Error);
+    test:assertTrue(getSchedulingPolicy({topic: "test", "hub.weight": "heavy"}) is Error);
+    test:assertTrue(getSchedulingPolicy({topic: "test", "hub.tenant": " "}) is Error);
+}
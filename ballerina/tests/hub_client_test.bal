@@ -295,6 +295,32 @@ isolated function testSubscriberErrorWithFormUrlEncodedResponse() returns error?
     }    
 }
 
+@test:Config {
+}
+isolated function testStatusOnlyContentDelivery() returns error? {
+    Subscription subscriptionMsg = retrieveSubscriptionMsg("http://localhost:9094/callback/successUrlEncoded");
+    HubClient hubClientEP = check new(subscriptionMsg, subscriberResponse = {statusOnly: true});
+    ContentDistributionSuccess response = check hubClientEP->notifyContentDistribution({content: "This is sample content delivery"});
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+    test:assertEquals(response?.headers, ());
+    test:assertEquals(response?.body, ());
+}
+
+@test:Config {
+}
+isolated function testStatusOnlySubscriberErrorWithCappedBody() returns error? {
+    Subscription subscriptionMsg = retrieveSubscriptionMsg("http://localhost:9094/callback/contentError");
+    HubClient hubClientEP = check new(subscriptionMsg, subscriberResponse = {statusOnly: true, maxErrorBodySize: 3});
+    var publishResponse = hubClientEP->notifyContentDistribution({content: "This is sample content delivery"});
+    if publishResponse is ContentDeliveryError {
+        CommonResponse errorDetails = publishResponse.detail();
+        test:assertEquals(errorDetails.statusCode, http:STATUS_BAD_REQUEST);
+        test:assertEquals(errorDetails?.body, "Bad");
+    } else {
+       test:assertFail("Verification failed for content delivery failure.");
+    }
+}
+
 @test:Config {
 }
 isolated function testContentDeliveryRetrySuccess() returns error? {
@@ -0,0 +1,84 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/file;
+import ballerina/test;
+
+@test:Config {
+    groups: ["hubStateStore"]
+}
+function testHubStateStoreRestoresState() returns error? {
+    string directory = "build/hub-state/restore";
+    check resetHubStateDirectory(directory);
+    HubStateStore store = check new (directory = directory);
+    check store.registerTopic({topic: "test-topic-1"});
+    check store.registerTopic({topic: "test-topic-2"});
+    check store.deregisterTopic({topic: "test-topic-1"});
+    check store.addSubscription({
+        hub: "https://hub.com", hubMode: "subscribe", hubCallback: "https://callback.com/sub1",
+        hubTopic: "test-topic-2"
+    });
+    check store.close();
+
+    HubStateStore restored = check new (directory = directory);
+    TopicRegistration[] topics = check restored.retrieveTopics();
+    test:assertEquals(topics, [{topic: "test-topic-2", hubMode: "register"}]);
+    VerifiedSubscription[] subscriptions = check restored.retrieveSubscriptions();
+    test:assertEquals(subscriptions.length(), 1);
+    test:assertEquals(subscriptions[0].hubCallback, "https://callback.com/sub1");
+    check restored.removeSubscription({
+        hubMode: "unsubscribe", hubCallback: "https://callback.com/sub1", hubTopic: "test-topic-2"
+    });
+    test:assertEquals((check restored.retrieveSubscriptions()).length(), 0);
+    check restored.close();
+}
+
+@test:Config {
+    groups: ["hubStateStore"]
+}
+function testHubStateStoreCompaction() returns error? {
+    string directory = "build/hub-state/compaction";
+    check resetHubStateDirectory(directory);
+    HubStateStore store = check new (directory = directory, syncOnWrite = false, compactionThreshold = 5);
+    foreach int i in 0 ..< 23 {
+        check store.registerTopic({topic: string `topic-${i}`});
+    }
+    foreach int i in 0 ..< 10 {
+        check store.deregisterTopic({topic: string `topic-${i}`});
+    }
+    check store.close();
+    test:assertTrue(check file:test(string `${directory}/hub-state.snapshot`, file:EXISTS));
+
+    HubStateStore restored = check new (directory = directory);
+    TopicRegistration[] topics = check restored.retrieveTopics();
+    test:assertEquals(topics.length(), 13);
+    test:assertEquals(topics[0].topic, "topic-10");
+    check restored.close();
+}
+
+@test:Config {
+    groups: ["hubStateStore"]
+}
+function testHubStateStoreInvalidConfig() {
+    HubStateStore|Error store = new (directory = "build/hub-state/invalid", compactionThreshold = 0);
+    test:assertTrue(store is Error);
+}
+
+isolated function resetHubStateDirectory(string directory) returns error? {
+    if check file:test(directory, file:EXISTS) {
+        check file:remove(directory, file:RECURSIVE);
+    }
+}
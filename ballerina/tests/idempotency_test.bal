@@ -0,0 +1,176 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/mime;
+import ballerina/test;
+
+listener Listener idempotencyTestListener = new (9109);
+
+isolated int idempotentUpdateCount = 0;
+
+Service idempotentHubService = @ServiceConfig {
+    idempotency: {
+        capacity: 100,
+        window: 60
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        lock {
+            idempotentUpdateCount += 1;
+        }
+        if msg.hubTopic == "slowIdempotentTopic" {
+            runtime:sleep(0.5);
+        }
+        if msg.hubTopic == "panickingIdempotentTopic" {
+            panic error("Update message could not be processed");
+        }
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+http:Client idempotencyTestClient = check new ("http://localhost:9109/websubhub");
+
+@test:BeforeGroups { value:["idempotency"] }
+function beforeIdempotencyTest() returns error? {
+    check idempotencyTestListener.attach(idempotentHubService, "websubhub");
+}
+
+@test:AfterGroups { value:["idempotency"] }
+function afterIdempotencyTest() returns error? {
+    check idempotencyTestListener.gracefulStop();
+}
+
+function publishWithIdempotencyKey(string idempotencyKey, string topic = "idempotentTopic")
+        returns http:Response|error {
+    http:Request request = new;
+    request.setTextPayload(string `hub.mode=publish&hub.topic=${topic}`, mime:APPLICATION_FORM_URLENCODED);
+    request.setHeader(IDEMPOTENCY_KEY, idempotencyKey);
+    return idempotencyTestClient->post("", request);
+}
+
+@test:Config {
+    groups: ["idempotency"]
+}
+function testDuplicatePublishIsAcknowledgedOnce() returns error? {
+    http:Response original = check publishWithIdempotencyKey("publish-1");
+    http:Response duplicate = check publishWithIdempotencyKey("publish-1");
+    http:Response another = check publishWithIdempotencyKey("publish-2");
+    test:assertEquals(original.statusCode, http:STATUS_OK);
+    test:assertEquals(check duplicate.getTextPayload(), check original.getTextPayload());
+    test:assertEquals(another.statusCode, http:STATUS_OK);
+    lock {
+        test:assertEquals(idempotentUpdateCount, 2);
+    }
+}
+
+@test:Config {
+    groups: ["idempotency"],
+    dependsOn: [testDuplicatePublishIsAcknowledgedOnce]
+}
+function testConcurrentDuplicatePublishIsAcknowledgedOnce() returns error? {
+    int updateCount;
+    lock {
+        updateCount = idempotentUpdateCount;
+    }
+    future<http:Response|error> original = start publishWithIdempotencyKey("publish-3", "slowIdempotentTopic");
+    runtime:sleep(0.1);
+    http:Response duplicate = check publishWithIdempotencyKey("publish-3", "slowIdempotentTopic");
+    http:Response originalResponse = check wait original;
+    test:assertEquals(originalResponse.statusCode, http:STATUS_OK);
+    test:assertEquals(check duplicate.getTextPayload(), check originalResponse.getTextPayload());
+    lock {
+        test:assertEquals(idempotentUpdateCount, updateCount + 1);
+    }
+}
+
+@test:Config {
+    groups: ["idempotency"]
+}
+isolated function testIdempotencyCacheReservation() returns error? {
+    IdempotencyCache cache = check new ({capacity: 10, window: 60});
+    test:assertEquals(cache.reserve("topic", "key-1"), ());
+    cache.release("topic", "key-1");
+    test:assertEquals(cache.reserve("topic", "key-1"), ());
+    cache.put("topic", "key-1", ACKNOWLEDGEMENT);
+    test:assertEquals(cache.reserve("topic", "key-1"), ACKNOWLEDGEMENT);
+}
+
+@test:Config {
+    groups: ["idempotency"],
+    dependsOn: [testConcurrentDuplicatePublishIsAcknowledgedOnce]
+}
+function testPanickedPublishReleasesReservation() returns error? {
+    int updateCount;
+    lock {
+        updateCount = idempotentUpdateCount;
+    }
+    http:Response original = check publishWithIdempotencyKey("publish-4", "panickingIdempotentTopic");
+    http:Response retry = check publishWithIdempotencyKey("publish-4", "panickingIdempotentTopic");
+    test:assertNotEquals(original.statusCode, http:STATUS_OK);
+    test:assertNotEquals(retry.statusCode, http:STATUS_OK);
+    lock {
+        test:assertEquals(idempotentUpdateCount, updateCount + 2);
+    }
+}
+
+@test:Config {
+    groups: ["idempotency"]
+}
+isolated function testIdempotencyCacheReservationTimeout() returns error? {
+    IdempotencyCache cache = check new ({capacity: 10, window: 60, reservationTimeout: 0.1});
+    test:assertEquals(cache.reserve("topic", "key-1"), ());
+    Acknowledgement|Error? retry = cache.reserve("topic", "key-1");
+    if retry !is UpdateMessageError {
+        test:assertFail("Expected the retry to time out while the original request is in progress");
+    }
+    test:assertEquals(retry.detail().statusCode, http:STATUS_CONFLICT);
+    cache.release("topic", "key-1");
+    test:assertEquals(cache.reserve("topic", "key-1"), ());
+}
+
+@test:Config {
+    groups: ["idempotency"]
+}
+isolated function testIdempotencyCacheEviction() returns error? {
+    IdempotencyCache cache = check new ({capacity: 1, window: 60});
+    cache.put("topic", "key-1", ACKNOWLEDGEMENT);
+    cache.put("topic", "key-2", ACKNOWLEDGEMENT);
+    test:assertEquals(cache.size(), 1);
+    test:assertEquals(cache.get("topic", "key-1"), ());
+    test:assertEquals(cache.get("topic", "key-2"), ACKNOWLEDGEMENT);
+    test:assertEquals(cache.get("anotherTopic", "key-2"), ());
+}
+
+@test:Config {
+    groups: ["idempotency"]
+}
+isolated function testIdempotencyCacheExpiry() returns error? {
+    IdempotencyCache cache = check new ({capacity: 10, window: 0.1});
+    cache.put("topic", "key-1", ACKNOWLEDGEMENT);
+    runtime:sleep(0.2);
+    test:assertEquals(cache.get("topic", "key-1"), ());
+}
+
+@test:Config {
+    groups: ["idempotency"]
+}
+isolated function testIdempotencyCacheWithInvalidCapacity() {
+    IdempotencyCache|Error cache = new ({capacity: 0});
+    test:assertTrue(cache is Error);
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/mime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["mediaType"]
+}
+isolated function testMediaTypeParsing() returns error? {
+    MediaType mediaType = check parseMediaType("application/json; charset=UTF-8");
+    test:assertEquals(mediaType.value, mime:APPLICATION_JSON);
+    test:assertEquals(mediaType.params["charset"], "UTF-8");
+    MediaType cached = check parseMediaType("application/json; charset=UTF-8");
+    test:assertTrue(mediaType === cached);
+}
+
+@test:Config {
+    groups: ["mediaType"]
+}
+isolated function testMediaTypeCacheIsBounded() returns error? {
+    MediaTypeCache cache = new (2);
+    _ = check cache.parse(mime:APPLICATION_JSON);
+    _ = check cache.parse(mime:TEXT_PLAIN);
+    test:assertEquals(cache.size(), 2);
+    MediaType mediaType = check cache.parse(mime:APPLICATION_XML);
+    test:assertEquals(mediaType.value, mime:APPLICATION_XML);
+    test:assertEquals(cache.size(), 1);
+}
+
+@test:Config {
+    groups: ["mediaType"]
+}
+isolated function testInvalidMediaTypeIsNotCached() {
+    MediaTypeCache cache = new (2);
+    MediaType|error mediaType = cache.parse("");
+    test:assertTrue(mediaType is error);
+    test:assertEquals(cache.size(), 0);
+}
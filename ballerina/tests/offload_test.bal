@@ -0,0 +1,97 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+listener Listener offloadTestListener = new (9107);
+
+Service offloadedHubService = @ServiceConfig {
+    offload: {
+        methods: ["onUpdateMessage"],
+        maxConcurrency: 2
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement|UpdateMessageError {
+        if msg.hubTopic == "invalidTopic" {
+            return UPDATE_MESSAGE_ERROR;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+Service invalidOffloadHubService = @ServiceConfig {
+    offload: {
+        methods: ["onUpdateMessage"],
+        maxConcurrency: 0
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+@test:BeforeGroups { value:["offload"] }
+function beforeOffloadTest() returns error? {
+    check offloadTestListener.attach(offloadedHubService, "websubhub");
+}
+
+@test:AfterGroups { value:["offload"] }
+function afterOffloadTest() returns error? {
+    check offloadTestListener.gracefulStop();
+}
+
+@test:Config {
+    groups: ["offload"]
+}
+function testOffloadedRemoteMethodExecution() returns error? {
+    PublisherClient publisher = check new ("http://localhost:9107/websubhub");
+    foreach int i in 0 ..< 3 {
+        _ = check publisher->publishUpdate("validTopic", {"action": "publish", "index": i});
+    }
+    Acknowledgement|UpdateMessageError failedResponse = publisher->publishUpdate("invalidTopic", {"action": "publish"});
+    test:assertTrue(failedResponse is UpdateMessageError);
+
+    OffloadMetrics? metrics = getOffloadMetrics(offloadedHubService);
+    if metrics is () {
+        test:assertFail("Offload metrics are not available for the offloaded service");
+    }
+    test:assertEquals(metrics, {active: 0, waiting: 0, completed: 3, failed: 1});
+}
+
+@test:Config {
+    groups: ["offload"]
+}
+function testOffloadMetricsWithoutOffloading() {
+    Service hubService = service object {
+        isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+            return ACKNOWLEDGEMENT;
+        }
+    };
+    test:assertEquals(getOffloadMetrics(hubService), ());
+}
+
+@test:Config {
+    groups: ["offload"]
+}
+function testOffloadWithInvalidConcurrency() {
+    Error? result = offloadTestListener.attach(invalidOffloadHubService, "invalid");
+    if result is () {
+        test:assertFail("Service with an invalid offload configuration was attached");
+    }
+    test:assertEquals(result.message(), "Error occurred while attaching the service");
+}
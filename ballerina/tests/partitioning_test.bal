@@ -0,0 +1,234 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/mime;
+import ballerina/test;
+
+const PARTITION_NODE_1 = "http://localhost:9110/websubhub";
+const PARTITION_NODE_2 = "http://localhost:9111/websubhub";
+
+listener Listener partitionNode1Listener = new (9110);
+listener Listener partitionNode2Listener = new (9111);
+
+Service partitionNode1Service = @ServiceConfig {
+    partitioning: {
+        localMember: PARTITION_NODE_1,
+        members: [PARTITION_NODE_1, PARTITION_NODE_2]
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated remote function onRegisterTopic(TopicRegistration message) returns TopicRegistrationSuccess {
+        return TOPIC_REGISTRATION_SUCCESS;
+    }
+};
+
+Service partitionNode2Service = @ServiceConfig {
+    partitioning: {
+        localMember: PARTITION_NODE_2,
+        members: [PARTITION_NODE_1, PARTITION_NODE_2]
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+Service invalidPartitionService = @ServiceConfig {
+    partitioning: {
+        localMember: "http://localhost:9112/websubhub",
+        members: [PARTITION_NODE_1, PARTITION_NODE_2]
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+http:Client partitionNode1Client = check new (PARTITION_NODE_1, followRedirects = {enabled: false});
+http:Client partitionNode1RedirectingClient = check new (PARTITION_NODE_1, followRedirects = {enabled: true});
+
+@test:BeforeGroups { value:["partitioning"] }
+function beforePartitioningTest() returns error? {
+    check partitionNode1Listener.attach(partitionNode1Service, "websubhub");
+    check partitionNode2Listener.attach(partitionNode2Service, "websubhub");
+}
+
+@test:AfterGroups { value:["partitioning"] }
+function afterPartitioningTest() returns error? {
+    check partitionNode1Listener.gracefulStop();
+    check partitionNode2Listener.gracefulStop();
+}
+
+function findTopicOwnedBy(HashRing ring, string member) returns string {
+    int i = 0;
+    while ring.getOwner(string `topic-${i}`) != member {
+        i += 1;
+    }
+    return string `topic-${i}`;
+}
+
+function createPartitionedPublishRequest() returns http:Request {
+    http:Request request = new;
+    request.setTextPayload("This is a sample content", mime:TEXT_PLAIN);
+    return request;
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+function testPublishToLocalPartition() returns error? {
+    HashRing ring = check new ([PARTITION_NODE_1, PARTITION_NODE_2]);
+    string topic = findTopicOwnedBy(ring, PARTITION_NODE_1);
+    http:Response response = check partitionNode1Client->post(
+        string `?hub.mode=publish&hub.topic=${topic}`, createPartitionedPublishRequest());
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+function testPublishToRemotePartitionIsRedirected() returns error? {
+    HashRing ring = check new ([PARTITION_NODE_1, PARTITION_NODE_2]);
+    string topic = findTopicOwnedBy(ring, PARTITION_NODE_2);
+    string query = string `?hub.mode=publish&hub.topic=${topic}`;
+    http:Response response = check partitionNode1Client->post(query, createPartitionedPublishRequest());
+    test:assertEquals(response.statusCode, http:STATUS_TEMPORARY_REDIRECT);
+    test:assertEquals(check response.getHeader("Location"), PARTITION_NODE_2 + query);
+
+    http:Response redirectedResponse = check partitionNode1RedirectingClient->post(
+        query, createPartitionedPublishRequest());
+    test:assertEquals(redirectedResponse.statusCode, http:STATUS_OK);
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+function testPartitioningWithUnknownLocalMember() {
+    Error? result = partitionNode1Listener.attach(invalidPartitionService, "invalid");
+    if result is () {
+        test:assertFail("Service was attached with a local member which is not in the cluster");
+    }
+    test:assertEquals(result.message(), "Error occurred while attaching the service");
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+isolated function testHashRingOwnership() returns error? {
+    string[] members = ["http://node1/hub", "http://node2/hub", "http://node3/hub"];
+    HashRing ring = check new (members);
+    HashRing sameRing = check new (members.reverse());
+    map<int> ownedTopics = {};
+    foreach int i in 0 ..< 3000 {
+        string topic = string `topic-${i}`;
+        string owner = ring.getOwner(topic);
+        test:assertEquals(sameRing.getOwner(topic), owner);
+        ownedTopics[owner] = (ownedTopics[owner] ?: 0) + 1;
+    }
+    foreach string member in members {
+        int owned = ownedTopics[member] ?: 0;
+        test:assertTrue(owned > 600 && owned < 1400, string `Unbalanced partitioning: ${member} owns ${owned}`);
+    }
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+isolated function testHashRingMembershipChange() returns error? {
+    HashRing ring = check new (["http://node1/hub", "http://node2/hub", "http://node3/hub"]);
+    HashRing reducedRing = check new (["http://node1/hub", "http://node2/hub"]);
+    foreach int i in 0 ..< 1000 {
+        string topic = string `topic-${i}`;
+        string owner = ring.getOwner(topic);
+        if owner != "http://node3/hub" {
+            test:assertEquals(reducedRing.getOwner(topic), owner);
+        }
+    }
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+isolated function testLoadMembers() returns error? {
+    string[] members = check loadMembers("tests/resources/cluster-members.txt");
+    test:assertEquals(members, ["http://node1:9090/hub", "http://node2:9090/hub"]);
+    HashRing|Error ring = new ([]);
+    test:assertTrue(ring is Error);
+}
+
+function createPartitionedBulkSubscriptionRequest(string[] topics) returns http:Request {
+    http:Request request = new;
+    string payload = string `hub.mode=subscribe&hub.topics=${string:'join("+", ...topics)}` +
+        "&hub.callback=https://sample.subscriber.xyz";
+    request.setTextPayload(payload, mime:APPLICATION_FORM_URLENCODED);
+    return request;
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+function testBulkSubscriptionToRemotePartitionIsRedirected() returns error? {
+    HashRing ring = check new ([PARTITION_NODE_1, PARTITION_NODE_2]);
+    string topic = findTopicOwnedBy(ring, PARTITION_NODE_2);
+    http:Response response = check partitionNode1Client->post(
+        "", createPartitionedBulkSubscriptionRequest([topic, topic]));
+    test:assertEquals(response.statusCode, http:STATUS_TEMPORARY_REDIRECT);
+    test:assertEquals(check response.getHeader("Location"), PARTITION_NODE_2);
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+function testBulkSubscriptionAcrossPartitionsIsRejected() returns error? {
+    HashRing ring = check new ([PARTITION_NODE_1, PARTITION_NODE_2]);
+    string localTopic = findTopicOwnedBy(ring, PARTITION_NODE_1);
+    string remoteTopic = findTopicOwnedBy(ring, PARTITION_NODE_2);
+    http:Response response = check partitionNode1Client->post(
+        "", createPartitionedBulkSubscriptionRequest([localTopic, remoteTopic]));
+    test:assertEquals(response.statusCode, http:STATUS_BAD_REQUEST);
+    test:assertEquals(check response.getTextPayload(), string `Topics [${remoteTopic}] are owned by other hub ` +
+        "nodes, hence they should be sent to their owners");
+}
+
+@test:Config {
+    groups: ["partitioning"]
+}
+function testBulkTopicRegistrationAcrossPartitions() returns error? {
+    HashRing ring = check new ([PARTITION_NODE_1, PARTITION_NODE_2]);
+    string localTopic = findTopicOwnedBy(ring, PARTITION_NODE_1);
+    string remoteTopic = findTopicOwnedBy(ring, PARTITION_NODE_2);
+    http:Request request = new;
+    request.setTextPayload(string `hub.mode=register&hub.topics=${localTopic}+${remoteTopic}`,
+        mime:APPLICATION_FORM_URLENCODED);
+    http:Response response = check partitionNode1Client->post("", request);
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+    test:assertEquals(check response.getJsonPayload(), [
+        {topic: localTopic, statusCode: http:STATUS_OK, mode: MODE_ACCEPTED},
+        {
+            topic: remoteTopic,
+            statusCode: http:STATUS_TEMPORARY_REDIRECT,
+            mode: MODE_DENIED,
+            reason: string `Topic is owned by the hub node ${PARTITION_NODE_2}`
+        }
+    ]);
+}
@@ -0,0 +1,98 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+listener Listener publishBatchTestListener = new (9108);
+
+isolated int[] publishBatchSizes = [];
+
+Service publishBatchHubService = @ServiceConfig {
+    publishBatch: {
+        maxMessages: 3,
+        maxDelay: 5
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated remote function onUpdateMessageBatch(readonly & UpdateMessage[] messages)
+            returns (Acknowledgement|UpdateMessageError)[] {
+        lock {
+            publishBatchSizes.push(messages.length());
+        }
+        return from UpdateMessage msg in messages
+            select msg.hubTopic == "invalidBatchTopic" ? UPDATE_MESSAGE_ERROR : ACKNOWLEDGEMENT;
+    }
+};
+
+Service publishBatchWithoutBatchMethod = @ServiceConfig {
+    publishBatch: {}
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+@test:BeforeGroups { value:["publishBatch"] }
+function beforePublishBatchTest() returns error? {
+    check publishBatchTestListener.attach(publishBatchHubService, "websubhub");
+}
+
+@test:AfterGroups { value:["publishBatch"] }
+function afterPublishBatchTest() returns error? {
+    check publishBatchTestListener.gracefulStop();
+}
+
+isolated function publishToBatchingHub(string topic) returns Acknowledgement|UpdateMessageError {
+    PublisherClient|Error publisher = new ("http://localhost:9108/websubhub");
+    if publisher is Error {
+        return error UpdateMessageError(publisher.message(), statusCode = -1);
+    }
+    return publisher->publishUpdate(topic, {"action": "publish"});
+}
+
+@test:Config {
+    groups: ["publishBatch"]
+}
+function testConcurrentPublishesAreBatched() returns error? {
+    future<Acknowledgement|UpdateMessageError> first = start publishToBatchingHub("validBatchTopic");
+    future<Acknowledgement|UpdateMessageError> second = start publishToBatchingHub("invalidBatchTopic");
+    future<Acknowledgement|UpdateMessageError> third = start publishToBatchingHub("validBatchTopic");
+    Acknowledgement|UpdateMessageError firstResult = wait first;
+    Acknowledgement|UpdateMessageError secondResult = wait second;
+    Acknowledgement|UpdateMessageError thirdResult = wait third;
+    test:assertTrue(firstResult is Acknowledgement);
+    test:assertTrue(secondResult is UpdateMessageError);
+    test:assertTrue(thirdResult is Acknowledgement);
+    lock {
+        test:assertEquals(publishBatchSizes, [3]);
+    }
+}
+
+@test:Config {
+    groups: ["publishBatch"]
+}
+function testPublishBatchWithoutBatchMethod() {
+    Error? result = publishBatchTestListener.attach(publishBatchWithoutBatchMethod, "invalid");
+    if result is () {
+        test:assertFail("Service without the batch remote method was attached with publish batching");
+    }
+    test:assertEquals(result.message(), "Error occurred while attaching the service");
+}
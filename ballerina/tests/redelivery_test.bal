@@ -0,0 +1,131 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated class InMemoryDeadLetterSink {
+    *DeadLetterSink;
+
+    private final DeadLetterMessage[] messages = [];
+
+    public isolated function deadLetter(readonly & DeadLetterMessage message) returns error? {
+        lock {
+            self.messages.push(message);
+        }
+    }
+
+    isolated function retrieveMessages() returns DeadLetterMessage[] {
+        lock {
+            return self.messages.clone();
+        }
+    }
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+isolated function testRedeliveryDelayBackoff() {
+    RedeliveryPolicy policy = {initialInterval: 1, backoffFactor: 2.0, maxInterval: 10, jitterFactor: 0.0};
+    test:assertEquals(computeRedeliveryDelay(policy, 1, 0.5), 1d);
+    test:assertEquals(computeRedeliveryDelay(policy, 3, 0.5), 4d);
+    test:assertEquals(computeRedeliveryDelay(policy, 10, 0.5), 10d);
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+isolated function testRedeliveryDelayJitterBounds() {
+    RedeliveryPolicy policy = {initialInterval: 10, jitterFactor: 0.2};
+    test:assertEquals(computeRedeliveryDelay(policy, 1, 0.0), 8d);
+    test:assertEquals(computeRedeliveryDelay(policy, 1, 1.0), 12d);
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+isolated function testInvalidRedeliveryPolicy() {
+    RedeliveryScheduler|Error scheduler = new ({maxAttempts: 0});
+    test:assertTrue(scheduler is Error);
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+function testRedeliveryExhaustionDeadLettered() returns error? {
+    InMemoryDeadLetterSink deadLetterSink = new;
+    RedeliveryScheduler scheduler = check new ({
+        maxAttempts: 3,
+        initialInterval: 0.1,
+        jitterFactor: 0.0,
+        tickInterval: 0.05
+    }, deadLetterSink);
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/retryFailed"));
+    check scheduler.schedule(hubClient, {content: "This is sample content"});
+    test:assertEquals(scheduler.pendingCount(), 1);
+    runtime:sleep(2);
+    DeadLetterMessage[] deadLetters = deadLetterSink.retrieveMessages();
+    test:assertEquals(deadLetters.length(), 1);
+    test:assertEquals(deadLetters[0].attempts, 3);
+    test:assertEquals(deadLetters[0].callback, "http://localhost:9094/callback/retryFailed");
+    test:assertEquals(scheduler.pendingCount(), 0);
+    scheduler.stop();
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+function testNonRetriableDeliveryDeadLettered() returns error? {
+    InMemoryDeadLetterSink deadLetterSink = new;
+    RedeliveryScheduler scheduler = check new ({initialInterval: 0.1, tickInterval: 0.05}, deadLetterSink);
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/contentError"));
+    check scheduler.schedule(hubClient, {content: "This is sample content"});
+    runtime:sleep(1);
+    DeadLetterMessage[] deadLetters = deadLetterSink.retrieveMessages();
+    test:assertEquals(deadLetters.length(), 1);
+    test:assertEquals(deadLetters[0].attempts, 2);
+    scheduler.stop();
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+function testStoppedSchedulerDeadLettersPendingMessages() returns error? {
+    InMemoryDeadLetterSink deadLetterSink = new;
+    RedeliveryScheduler scheduler = check new ({initialInterval: 60}, deadLetterSink);
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    check scheduler.schedule(hubClient, {content: "This is sample content"});
+    scheduler.stop();
+    test:assertEquals(deadLetterSink.retrieveMessages().length(), 1);
+    Error? result = scheduler.schedule(hubClient, {content: "This is sample content"});
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["redelivery"]
+}
+function testRedeliveryUsesLatestHubClient() returns error? {
+    InMemoryDeadLetterSink deadLetterSink = new;
+    RedeliveryScheduler scheduler = check new ({initialInterval: 60}, deadLetterSink);
+    HubClient staleClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    HubClient latestClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    check scheduler.schedule(staleClient, {content: "This is sample content"});
+    check scheduler.schedule(latestClient, {content: "This is sample content"});
+    HubClient? retainedClient = scheduler.releaseHubClient(
+        "https://topic.com:::http://localhost:9094/callback/success");
+    test:assertTrue(retainedClient === latestClient);
+    scheduler.stop();
+}
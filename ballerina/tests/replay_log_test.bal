@@ -0,0 +1,173 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/file;
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayFromOffset() returns error? {
+    ReplayLog replayLog = check createReplayLog("build/replay-log/offset");
+    foreach int i in 0 ..< 25 {
+        int offset = check replayLog.append({
+            msgType: PUBLISH, hubTopic: "test-topic", contentType: "text/plain", content: string `message-${i}`
+        });
+        test:assertEquals(offset, i);
+    }
+    stream<ReplayedMessage, Error?> messages = check replayLog.replay("test-topic", {offset: 20}, batchSize = 2);
+    string[] contents = check from ReplayedMessage replayed in messages
+        select check replayed.message.content.ensureType();
+    test:assertEquals(contents, ["message-20", "message-21", "message-22", "message-23", "message-24"]);
+    check replayLog.close();
+}
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayFromTimestamp() returns error? {
+    ReplayLog replayLog = check createReplayLog("build/replay-log/timestamp");
+    _ = check replayLog.append({msgType: PUBLISH, hubTopic: "test-topic", contentType: "text/plain", content: "old"});
+    runtime:sleep(0.01);
+    time:Utc replayFrom = time:utcNow();
+    runtime:sleep(0.01);
+    _ = check replayLog.append({
+        msgType: PUBLISH, hubTopic: "test-topic", contentType: "application/json", content: {"message": "new"}
+    });
+    stream<ReplayedMessage, Error?> messages = check replayLog.replay("test-topic", {timestamp: replayFrom});
+    ReplayedMessage[] replayed = check from ReplayedMessage message in messages select message;
+    test:assertEquals(replayed.length(), 1);
+    test:assertEquals(replayed[0].offset, 1);
+    test:assertEquals(replayed[0].message.content, {"message": "new"});
+    check replayLog.close();
+}
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayLogRetentionAndRestart() returns error? {
+    string directory = "build/replay-log/retention";
+    ReplayLog replayLog = check createReplayLog(directory, retentionCount = 10, retentionPeriod = 0.1,
+        segmentSize = 256);
+    foreach int i in 0 ..< 100 {
+        _ = check replayLog.append({
+            msgType: PUBLISH, hubTopic: "test-topic", contentType: "text/plain", content: string `message-${i}`
+        });
+    }
+    runtime:sleep(0.2);
+    _ = check replayLog.append({
+        msgType: PUBLISH, hubTopic: "test-topic", contentType: "text/plain", content: "message-100"
+    });
+    int startOffset = check replayLog.startOffset("test-topic");
+    test:assertTrue(startOffset > 0 && startOffset <= 91);
+    check replayLog.close();
+
+    ReplayLog restored = check new (directory = directory, retentionCount = 10, retentionPeriod = 0.1,
+        segmentSize = 256);
+    test:assertEquals(check restored.startOffset("test-topic"), startOffset);
+    test:assertEquals(check restored.endOffset("test-topic"), 101);
+    stream<ReplayedMessage, Error?> messages = check restored.replay("test-topic", {offset: 0});
+    ReplayedMessage[] replayed = check from ReplayedMessage message in messages select message;
+    test:assertEquals(replayed[0].offset, startOffset);
+    test:assertEquals(replayed.length(), 101 - startOffset);
+    check restored.close();
+}
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayLogRetainsMessagesWithinRetentionPeriod() returns error? {
+    ReplayLog replayLog = check createReplayLog("build/replay-log/period", retentionCount = 10, segmentSize = 256);
+    foreach int i in 0 ..< 100 {
+        _ = check replayLog.append({
+            msgType: PUBLISH, hubTopic: "test-topic", contentType: "text/plain", content: string `message-${i}`
+        });
+    }
+    // the retention count is exceeded, but every message is still within the retention period
+    test:assertEquals(check replayLog.startOffset("test-topic"), 0);
+    test:assertEquals(check replayLog.endOffset("test-topic"), 100);
+    check replayLog.close();
+}
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayToSubscriber() returns error? {
+    ReplayLog replayLog = check createReplayLog("build/replay-log/subscriber");
+    foreach int i in 0 ..< 5 {
+        _ = check replayLog.append({
+            msgType: PUBLISH, hubTopic: "https://topic.com", contentType: "text/plain", content: string `message-${i}`
+        });
+    }
+    HubClient hubClient = check new (retrieveSubscriptionMsg("http://localhost:9094/callback/success"));
+    int nextOffset = check replayLog.replayTo(hubClient, {offset: 2}, batchSize = 2);
+    test:assertEquals(nextOffset, 5);
+    test:assertTrue(replayLog.replayTo(hubClient, {offset: 0}, batchSize = 0) is Error);
+    check replayLog.close();
+}
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayPositionParams() returns error? {
+    Subscription subscription = check createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.replay_offset": "42"
+    });
+    test:assertEquals(check getReplayPosition(subscription), {offset: 42});
+
+    subscription = check createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.replay_from": "2026-01-01T00:00:00Z"
+    });
+    time:Utc replayFrom = check time:utcFromString("2026-01-01T00:00:00Z");
+    test:assertEquals(check getReplayPosition(subscription), {timestamp: replayFrom});
+
+    subscription = check createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com"
+    });
+    test:assertEquals(check getReplayPosition(subscription), ());
+
+    Subscription|error invalid = createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.replay_offset": "-1"
+    });
+    test:assertTrue(invalid is Error);
+}
+
+function createReplayLog(string directory, int retentionCount = 10000, decimal retentionPeriod = 86400,
+        int segmentSize = 1048576) returns ReplayLog|error {
+    if check file:test(directory, file:EXISTS) {
+        check file:remove(directory, file:RECURSIVE);
+    }
+    return new (directory = directory, retentionCount = retentionCount, retentionPeriod = retentionPeriod,
+        segmentSize = segmentSize);
+}
+
+@test:Config {
+    groups: ["replayLog"]
+}
+function testReplayOfUnknownTopicCreatesNoLog() returns error? {
+    string directory = "build/replay-log/unknown";
+    ReplayLog replayLog = check createReplayLog(directory);
+    int topicLogs = (check file:readDir(directory)).length();
+    stream<ReplayedMessage, Error?> messages = check replayLog.replay("unknown-topic", {offset: 0});
+    ReplayedMessage[] replayed = check from ReplayedMessage message in messages select message;
+    test:assertEquals(replayed.length(), 0);
+    test:assertEquals(check replayLog.startOffset("unknown-topic"), 0);
+    test:assertEquals(check replayLog.endOffset("unknown-topic"), 0);
+    test:assertEquals((check file:readDir(directory)).length(), topicLogs);
+    check replayLog.close();
+}
@@ -0,0 +1,169 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/http;
+import ballerina/mime;
+import ballerina/test;
+
+listener Listener multiServiceListener = new (9113);
+
+Service rateLimitedTenantService = @ServiceConfig {
+    quota: {
+        maxRequestsPerSecond: 0.5
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+Service memoryBoundTenantService = @ServiceConfig {
+    quota: {
+        maxConcurrentRequests: 10,
+        maxInFlightBytes: 32
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+Service invalidQuotaService = @ServiceConfig {
+    quota: {
+        maxConcurrentRequests: 0
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+http:Client multiServiceClient = check new ("http://localhost:9113");
+
+@test:BeforeGroups { value:["serviceQuota"] }
+function beforeServiceQuotaTest() returns error? {
+    check multiServiceListener.attach(rateLimitedTenantService, "tenantA");
+    check multiServiceListener.attach(memoryBoundTenantService, "tenantB");
+}
+
+@test:AfterGroups { value:["serviceQuota"] }
+function afterServiceQuotaTest() returns error? {
+    check multiServiceListener.gracefulStop();
+}
+
+function publishToTenant(string tenant, string content) returns http:Response|error {
+    http:Request request = new;
+    request.setTextPayload(content, mime:TEXT_PLAIN);
+    return multiServiceClient->post(string `/${tenant}?hub.mode=publish&hub.topic=quota`, request);
+}
+
+@test:Config {
+    groups: ["serviceQuota"]
+}
+function testRateLimitIsAppliedPerService() returns error? {
+    http:Response response = check publishToTenant("tenantA", "first");
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+    response = check publishToTenant("tenantA", "second");
+    test:assertEquals(response.statusCode, http:STATUS_TOO_MANY_REQUESTS);
+    test:assertEquals(check response.getHeader("Retry-After"), "1");
+
+    response = check publishToTenant("tenantB", "third");
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+}
+
+@test:Config {
+    groups: ["serviceQuota"]
+}
+function testPayloadExceedingMemoryBudget() returns error? {
+    http:Response response = check publishToTenant("tenantB", "This content exceeds the memory budget");
+    test:assertEquals(response.statusCode, http:STATUS_PAYLOAD_TOO_LARGE);
+    response = check publishToTenant("tenantB", "Within the budget");
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+}
+
+@test:Config {
+    groups: ["serviceQuota"]
+}
+function testChunkedPayloadWithMemoryBudget() returns error? {
+    http:Client chunkingClient = check new ("http://localhost:9113", http1Settings = {chunking: http:CHUNKING_ALWAYS});
+    http:Request request = new;
+    request.setTextPayload("chunked", mime:TEXT_PLAIN);
+    http:Response response = check chunkingClient->post("/tenantB?hub.mode=publish&hub.topic=quota", request);
+    test:assertEquals(response.statusCode, http:STATUS_LENGTH_REQUIRED);
+}
+
+@test:Config {
+    groups: ["serviceQuota"]
+}
+function testCompressedPayloadChargedByDecodedSize() returns error? {
+    string content = "";
+    foreach int i in 0 ..< 100 {
+        content += "a";
+    }
+    http:Request request = new;
+    request.setBinaryPayload(check compress(content.toBytes()), mime:TEXT_PLAIN);
+    request.setHeader(CONTENT_ENCODING, GZIP);
+    http:Response response = check multiServiceClient->post("/tenantB?hub.mode=publish&hub.topic=quota", request);
+    test:assertEquals(response.statusCode, http:STATUS_PAYLOAD_TOO_LARGE);
+}
+
+@test:Config {
+    groups: ["serviceQuota"]
+}
+function testInvalidQuotaConfiguration() {
+    Error? result = multiServiceListener.attach(invalidQuotaService, "invalid");
+    if result is () {
+        test:assertFail("Service was attached with an invalid quota configuration");
+    }
+    test:assertEquals(result.message(), "Error occurred while attaching the service");
+}
+
+@test:Config {
+    groups: ["serviceQuota"],
+    dependsOn: [testRateLimitIsAppliedPerService, testPayloadExceedingMemoryBudget]
+}
+function testDetachOneOfMultipleServices() returns error? {
+    check multiServiceListener.detach(rateLimitedTenantService);
+    http:Response response = check publishToTenant("tenantA", "detached");
+    test:assertEquals(response.statusCode, http:STATUS_NOT_FOUND);
+    response = check publishToTenant("tenantB", "attached");
+    test:assertEquals(response.statusCode, http:STATUS_OK);
+
+    Error? result = multiServiceListener.detach(rateLimitedTenantService);
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["serviceQuota"]
+}
+isolated function testMalformedContentLengthWithMemoryBudget() returns error? {
+    test:assertEquals(parsePayloadSize("16"), 16);
+    test:assertEquals(parsePayloadSize(()), ());
+    test:assertTrue(parsePayloadSize("abc") is error);
+    test:assertTrue(parsePayloadSize("-1") is error);
+
+    ServiceQuota quota = check new ({maxInFlightBytes: 32});
+    QuotaPermit|http:Response result = quota.acquire(parsePayloadSize("abc"));
+    if result !is http:Response {
+        test:assertFail("Request with a malformed Content-Length header was accepted");
+    }
+    test:assertEquals(result.statusCode, http:STATUS_BAD_REQUEST);
+    test:assertEquals(quota.availableBytes(), 32);
+}
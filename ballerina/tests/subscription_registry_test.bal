@@ -0,0 +1,89 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+isolated function createRegistrySubscription(string topic, string callback) returns Subscription => {
+    hub: "https://hub.com",
+    hubMode: "subscribe",
+    hubCallback: callback,
+    hubTopic: topic
+};
+
+isolated function matchedCallbacks(SubscriptionRegistry registry, string topic) returns string[] {
+    string[] callbacks = from Subscription subscription in registry.match(topic)
+        order by subscription.hubCallback
+        select subscription.hubCallback;
+    return callbacks;
+}
+
+@test:Config {
+    groups: ["subscriptionRegistry"]
+}
+isolated function testSubscriptionRegistryMatching() returns error? {
+    SubscriptionRegistry registry = new;
+    check registry.add(createRegistrySubscription("orders/eu/created", "https://exact.com"));
+    check registry.add(createRegistrySubscription("orders/*/created", "https://single.com"));
+    check registry.add(createRegistrySubscription("orders/#", "https://multi.com"));
+    check registry.add(createRegistrySubscription("#", "https://all.com"));
+    check registry.add(createRegistrySubscription("payments/*", "https://payments.com"));
+    test:assertEquals(registry.size(), 5);
+
+    test:assertEquals(matchedCallbacks(registry, "orders/eu/created"),
+        ["https://all.com", "https://exact.com", "https://multi.com", "https://single.com"]);
+    test:assertEquals(matchedCallbacks(registry, "orders/us/created"),
+        ["https://all.com", "https://multi.com", "https://single.com"]);
+    test:assertEquals(matchedCallbacks(registry, "orders"), ["https://all.com", "https://multi.com"]);
+    test:assertEquals(matchedCallbacks(registry, "orders/eu/created/v2"), ["https://all.com", "https://multi.com"]);
+    test:assertEquals(matchedCallbacks(registry, "payments/eu"), ["https://all.com", "https://payments.com"]);
+    test:assertEquals(matchedCallbacks(registry, "payments"), ["https://all.com"]);
+}
+
+@test:Config {
+    groups: ["subscriptionRegistry"]
+}
+isolated function testSubscriptionRegistryRemoval() returns error? {
+    SubscriptionRegistry registry = new;
+    check registry.add(createRegistrySubscription("orders/*/created", "https://first.com"));
+    check registry.add(createRegistrySubscription("orders/*/created", "https://second.com"));
+    check registry.add(createRegistrySubscription("orders/*/created", "https://second.com"));
+    test:assertEquals(registry.size(), 2);
+
+    test:assertTrue(registry.remove("orders/*/created", "https://first.com"));
+    test:assertFalse(registry.remove("orders/*/created", "https://first.com"));
+    test:assertFalse(registry.remove("orders/eu/created", "https://second.com"));
+    test:assertEquals(matchedCallbacks(registry, "orders/eu/created"), ["https://second.com"]);
+    test:assertTrue(registry.remove("orders/*/created", "https://second.com"));
+    test:assertEquals(registry.size(), 0);
+    test:assertEquals(registry.match("orders/eu/created").length(), 0);
+}
+
+@test:Config {
+    groups: ["subscriptionRegistry"]
+}
+isolated function testTopicPatternValidation() {
+    test:assertEquals(validateTopicPattern("orders/*/created"), ());
+    test:assertEquals(validateTopicPattern("orders/#"), ());
+    test:assertEquals(validateTopicPattern("https://topic.com/orders"), ());
+    test:assertTrue(validateTopicPattern("") is Error);
+    test:assertTrue(validateTopicPattern("orders/#/created") is Error);
+    test:assertTrue(validateTopicPattern("orders/eu*/created") is Error);
+    test:assertTrue(validateTopicPattern("https://topic.com#fragment") is Error);
+
+    SubscriptionRegistry registry = new;
+    test:assertTrue(registry.add(createRegistrySubscription("orders/#/created", "https://first.com")) is Error);
+    test:assertEquals(registry.size(), 0);
+}
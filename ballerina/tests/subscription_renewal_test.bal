@@ -0,0 +1,231 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+const RENEWAL_CALLBACK = "http://localhost:9119/subscriber";
+const UNSUBSCRIBED_RENEWAL_CALLBACK = "http://localhost:9119/subscriber/unsubscribed";
+
+isolated class RenewalCounters {
+    private int subscriptions = 0;
+    private int verifiedSubscriptions = 0;
+
+    isolated function onSubscription() {
+        lock {
+            self.subscriptions += 1;
+        }
+    }
+
+    isolated function onSubscriptionIntentVerified() {
+        lock {
+            self.verifiedSubscriptions += 1;
+        }
+    }
+
+    isolated function get() returns [int, int] {
+        lock {
+            return [self.subscriptions, self.verifiedSubscriptions];
+        }
+    }
+}
+
+final RenewalCounters trustedRenewalCounters = new;
+final RenewalCounters verifiedRenewalCounters = new;
+isolated int renewalChallengeCount = 0;
+
+listener Listener renewalListener = new (9118);
+listener http:Listener renewalSubscriberListener = check new (9119);
+
+http:Client renewalClient = check new ("http://localhost:9118");
+
+service /subscriber on renewalSubscriberListener {
+    isolated resource function get [string... path](http:Request request) returns string {
+        lock {
+            renewalChallengeCount += 1;
+        }
+        return request.getQueryParamValue(HUB_CHALLENGE) ?: "";
+    }
+
+    isolated resource function post .() returns http:Accepted {
+        return http:ACCEPTED;
+    }
+}
+
+Service trustedRenewalService = @ServiceConfig {
+    renewal: {
+        trustWindow: 3600
+    }
+}
+service object {
+    isolated remote function onRegisterTopic(TopicRegistration message) returns TopicRegistrationError {
+        return TOPIC_REGISTRATION_ERROR;
+    }
+
+    isolated remote function onDeregisterTopic(TopicDeregistration message) returns TopicDeregistrationError {
+        return TOPIC_DEREGISTRATION_ERROR;
+    }
+
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns UpdateMessageError {
+        return UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscription(Subscription msg) returns SubscriptionAccepted {
+        trustedRenewalCounters.onSubscription();
+        return SUBSCRIPTION_ACCEPTED;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(VerifiedSubscription msg) {
+        trustedRenewalCounters.onSubscriptionIntentVerified();
+    }
+
+    isolated remote function onUnsubscriptionIntentVerified(VerifiedUnsubscription msg) {}
+};
+
+Service verifiedRenewalService = @ServiceConfig {
+    renewal: {
+        trustWindow: 0
+    }
+}
+service object {
+    isolated remote function onRegisterTopic(TopicRegistration message) returns TopicRegistrationError {
+        return TOPIC_REGISTRATION_ERROR;
+    }
+
+    isolated remote function onDeregisterTopic(TopicDeregistration message) returns TopicDeregistrationError {
+        return TOPIC_DEREGISTRATION_ERROR;
+    }
+
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns UpdateMessageError {
+        return UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscription(Subscription msg) returns SubscriptionAccepted {
+        verifiedRenewalCounters.onSubscription();
+        return SUBSCRIPTION_ACCEPTED;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(VerifiedSubscription msg) {
+        verifiedRenewalCounters.onSubscriptionIntentVerified();
+    }
+
+    isolated remote function onUnsubscriptionIntentVerified(VerifiedUnsubscription msg) {}
+};
+
+@test:BeforeGroups { value: ["subscriptionRenewal"] }
+function beforeSubscriptionRenewalTest() returns error? {
+    check renewalListener.attach(trustedRenewalService, "trusted");
+    check renewalListener.attach(verifiedRenewalService, "verified");
+}
+
+@test:AfterGroups { value: ["subscriptionRenewal"] }
+function afterSubscriptionRenewalTest() returns error? {
+    check renewalListener.gracefulStop();
+}
+
+isolated function retrieveRenewalChallengeCount() returns int {
+    lock {
+        return renewalChallengeCount;
+    }
+}
+
+function sendRenewalSubscription(string path, string? secret, string callback = RENEWAL_CALLBACK) returns error? {
+    http:Request request = new;
+    string secretParam = secret is string ? string `&hub.secret=${secret}` : "";
+    request.setTextPayload(string `hub.mode=subscribe&hub.topic=renewalTopic&hub.callback=${callback}` +
+        string `${secretParam}&hub.lease_seconds=3600`, "application/x-www-form-urlencoded");
+    http:Response response = check renewalClient->post(path, request);
+    test:assertEquals(response.statusCode, 202);
+    runtime:sleep(1);
+}
+
+@test:Config {
+    groups: ["subscriptionRenewal"]
+}
+function testSubscriptionRenewalWithinTrustWindow() returns error? {
+    int challengeCount = retrieveRenewalChallengeCount();
+    check sendRenewalSubscription("/trusted", "secret1");
+    test:assertEquals(trustedRenewalCounters.get(), [1, 1]);
+    test:assertEquals(retrieveRenewalChallengeCount(), challengeCount + 1);
+
+    check sendRenewalSubscription("/trusted", "secret1");
+    test:assertEquals(trustedRenewalCounters.get(), [1, 2]);
+    test:assertEquals(retrieveRenewalChallengeCount(), challengeCount + 1);
+
+    // a re-subscription with a different secret goes through the complete subscription flow
+    check sendRenewalSubscription("/trusted", "secret2");
+    test:assertEquals(trustedRenewalCounters.get(), [2, 3]);
+    test:assertEquals(retrieveRenewalChallengeCount(), challengeCount + 2);
+}
+
+@test:Config {
+    groups: ["subscriptionRenewal"],
+    dependsOn: [testSubscriptionRenewalWithinTrustWindow]
+}
+function testSubscriptionRenewalBeyondTrustWindow() returns error? {
+    int challengeCount = retrieveRenewalChallengeCount();
+    check sendRenewalSubscription("/verified", "secret1");
+    test:assertEquals(verifiedRenewalCounters.get(), [1, 1]);
+    test:assertEquals(retrieveRenewalChallengeCount(), challengeCount + 1);
+
+    check sendRenewalSubscription("/verified", "secret1");
+    test:assertEquals(verifiedRenewalCounters.get(), [1, 2]);
+    test:assertEquals(retrieveRenewalChallengeCount(), challengeCount + 2);
+}
+
+@test:Config {
+    groups: ["subscriptionRenewal"],
+    dependsOn: [testSubscriptionRenewalBeyondTrustWindow]
+}
+function testSubscriptionWithoutSecretIsNotRenewed() returns error? {
+    [int, int] [subscriptions, verifiedSubscriptions] = trustedRenewalCounters.get();
+    check sendRenewalSubscription("/trusted", ());
+    check sendRenewalSubscription("/trusted", ());
+    test:assertEquals(trustedRenewalCounters.get(), [subscriptions + 2, verifiedSubscriptions + 2]);
+}
+
+@test:Config {
+    groups: ["subscriptionRenewal"],
+    dependsOn: [testSubscriptionWithoutSecretIsNotRenewed]
+}
+function testUnsubscribedSubscriptionIsNotRenewed() returns error? {
+    [int, int] [subscriptions, verifiedSubscriptions] = trustedRenewalCounters.get();
+    check sendRenewalSubscription("/trusted", "secret1", UNSUBSCRIBED_RENEWAL_CALLBACK);
+    test:assertEquals(trustedRenewalCounters.get(), [subscriptions + 1, verifiedSubscriptions + 1]);
+
+    http:Request request = new;
+    request.setTextPayload(string `hub.mode=unsubscribe&hub.topic=renewalTopic` +
+        string `&hub.callback=${UNSUBSCRIBED_RENEWAL_CALLBACK}`, "application/x-www-form-urlencoded");
+    http:Response response = check renewalClient->post("/trusted", request);
+    test:assertEquals(response.statusCode, 202);
+    runtime:sleep(1);
+
+    // the verified unsubscription removes the retained subscription
+    check sendRenewalSubscription("/trusted", "secret1", UNSUBSCRIBED_RENEWAL_CALLBACK);
+    test:assertEquals(trustedRenewalCounters.get(), [subscriptions + 2, verifiedSubscriptions + 2]);
+}
+
+@test:Config {
+    groups: ["subscriptionRenewal"]
+}
+isolated function testSecretComparison() {
+    test:assertTrue(isEqualSecret("secret1", "secret1"));
+    test:assertFalse(isEqualSecret("secret1", "secret2"));
+    test:assertFalse(isEqualSecret("secret1", "secret"));
+    test:assertFalse(isEqualSecret("secret", "secret1"));
+    test:assertTrue(isEqualSecret("", ""));
+}
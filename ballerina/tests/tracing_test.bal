@@ -0,0 +1,197 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/file;
+import ballerina/http;
+import ballerina/io;
+import ballerina/test;
+
+const TRACING_HUB = "http://localhost:9114/websubhub";
+
+isolated class InMemorySpanExporter {
+    *SpanExporter;
+
+    private Span[] spans = [];
+
+    public isolated function export(Span span) returns error? {
+        lock {
+            self.spans.push(span);
+        }
+    }
+
+    isolated function getSpan(string name) returns Span? {
+        lock {
+            foreach Span span in self.spans {
+                if span.name == name {
+                    return span;
+                }
+            }
+            return;
+        }
+    }
+
+    isolated function getCount() returns int {
+        lock {
+            return self.spans.length();
+        }
+    }
+
+    isolated function clear() {
+        lock {
+            self.spans.removeAll();
+        }
+    }
+}
+
+final InMemorySpanExporter inMemorySpanExporter = new;
+
+isolated string? receivedTraceparent = ();
+
+listener Listener tracingListener = new (9114);
+listener http:Listener tracingSubscriberListener = check new (9115);
+
+service /subscriber on tracingSubscriberListener {
+    isolated resource function post .(http:Request request) returns http:Accepted {
+        string|http:HeaderNotFoundError traceparent = request.getHeader(TRACEPARENT);
+        lock {
+            receivedTraceparent = traceparent is string ? traceparent : ();
+        }
+        return http:ACCEPTED;
+    }
+}
+
+Service tracingHubService = @ServiceConfig {
+    tracing: {
+        samplingRate: 1
+    }
+}
+service object {
+    isolated remote function onUpdateMessage(UpdateMessage msg) returns Acknowledgement|error {
+        HubClient hubClient = check new ({
+            hub: TRACING_HUB,
+            hubMode: MODE_SUBSCRIBE,
+            hubCallback: "http://localhost:9115/subscriber",
+            hubTopic: msg.hubTopic
+        }, tracing = {samplingRate: 0});
+        _ = check hubClient->notifyContentDistribution({content: "Traced content", traceContext: msg?.traceContext});
+        return ACKNOWLEDGEMENT;
+    }
+};
+
+@test:BeforeGroups { value:["tracing"] }
+function beforeTracingTest() returns error? {
+    setSpanExporter(inMemorySpanExporter);
+    check tracingListener.attach(tracingHubService, "websubhub");
+}
+
+@test:AfterGroups { value:["tracing"] }
+function afterTracingTest() returns error? {
+    setSpanExporter(new FileSpanExporter());
+    check tracingListener.gracefulStop();
+}
+
+isolated function retrieveReceivedTraceparent() returns string? {
+    lock {
+        return receivedTraceparent;
+    }
+}
+
+@test:Config {
+    groups: ["tracing"]
+}
+function testTracePropagationFromPublisherToSubscriber() returns error? {
+    inMemorySpanExporter.clear();
+    PublisherClient publisher = check new (TRACING_HUB, tracing = {samplingRate: 1});
+    _ = check publisher->publishUpdate("tracing", "This is a sample content");
+
+    Span? publishSpan = inMemorySpanExporter.getSpan(SPAN_PUBLISH);
+    Span? hubPublishSpan = inMemorySpanExporter.getSpan(SPAN_HUB_PUBLISH);
+    Span? deliverySpan = inMemorySpanExporter.getSpan(SPAN_DELIVERY);
+    if publishSpan is () || hubPublishSpan is () || deliverySpan is () {
+        test:assertFail("Spans of the publish and the delivery are not recorded");
+    }
+    test:assertEquals(publishSpan.parentSpanId, ());
+    test:assertEquals(hubPublishSpan.traceId, publishSpan.traceId);
+    test:assertEquals(hubPublishSpan.parentSpanId, publishSpan.spanId);
+    test:assertEquals(deliverySpan.traceId, publishSpan.traceId);
+    test:assertEquals(deliverySpan.parentSpanId, hubPublishSpan.spanId);
+    test:assertEquals(deliverySpan.attributes["statusCode"], "202");
+    test:assertEquals(retrieveReceivedTraceparent(),
+        string `00-${deliverySpan.traceId}-${deliverySpan.spanId}-01`);
+}
+
+@test:Config {
+    groups: ["tracing"],
+    dependsOn: [testTracePropagationFromPublisherToSubscriber]
+}
+function testUnsampledTraceIsPropagatedWithoutSpans() returns error? {
+    inMemorySpanExporter.clear();
+    PublisherClient publisher = check new (TRACING_HUB, tracing = {samplingRate: 0});
+    _ = check publisher->publishUpdate("tracing", "This is a sample content");
+
+    test:assertEquals(inMemorySpanExporter.getCount(), 0);
+    string? traceparent = retrieveReceivedTraceparent();
+    test:assertTrue(traceparent is string && traceparent.endsWith("-00"));
+}
+
+@test:Config {
+    groups: ["tracing"]
+}
+isolated function testTraceparentParsing() {
+    TraceContext? context = parseTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+    test:assertEquals(context,
+        {traceId: "4bf92f3577b34da6a3ce929d0e0e4736", spanId: "00f067aa0ba902b7", sampled: true});
+    if context is TraceContext {
+        test:assertEquals(formatTraceparent(context), "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+    }
+    test:assertEquals(parseTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00")?.sampled, false);
+    test:assertEquals(parseTraceparent("00-00000000000000000000000000000000-00f067aa0ba902b7-01"), ());
+    test:assertEquals(parseTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7"), ());
+    test:assertEquals(parseTraceparent("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"), ());
+    test:assertEquals(parseTraceparent("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"), ());
+}
+
+@test:Config {
+    groups: ["tracing"]
+}
+isolated function testTraceIdRatioSampling() {
+    test:assertTrue(isSampled("00000000000000000000000000000001", 0.5));
+    test:assertFalse(isSampled("ffffffff000000000000000000000001", 0.5));
+    test:assertFalse(isSampled(createTraceId(), 0));
+    test:assertTrue(isSampled(createTraceId(), 1));
+}
+
+@test:Config {
+    groups: ["tracing"]
+}
+function testFileSpanExporter() returns error? {
+    string path = check file:createTemp(suffix = ".jsonl");
+    FileSpanExporter exporter = new (path);
+    Span span = {
+        traceId: createTraceId(),
+        spanId: createSpanId(),
+        parentSpanId: (),
+        name: SPAN_DELIVERY,
+        startTime: "2026-01-01T00:00:00Z",
+        duration: 0.5,
+        attributes: {topic: "tracing"}
+    };
+    check exporter.export(span);
+    string[] lines = check io:fileReadLines(path);
+    Span exported = check lines[lines.length() - 1].fromJsonStringWithType();
+    test:assertEquals(exported, span);
+}
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/crypto;
 import ballerina/test;
 import ballerina/mime;
 import ballerina/http;
@@ -269,6 +270,31 @@ isolated function testByteArrayContentSignature() returns error? {
     test:assertEquals("d66181d67f963fff2dde0b0a4ca50ac1a6bc5828dd32eabaf0d5049f6fe8b5ff", hashedContent.toBase16());
 }
 
+@test:Config { 
+    groups: ["contentSignature"]
+}
+isolated function testSha512ContentSignature() returns error? {
+    byte[] content = "This is sample content delivery".toBytes();
+    byte[] hashedContent = check generateSignature(HASH_KEY, content, HMAC_SHA512);
+    test:assertEquals(hashedContent, check crypto:hmacSha512(content, HASH_KEY.toBytes()));
+    // signing again with the same key reuses the pooled instance, which should be reset after each signature
+    test:assertEquals(check generateSignature(HASH_KEY, content, HMAC_SHA512), hashedContent);
+}
+
+@test:Config { 
+    groups: ["contentSignature"]
+}
+isolated function testSignatureAlgorithmSubscriptionParam() returns error? {
+    Subscription subscription = check createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.signature_algorithm": "sha512"
+    });
+    test:assertEquals(check getSignatureAlgorithm(subscription), HMAC_SHA512);
+    Subscription|error invalid = createSubscriptionMessage("https://hub.com", 3600, {
+        "hub.topic": "test-topic", "hub.callback": "https://callback.com", "hub.signature_algorithm": "md5"
+    });
+    test:assertTrue(invalid is Error);
+}
+
 http:Client headerRetrievalTestingClient = check new ("http://localhost:9191/subscriber");
 
 @test:Config { 
@@ -502,3 +528,38 @@ isolated function testSendNotificationWithQueyParamInCallback() returns error? {
     string payload = check res.getTextPayload();
     test:assertEquals(payload, "BaseKey=baseVal/Key1=val1/Key2=val2");
 }
+
+@test:Config { 
+    groups: ["hubResponse"]
+}
+isolated function testCannedSuccessResponse() returns error? {
+    http:Response response = new;
+    updateSuccessResponse(response, http:STATUS_ACCEPTED, (), ());
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(response.getContentType(), mime:APPLICATION_FORM_URLENCODED);
+    test:assertEquals(check response.getTextPayload(), generateResponsePayload(MODE_ACCEPTED, (), ()));
+}
+
+@test:Config { 
+    groups: ["hubResponse"]
+}
+isolated function testCannedStockErrorResponse() returns error? {
+    http:Response response = new;
+    updateErrorResponse(response, SUBSCRIPTION_DENIED_ERROR.detail(), SUBSCRIPTION_DENIED_ERROR.message());
+    test:assertEquals(response.statusCode, http:STATUS_NOT_ACCEPTABLE);
+    test:assertEquals(check response.getTextPayload(), "hub.mode=denied&hub.reason=Subscription denied");
+}
+
+@test:Config { 
+    groups: ["hubResponse"]
+}
+isolated function testGeneratedResponseWithCustomBodyAndHeaders() returns error? {
+    http:Response response = new;
+    updateSuccessResponse(response, http:STATUS_ACCEPTED, {"key1": "val1"}, {"x-custom": "custom-value"});
+    test:assertEquals(check response.getTextPayload(), "hub.mode=accepted&key1=val1");
+    test:assertEquals(check response.getHeader("x-custom"), "custom-value");
+
+    http:Response errorResponse = new;
+    updateErrorResponse(errorResponse, {statusCode: http:STATUS_BAD_REQUEST}, "Custom failure");
+    test:assertEquals(check errorResponse.getTextPayload(), "hub.mode=denied&hub.reason=Custom failure");
+}
@@ -17,11 +17,15 @@
 import ballerina/http;
 
 isolated function processTopicRegistration(http:Headers headers, map<string> params, 
-                                           HttpToWebsubhubAdaptor adaptor) returns http:Response|error {
+                                           HttpToWebsubhubAdaptor adaptor, map<string> remoteOwners = {})
+                                           returns http:Response|error {
+    if params.hasKey(HUB_TOPICS) {
+        return processBulkTopicRegistration(headers, params, adaptor, remoteOwners);
+    }
     string topic = check retrieveQueryParameter(params, HUB_TOPIC);
-    TopicRegistration msg = {
-        topic: topic
-    };
+    TopicRegistration msg = createTopicRegistration(topic, params);
+    _ = check getConflationPolicy(msg);
+    _ = check getSchedulingPolicy(msg);
     TopicRegistrationSuccess|error result = adaptor.callRegisterMethod(msg, headers);
     http:Response response = new;
     if result is TopicRegistrationSuccess {
@@ -33,8 +37,31 @@ isolated function processTopicRegistration(http:Headers headers, map<string> par
     return response;
 }
 
+# Creates the topic registration for the given topic, carrying the additional parameters of the request
+# (e.g. `hub.conflation`, `hub.weight`) as its attributes. The `hub.mode`, `hub.topic` and `hub.topics`
+# parameters are not carried, since they are already represented by the record itself.
+#
+# + topic - Topic which should be registered
+# + params - Parameters of the topic registration request
+# + return - The `websubhub:TopicRegistration` for the topic
+isolated function createTopicRegistration(string topic, map<string> params) returns TopicRegistration {
+    TopicRegistration msg = {
+        topic: topic
+    };
+    foreach var ['key, value] in params.entries() {
+        if 'key != HUB_MODE && 'key != HUB_TOPIC && 'key != HUB_TOPICS {
+            msg['key] = value;
+        }
+    }
+    return msg;
+}
+
 isolated function processTopicDeregistration(http:Headers headers, map<string> params, 
-                                             HttpToWebsubhubAdaptor adaptor) returns http:Response|error {
+                                             HttpToWebsubhubAdaptor adaptor, map<string> remoteOwners = {})
+                                             returns http:Response|error {
+    if params.hasKey(HUB_TOPICS) {
+        return processBulkTopicDeregistration(headers, params, adaptor, remoteOwners);
+    }
     string topic = check retrieveQueryParameter(params, HUB_TOPIC);
     TopicDeregistration msg = {
         topic: topic
@@ -49,3 +76,115 @@ isolated function processTopicDeregistration(http:Headers headers, map<string> p
     }
     return response;
 }
+
+# Per-topic result of a bulk topic registration or deregistration, which is sent to the publisher as JSON.
+type BulkTopicResult record {|
+    string topic;
+    int statusCode;
+    string mode;
+    string reason?;
+|};
+
+isolated function processBulkTopicRegistration(http:Headers headers, map<string> params,
+                                               HttpToWebsubhubAdaptor adaptor, map<string> remoteOwners = {})
+                                               returns http:Response|error {
+    string[] topics = check retrieveBulkTopics(params);
+    TopicRegistration[] messages = [];
+    foreach string topic in topics {
+        TopicRegistration msg = createTopicRegistration(topic, params);
+        _ = check getConflationPolicy(msg);
+        _ = check getSchedulingPolicy(msg);
+        messages.push(msg);
+    }
+    // the topics owned by other nodes of the cluster are not dispatched, since they should be registered at their owner
+    TopicRegistration[] localMessages = from TopicRegistration msg in messages
+        where !remoteOwners.hasKey(msg.topic)
+        select msg;
+    (TopicRegistrationSuccess|error)[] results;
+    if localMessages.length() == 0 {
+        results = [];
+    } else if adaptor.getServiceMethodNames().indexOf("onRegisterTopics") is int {
+        (TopicRegistrationSuccess|TopicRegistrationError)[]|error batchResults =
+            adaptor.callRegisterTopicsMethod(localMessages, headers);
+        if batchResults !is error && batchResults.length() == localMessages.length() {
+            results = batchResults;
+        } else {
+            // an `error` returned from the remote method is considered as the result of every topic
+            error batchError = batchResults is error ? batchResults
+                : error(string `onRegisterTopics returned ${batchResults.length()} results for ` +
+                    string `${localMessages.length()} topics`);
+            results = from TopicRegistration _ in localMessages select batchError;
+        }
+    } else {
+        results = from TopicRegistration msg in localMessages select adaptor.callRegisterMethod(msg, headers);
+    }
+    return createBulkTopicResponse(
+        toBulkTopicResults(topics, remoteOwners, results, TOPIC_REGISTRATION_ERROR.detail()));
+}
+
+isolated function processBulkTopicDeregistration(http:Headers headers, map<string> params,
+                                                 HttpToWebsubhubAdaptor adaptor, map<string> remoteOwners = {})
+                                                 returns http:Response|error {
+    string[] topics = check retrieveBulkTopics(params);
+    TopicDeregistration[] messages = from string topic in topics
+        where !remoteOwners.hasKey(topic)
+        select {topic: topic};
+    (TopicDeregistrationSuccess|error)[] results;
+    if messages.length() == 0 {
+        results = [];
+    } else if adaptor.getServiceMethodNames().indexOf("onDeregisterTopics") is int {
+        (TopicDeregistrationSuccess|TopicDeregistrationError)[]|error batchResults =
+            adaptor.callDeregisterTopicsMethod(messages, headers);
+        if batchResults !is error && batchResults.length() == messages.length() {
+            results = batchResults;
+        } else {
+            error batchError = batchResults is error ? batchResults
+                : error(string `onDeregisterTopics returned ${batchResults.length()} results for ` +
+                    string `${messages.length()} topics`);
+            results = from TopicDeregistration _ in messages select batchError;
+        }
+    } else {
+        results = from TopicDeregistration msg in messages select adaptor.callDeregisterMethod(msg, headers);
+    }
+    return createBulkTopicResponse(
+        toBulkTopicResults(topics, remoteOwners, results, TOPIC_DEREGISTRATION_ERROR.detail()));
+}
+
+isolated function toBulkTopicResults(string[] topics, map<string> remoteOwners,
+                                     (TopicRegistrationSuccess|TopicDeregistrationSuccess|error)[] localResults,
+                                     CommonResponse defaultErrorDetails) returns BulkTopicResult[] {
+    BulkTopicResult[] bulkResults = [];
+    int localIndex = 0;
+    foreach string topic in topics {
+        string? owner = remoteOwners[topic];
+        if owner is string {
+            bulkResults.push({
+                topic,
+                statusCode: http:STATUS_TEMPORARY_REDIRECT,
+                mode: MODE_DENIED,
+                reason: string `Topic is owned by the hub node ${owner}`
+            });
+        } else {
+            bulkResults.push(toBulkTopicResult(topic, localResults[localIndex], defaultErrorDetails));
+            localIndex += 1;
+        }
+    }
+    return bulkResults;
+}
+
+isolated function toBulkTopicResult(string topic, TopicRegistrationSuccess|TopicDeregistrationSuccess|error result,
+                                    CommonResponse defaultErrorDetails) returns BulkTopicResult {
+    if result is TopicRegistrationSuccess|TopicDeregistrationSuccess {
+        return {topic, statusCode: result.statusCode, mode: MODE_ACCEPTED};
+    }
+    int statusCode = result is TopicRegistrationError|TopicDeregistrationError
+        ? result.detail().statusCode : defaultErrorDetails.statusCode;
+    return {topic, statusCode, mode: MODE_DENIED, reason: result.message()};
+}
+
+isolated function createBulkTopicResponse(BulkTopicResult[] results) returns http:Response {
+    http:Response response = new;
+    response.statusCode = http:STATUS_OK;
+    response.setJsonPayload(results.toJson());
+    return response;
+}
@@ -0,0 +1,220 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/http;
+import ballerina/io;
+import ballerina/log;
+import ballerina/time;
+import ballerina/uuid;
+
+const string TRACEPARENT = "traceparent";
+const string TRACEPARENT_VERSION = "00";
+const string INVALID_TRACE_ID = "00000000000000000000000000000000";
+const string INVALID_SPAN_ID = "0000000000000000";
+const decimal SAMPLING_BUCKETS = 4294967296;
+const DEFAULT_SPAN_FILE = "websubhub-spans.jsonl";
+
+const string SPAN_PUBLISH = "websubhub.publish";
+const string SPAN_HUB_PUBLISH = "websubhub.hub.publish";
+const string SPAN_DELIVERY = "websubhub.delivery";
+
+# Configuration to record the spans of the content publishing and the content delivery. The trace context is
+# propagated with the W3C `traceparent` header, and the sampling decision of an incoming trace context is honoured.
+#
+# + samplingRate - Ratio of the new traces to be sampled, which is a value between `0` and `1`
+public type TracingConfiguration record {|
+    decimal samplingRate = 0.01;
+|};
+
+# Represents a W3C trace context.
+#
+# + traceId - The 32-character lowercase hex trace ID
+# + spanId - The 16-character lowercase hex ID of the current span
+# + sampled - Whether the trace is sampled
+public type TraceContext readonly & record {|
+    string traceId;
+    string spanId;
+    boolean sampled;
+|};
+
+# Represents a completed span.
+#
+# + traceId - The ID of the trace to which the span belongs
+# + spanId - The ID of the span
+# + parentSpanId - The ID of the parent span or else `()` if the span is the root of the trace
+# + name - The name of the span
+# + startTime - The start time of the span in RFC 3339 format
+# + duration - The duration of the span in seconds
+# + attributes - The attributes of the span
+public type Span readonly & record {|
+    string traceId;
+    string spanId;
+    string? parentSpanId;
+    string name;
+    string startTime;
+    decimal duration;
+    map<string> attributes;
+|};
+
+# Exports the sampled spans.
+public type SpanExporter isolated object {
+
+    # Exports a span.
+    #
+    # + span - The span to be exported
+    # + return - An `error` if the span could not be exported or else `()`
+    public isolated function export(Span span) returns error?;
+};
+
+# Span exporter, which appends the spans to a local file as JSON lines.
+public isolated class FileSpanExporter {
+    *SpanExporter;
+
+    private final string path;
+
+    # Initializes the `websubhub:FileSpanExporter`.
+    # ```ballerina
+    # websubhub:FileSpanExporter exporter = new ("spans.jsonl");
+    # ```
+    #
+    # + path - The path of the file to which the spans are appended
+    public isolated function init(string path = DEFAULT_SPAN_FILE) {
+        self.path = path;
+    }
+
+    # Appends a span to the file.
+    #
+    # + span - The span to be exported
+    # + return - An `error` if the span could not be written or else `()`
+    public isolated function export(Span span) returns error? {
+        lock {
+            return io:fileWriteString(self.path, span.toJsonString() + "\n", io:APPEND);
+        }
+    }
+}
+
+isolated SpanExporter spanExporter = new FileSpanExporter();
+
+# Replaces the exporter of the sampled spans. The spans are appended to the `websubhub-spans.jsonl` file by default.
+# ```ballerina
+# websubhub:setSpanExporter(new websubhub:FileSpanExporter("/var/log/hub/spans.jsonl"));
+# ```
+#
+# + exporter - The `websubhub:SpanExporter` to be used
+public isolated function setSpanExporter(SpanExporter exporter) {
+    lock {
+        spanExporter = exporter;
+    }
+}
+
+type SpanScope record {|
+    string name;
+    TraceContext context;
+    string? parentSpanId;
+    time:Utc? startTime;
+    decimal startedAt;
+|};
+
+isolated class Tracer {
+    private final decimal samplingRate;
+
+    isolated function init(TracingConfiguration config) returns Error? {
+        if config.samplingRate < 0d || config.samplingRate > 1d {
+            return error Error("Sampling rate should be a value between 0 and 1", statusCode = TRACING_ERROR);
+        }
+        self.samplingRate = config.samplingRate;
+    }
+
+    isolated function startSpan(string name, TraceContext? parent = ()) returns SpanScope {
+        string traceId = parent is TraceContext ? parent.traceId : createTraceId();
+        boolean sampled = parent is TraceContext ? parent.sampled : isSampled(traceId, self.samplingRate);
+        return {
+            name,
+            context: {traceId, spanId: createSpanId(), sampled},
+            parentSpanId: parent?.spanId,
+            startTime: sampled ? time:utcNow() : (),
+            startedAt: time:monotonicNow()
+        };
+    }
+
+    isolated function endSpan(SpanScope scope, map<string> attributes) {
+        time:Utc? startTime = scope.startTime;
+        if startTime is () {
+            return;
+        }
+        Span span = {
+            traceId: scope.context.traceId,
+            spanId: scope.context.spanId,
+            parentSpanId: scope.parentSpanId,
+            name: scope.name,
+            startTime: time:utcToString(startTime),
+            duration: time:monotonicNow() - scope.startedAt,
+            attributes: attributes.cloneReadOnly()
+        };
+        SpanExporter exporter;
+        lock {
+            exporter = spanExporter;
+        }
+        error? result = exporter.export(span);
+        if result is error {
+            log:printError("Error occurred while exporting the span", 'error = result);
+        }
+    }
+}
+
+isolated function createTracer(TracingConfiguration? config) returns Tracer?|Error {
+    return config is () ? () : new Tracer(config);
+}
+
+isolated function retrieveTraceContext(http:Headers headers) returns TraceContext? {
+    string|http:HeaderNotFoundError traceparent = headers.getHeader(TRACEPARENT);
+    return traceparent is string ? parseTraceparent(traceparent) : ();
+}
+
+isolated function parseTraceparent(string traceparent) returns TraceContext? {
+    string[] fields = re `-`.split(traceparent.trim());
+    if fields.length() < 4 || fields[0] == "ff" || (fields[0] == TRACEPARENT_VERSION && fields.length() != 4) {
+        return;
+    }
+    string traceId = fields[1];
+    string spanId = fields[2];
+    if !re `[0-9a-f]{2}`.isFullMatch(fields[0]) || !re `[0-9a-f]{32}`.isFullMatch(traceId)
+        || !re `[0-9a-f]{16}`.isFullMatch(spanId) || !re `[0-9a-f]{2}`.isFullMatch(fields[3])
+        || traceId == INVALID_TRACE_ID || spanId == INVALID_SPAN_ID {
+        return;
+    }
+    int|error flags = int:fromHexString(fields[3]);
+    return flags is int ? {traceId, spanId, sampled: (flags & 1) == 1} : ();
+}
+
+isolated function formatTraceparent(TraceContext context) returns string {
+    return string `${TRACEPARENT_VERSION}-${context.traceId}-${context.spanId}-${context.sampled ? "01" : "00"}`;
+}
+
+isolated function createTraceId() returns string {
+    return re `-`.replaceAll(uuid:createType4AsString(), "");
+}
+
+isolated function createSpanId() returns string {
+    return createTraceId().substring(0, 16);
+}
+
+// the sampling decision is derived from the trace ID, hence it is consistent for the same trace
+isolated function isSampled(string traceId, decimal samplingRate) returns boolean {
+    int|error bucket = int:fromHexString(traceId.substring(0, 8));
+    return bucket is int && <decimal>bucket / SAMPLING_BUCKETS < samplingRate;
+}
@@ -72,11 +72,20 @@ isolated function updateSuccessResponse(http:Response httpResponse, int statusCo
     updateHubResponse(httpResponse, MODE_ACCEPTED, messageBody, headers);
 }
 
+// payloads of the responses without a custom body, for the accepted mode and the stock errors
+final readonly & map<byte[]> CANNED_RESPONSE_PAYLOADS = createCannedResponsePayloads();
+
 isolated function updateHubResponse(http:Response response, string hubMode, 
                                     anydata? messageBody, map<string|string[]>? headers, 
                                     string? reason = ()) {
-    string payload = generateResponsePayload(hubMode, messageBody, reason);
-    response.setTextPayload(payload, mime:APPLICATION_FORM_URLENCODED);
+    byte[]? cannedPayload = hasResponseBody(messageBody) ? ()
+        : CANNED_RESPONSE_PAYLOADS[getCannedResponseKey(hubMode, reason)];
+    if cannedPayload is byte[] {
+        response.setBinaryPayload(cannedPayload, mime:APPLICATION_FORM_URLENCODED);
+    } else {
+        string payload = generateResponsePayload(hubMode, messageBody, reason);
+        response.setTextPayload(payload, mime:APPLICATION_FORM_URLENCODED);
+    }
     if headers is map<string|string[]> {
         foreach var [header, value] in headers.entries() {
             if value is string {
@@ -93,12 +102,37 @@ isolated function updateHubResponse(http:Response response, string hubMode,
 isolated function generateResponsePayload(string hubMode, anydata? messageBody, string? reason) returns string {
     string payload = string `${HUB_MODE}=${hubMode}`;
     payload += reason is string ? string `&${HUB_REASON}=${reason}` : "";
-    if messageBody is map<string> && messageBody.length() > 0 {
+    if messageBody is map<string> && hasResponseBody(messageBody) {
         payload += "&" + retrieveTextPayloadForFormUrlEncodedMessage(messageBody);
     }
     return payload;
 }
 
+isolated function hasResponseBody(anydata? messageBody) returns boolean {
+    return messageBody is map<string> && messageBody.length() > 0;
+}
+
+isolated function getCannedResponseKey(string hubMode, string? reason) returns string {
+    return reason is string ? string `${hubMode}:${reason}` : hubMode;
+}
+
+isolated function createCannedResponsePayloads() returns readonly & map<byte[]> {
+    map<byte[]> payloads = {
+        [MODE_ACCEPTED]: generateResponsePayload(MODE_ACCEPTED, (), ()).toBytes()
+    };
+    error[] stockErrors = [
+        TOPIC_REGISTRATION_ERROR, TOPIC_DEREGISTRATION_ERROR, UPDATE_MESSAGE_ERROR, BAD_SUBSCRIPTION_ERROR,
+        INTERNAL_SUBSCRIPTION_ERROR, SUBSCRIPTION_DENIED_ERROR, BAD_UNSUBSCRIPTION_ERROR, INTERNAL_UNSUBSCRIPTION_ERROR,
+        UNSUBSCRIPTION_DENIED_ERROR
+    ];
+    foreach error stockError in stockErrors {
+        string reason = stockError.message();
+        string deniedPayload = generateResponsePayload(MODE_DENIED, (), reason);
+        payloads[getCannedResponseKey(MODE_DENIED, reason)] = deniedPayload.toBytes();
+    }
+    return payloads.cloneReadOnly();
+}
+
 isolated function retrieveTextPayloadForFormUrlEncodedMessage(map<string> messageBody) returns string {
     string payload = "";
     string[] messageParams = [];
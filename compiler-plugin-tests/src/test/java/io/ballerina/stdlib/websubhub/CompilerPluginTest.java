@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.websubhub;
 
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
@@ -425,6 +426,73 @@ public class CompilerPluginTest {
         Assert.assertEquals(invalidDiagnosticCodes.size(), 0);
     }
 
+    @Test
+    public void testCompilerPluginForPerformanceWarnings() {
+        Package currentPackage = loadPackage("sample_26");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors());
+        List<String> warningCodes = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.WARNING.equals(d.diagnosticInfo().severity()))
+                .map(d -> d.diagnosticInfo().code())
+                .filter(code -> code.startsWith("WEBSUBHUB_"))
+                .sorted()
+                .toList();
+        Assert.assertEquals(warningCodes, List.of(
+                WebSubHubDiagnosticCodes.WEBSUBHUB_109.getCode(), WebSubHubDiagnosticCodes.WEBSUBHUB_109.getCode(),
+                WebSubHubDiagnosticCodes.WEBSUBHUB_110.getCode(), WebSubHubDiagnosticCodes.WEBSUBHUB_111.getCode(),
+                WebSubHubDiagnosticCodes.WEBSUBHUB_112.getCode()));
+    }
+
+    @Test
+    public void testValidUpdateMessageBatchMethod() {
+        Package currentPackage = loadPackage("sample_27");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnostics = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))
+                .collect(Collectors.toList());
+        Assert.assertEquals(errorDiagnostics.size(), 0);
+    }
+
+    @Test
+    public void testValidIntentVerifiedBatchMethods() {
+        Package currentPackage = loadPackage("sample_28");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnostics = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))
+                .collect(Collectors.toList());
+        Assert.assertEquals(errorDiagnostics.size(), 0);
+    }
+
+    @Test
+    public void testValidBulkTopicRegistrationMethods() {
+        Package currentPackage = loadPackage("sample_29");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnostics = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))
+                .collect(Collectors.toList());
+        Assert.assertEquals(errorDiagnostics.size(), 0);
+    }
+
+    @Test
+    public void testDispatchDescriptorGeneration() {
+        Package currentPackage = loadPackage("sample_1");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGenAndModifyPlugins();
+        Assert.assertFalse(diagnosticResult.hasErrors());
+        Package modifiedPackage = currentPackage.project().currentPackage();
+        Module defaultModule = modifiedPackage.getDefaultModule();
+        String modifiedSource = defaultModule.documentIds().stream()
+                .map(documentId -> defaultModule.document(documentId).syntaxTree().toSourceCode())
+                .collect(Collectors.joining());
+        Assert.assertTrue(modifiedSource.contains("@websubhub:DispatchConfig"));
+        Assert.assertTrue(modifiedSource.contains(
+                "{name: \"onSubscription\", parameters: [\"MESSAGE\"], readonlyMessage: false}"));
+        Assert.assertFalse(modifiedPackage.getCompilation().diagnosticResult().hasErrors());
+    }
+
     private void validateErrorsForInvalidReadonlyTypes(WebSubHubDiagnosticCodes expectedCode, Diagnostic diagnostic,
                                                        String typeDesc, String remoteMethodName) {
         DiagnosticInfo info = diagnostic.diagnosticInfo();
@@ -0,0 +1,61 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/websubhub;
+
+websubhub:HubClient[] subscribers = [];
+int registeredTopics = 0;
+
+service /websubhub on new websubhub:Listener(9090) {
+    remote function onRegisterTopic(websubhub:TopicRegistration message)
+            returns websubhub:TopicRegistrationSuccess|error {
+        http:Client registryClient = check new ("http://localhost:9191");
+        lock {
+            http:Response _ = check registryClient->post("/topics", message.topic);
+            registeredTopics += 1;
+        }
+        return websubhub:TOPIC_REGISTRATION_SUCCESS;
+    }
+
+    remote function onDeregisterTopic(websubhub:TopicDeregistration message)
+            returns websubhub:TopicDeregistrationSuccess {
+        return websubhub:TOPIC_DEREGISTRATION_SUCCESS;
+    }
+
+    remote function onUpdateMessage(websubhub:UpdateMessage message) returns websubhub:Acknowledgement|error {
+        foreach websubhub:HubClient subscriber in subscribers {
+            _ = check subscriber->notifyContentDistribution({content: "This is sample content"});
+        }
+        foreach websubhub:HubClient subscriber in subscribers {
+            _ = start subscriber->notifyContentDistribution({content: "This is sample content"});
+        }
+        return websubhub:ACKNOWLEDGEMENT;
+    }
+
+    remote function onSubscriptionIntentVerified(websubhub:VerifiedSubscription message) returns error? {
+        websubhub:HubClient hubClient = check new (message);
+        subscribers.push(hubClient);
+        while true {
+            if registeredTopics > 0 {
+                break;
+            }
+        }
+    }
+
+    remote function onUnsubscriptionIntentVerified(websubhub:VerifiedUnsubscription message) {
+    }
+}
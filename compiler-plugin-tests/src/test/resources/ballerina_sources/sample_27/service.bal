@@ -0,0 +1,52 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/websubhub;
+
+listener websubhub:Listener publishBatchListener = new (9090);
+
+@websubhub:ServiceConfig {
+    publishBatch: {
+        maxMessages: 50,
+        maxDelay: 0.005
+    }
+}
+service /websubhub on publishBatchListener {
+    isolated remote function onRegisterTopic(websubhub:TopicRegistration message)
+            returns websubhub:TopicRegistrationSuccess {
+        return websubhub:TOPIC_REGISTRATION_SUCCESS;
+    }
+
+    isolated remote function onDeregisterTopic(websubhub:TopicDeregistration message)
+            returns websubhub:TopicDeregistrationSuccess {
+        return websubhub:TOPIC_DEREGISTRATION_SUCCESS;
+    }
+
+    isolated remote function onUpdateMessage(websubhub:UpdateMessage msg)
+            returns websubhub:Acknowledgement|websubhub:UpdateMessageError {
+        return websubhub:ACKNOWLEDGEMENT;
+    }
+
+    isolated remote function onUpdateMessageBatch(readonly & websubhub:UpdateMessage[] messages)
+            returns (websubhub:Acknowledgement|websubhub:UpdateMessageError)[]|error {
+        return from websubhub:UpdateMessage msg in messages
+            select msg.hubTopic == "test" ? websubhub:ACKNOWLEDGEMENT : websubhub:UPDATE_MESSAGE_ERROR;
+    }
+
+    isolated remote function onSubscriptionIntentVerified(websubhub:VerifiedSubscription msg) {}
+
+    isolated remote function onUnsubscriptionIntentVerified(websubhub:VerifiedUnsubscription msg) {}
+}
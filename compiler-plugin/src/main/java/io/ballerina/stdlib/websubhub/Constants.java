@@ -28,14 +28,19 @@ public interface Constants {
     String LISTENER_IDENTIFIER = "Listener";
 
     String ON_REGISTER_TOPIC = "onRegisterTopic";
+    String ON_REGISTER_TOPICS = "onRegisterTopics";
     String ON_DEREGISTER_TOPIC = "onDeregisterTopic";
+    String ON_DEREGISTER_TOPICS = "onDeregisterTopics";
     String ON_UPDATE_MESSAGE = "onUpdateMessage";
+    String ON_UPDATE_MESSAGE_BATCH = "onUpdateMessageBatch";
     String ON_SUBSCRIPTION = "onSubscription";
     String ON_SUBSCRIPTION_VALIDATION = "onSubscriptionValidation";
     String ON_SUBSCRIPTION_INTENT_VERIFICATION = "onSubscriptionIntentVerified";
+    String ON_SUBSCRIPTION_INTENT_VERIFICATION_BATCH = "onSubscriptionIntentVerifiedBatch";
     String ON_UNSUBSCRIPTION = "onUnsubscription";
     String ON_UNSUBSCRIPTION_VALIDATION = "onUnsubscriptionValidation";
     String ON_UNSUBSCRIPTION_INTENT_VERIFICATION = "onUnsubscriptionIntentVerified";
+    String ON_UNSUBSCRIPTION_INTENT_VERIFICATION_BATCH = "onUnsubscriptionIntentVerifiedBatch";
 
     String TOPIC_REGISTRATION = "websubhub:TopicRegistration";
     String TOPIC_DEREGISTRATION = "websubhub:TopicDeregistration";
@@ -66,4 +71,19 @@ public interface Constants {
     String READONLY = "readonly";
 
     String OPTIONAL = "?";
+    String ARRAY = "[]";
+
+    String HTTP_CLIENT = "http:Client";
+    String HUB_CLIENT = "websubhub:HubClient";
+    String PUBLISHER_CLIENT = "websubhub:PublisherClient";
+    String NOTIFY_CONTENT_DISTRIBUTION = "notifyContentDistribution";
+    String NOTIFY_CONTENT_DISTRIBUTION_BATCH = "notifyContentDistributionBatch";
+    String SLEEP = "sleep";
+    String LANG_RUNTIME_MODULE = "lang.runtime";
+    String RUNTIME_PREFIX = "runtime";
+
+    String DISPATCH_CONFIG = "DispatchConfig";
+    String MESSAGE_PARAM = "MESSAGE";
+    String HEADERS_PARAM = "HEADERS";
+    String CONTROLLER_PARAM = "CONTROLLER";
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.projects.plugins.CodeModifier;
+import io.ballerina.projects.plugins.CodeModifierContext;
+import io.ballerina.stdlib.websubhub.task.DispatchDescriptorModifierTask;
+
+/**
+ * {@code WebSubHubCodeModifier} generates the dispatch details of the {@code websubhub:Service} declarations.
+ */
+public class WebSubHubCodeModifier extends CodeModifier {
+    @Override
+    public void init(CodeModifierContext codeModifierContext) {
+        codeModifierContext.addSourceModifierTask(new DispatchDescriptorModifierTask());
+    }
+}
@@ -20,6 +20,8 @@ package io.ballerina.stdlib.websubhub;
 
 import io.ballerina.projects.plugins.CompilerPlugin;
 import io.ballerina.projects.plugins.CompilerPluginContext;
+import io.ballerina.stdlib.websubhub.codeaction.AddSleepCodeAction;
+import io.ballerina.stdlib.websubhub.codeaction.DistributeAsynchronouslyCodeAction;
 
 /**
  * {@code WebSubHubCompilerPlugin} handles compile-time code analysis for WebSubHub based Services.
@@ -28,5 +30,8 @@ public class WebSubHubCompilerPlugin extends CompilerPlugin {
     @Override
     public void init(CompilerPluginContext context) {
         context.addCodeAnalyzer(new WebSubHubCodeAnalyzer());
+        context.addCodeModifier(new WebSubHubCodeModifier());
+        context.addCodeAction(new AddSleepCodeAction());
+        context.addCodeAction(new DistributeAsynchronouslyCodeAction());
     }
 }
@@ -41,7 +41,19 @@ public enum WebSubHubDiagnosticCodes {
             DiagnosticSeverity.ERROR),
     WEBSUBHUB_107("WEBSUBHUB_107", "{0} type is not allowed to be returned from {1} method",
             DiagnosticSeverity.ERROR),
-    WEBSUBHUB_108("WEBSUBHUB_108", "{0} method should return {1} types", DiagnosticSeverity.ERROR);
+    WEBSUBHUB_108("WEBSUBHUB_108", "{0} method should return {1} types", DiagnosticSeverity.ERROR),
+    WEBSUBHUB_109("WEBSUBHUB_109",
+            "{0} is initialized within the {1} method, initialize it once and reuse it across the requests",
+            DiagnosticSeverity.WARNING),
+    WEBSUBHUB_110("WEBSUBHUB_110",
+            "remote call within a lock statement in the {0} method blocks the strands waiting for the lock",
+            DiagnosticSeverity.WARNING),
+    WEBSUBHUB_111("WEBSUBHUB_111",
+            "while loop without a wait in the {0} method keeps the strand busy, wait between the iterations",
+            DiagnosticSeverity.WARNING),
+    WEBSUBHUB_112("WEBSUBHUB_112",
+            "content is distributed to the subscribers one after the other within the {0} method, " +
+                    "distribute it asynchronously", DiagnosticSeverity.WARNING);
 
     private final String code;
     private final String description;
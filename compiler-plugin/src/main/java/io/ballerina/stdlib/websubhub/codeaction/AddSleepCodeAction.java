@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.codeaction;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.WhileStatementNode;
+import io.ballerina.projects.plugins.codeaction.CodeAction;
+import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
+import io.ballerina.projects.plugins.codeaction.CodeActionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.stdlib.websubhub.Constants;
+import io.ballerina.stdlib.websubhub.WebSubHubDiagnosticCodes;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.websubhub.codeaction.CodeActionUtils.NODE_LOCATION_KEY;
+
+/**
+ * {@code AddSleepCodeAction} adds a sleep to the beginning of a {@code while true} loop, which does not wait between
+ * the iterations.
+ */
+public class AddSleepCodeAction implements CodeAction {
+    private static final String NAME = "ADD_SLEEP";
+    private static final String TITLE = "Add sleep to the loop";
+    private static final int INDENTATION = 4;
+
+    @Override
+    public List<String> supportedDiagnosticCodes() {
+        return List.of(WebSubHubDiagnosticCodes.WEBSUBHUB_111.getCode());
+    }
+
+    @Override
+    public Optional<CodeActionInfo> codeActionInfo(CodeActionContext context) {
+        Optional<NonTerminalNode> node = CodeActionUtils.findNode(
+                context.currentDocument().syntaxTree(), context.diagnostic());
+        if (node.isEmpty() || !(node.get() instanceof WhileStatementNode whileStatementNode)) {
+            return Optional.empty();
+        }
+        CodeActionArgument locationArg = CodeActionArgument.from(NODE_LOCATION_KEY,
+                whileStatementNode.location().lineRange());
+        return Optional.of(CodeActionInfo.from(TITLE, List.of(locationArg)));
+    }
+
+    @Override
+    public List<DocumentEdit> execute(CodeActionExecutionContext context) {
+        Optional<LineRange> lineRange = CodeActionUtils.getLineRange(context);
+        if (lineRange.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SyntaxTree syntaxTree = context.currentDocument().syntaxTree();
+        ModulePartNode rootNode = syntaxTree.rootNode();
+        NonTerminalNode node = rootNode.findNode(
+                CodeActionUtils.getTextRange(syntaxTree.textDocument(), lineRange.get()));
+        if (!(node instanceof WhileStatementNode whileStatementNode)) {
+            return Collections.emptyList();
+        }
+
+        List<TextEdit> textEdits = new ArrayList<>();
+        Optional<String> runtimePrefix = CodeActionUtils.getImportPrefix(
+                rootNode, Constants.PACKAGE_ORG, Constants.LANG_RUNTIME_MODULE);
+        if (runtimePrefix.isEmpty()) {
+            textEdits.add(CodeActionUtils.createImportEdit(
+                    rootNode, Constants.PACKAGE_ORG, Constants.LANG_RUNTIME_MODULE));
+        }
+        String indentation = " ".repeat(whileStatementNode.location().lineRange().startLine().offset() + INDENTATION);
+        String sleep = String.format("\n%s%s:%s(1);", indentation,
+                runtimePrefix.orElse(Constants.RUNTIME_PREFIX), Constants.SLEEP);
+        int sleepPosition = whileStatementNode.whileBody().openBraceToken().textRange().endOffset();
+        textEdits.add(TextEdit.from(TextRange.from(sleepPosition, 0), sleep));
+        return CodeActionUtils.applyEdits(context, syntaxTree, textEdits.toArray(new TextEdit[0]));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
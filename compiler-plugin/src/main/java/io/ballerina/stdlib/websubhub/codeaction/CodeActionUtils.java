@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.codeaction;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContext;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code CodeActionUtils} contains utility functions required for the websubhub code actions.
+ */
+public final class CodeActionUtils {
+    public static final String NODE_LOCATION_KEY = "node.location";
+
+    private CodeActionUtils() {}
+
+    public static Optional<NonTerminalNode> findNode(SyntaxTree syntaxTree, Diagnostic diagnostic) {
+        if (diagnostic.location() == null) {
+            return Optional.empty();
+        }
+        ModulePartNode rootNode = syntaxTree.rootNode();
+        return Optional.of(rootNode.findNode(diagnostic.location().textRange()));
+    }
+
+    public static Optional<LineRange> getLineRange(CodeActionExecutionContext context) {
+        for (CodeActionArgument argument : context.arguments()) {
+            if (NODE_LOCATION_KEY.equals(argument.key())) {
+                return Optional.ofNullable(argument.valueAs(LineRange.class));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static TextRange getTextRange(TextDocument textDocument, LineRange lineRange) {
+        int start = textDocument.textPositionFrom(lineRange.startLine());
+        int end = textDocument.textPositionFrom(lineRange.endLine());
+        return TextRange.from(start, end - start);
+    }
+
+    public static Optional<String> getImportPrefix(ModulePartNode rootNode, String orgName, String moduleName) {
+        for (ImportDeclarationNode importNode : rootNode.imports()) {
+            boolean orgMatches = importNode.orgName().map(org -> orgName.equals(org.orgName().text())).orElse(false);
+            String importedModule = String.join(".", importNode.moduleName().stream()
+                    .map(identifier -> identifier.text()).toList());
+            if (orgMatches && moduleName.equals(importedModule)) {
+                String defaultPrefix = moduleName.substring(moduleName.lastIndexOf('.') + 1);
+                return Optional.of(importNode.prefix().map(prefix -> prefix.prefix().text()).orElse(defaultPrefix));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static List<DocumentEdit> applyEdits(CodeActionExecutionContext context, SyntaxTree syntaxTree,
+                                                TextEdit... textEdits) {
+        TextDocument modifiedDocument = syntaxTree.textDocument().apply(TextDocumentChange.from(textEdits));
+        return List.of(new DocumentEdit(context.fileUri(), SyntaxTree.from(modifiedDocument)));
+    }
+
+    public static TextEdit createImportEdit(ModulePartNode rootNode, String orgName, String moduleName) {
+        String importDeclaration = String.format("import %s/%s;", orgName, moduleName);
+        if (rootNode.imports().isEmpty()) {
+            return TextEdit.from(TextRange.from(0, 0), importDeclaration + "\n");
+        }
+        int lastImportEnd = rootNode.imports().get(rootNode.imports().size() - 1).textRange().endOffset();
+        return TextEdit.from(TextRange.from(lastImportEnd, 0), "\n" + importDeclaration);
+    }
+}
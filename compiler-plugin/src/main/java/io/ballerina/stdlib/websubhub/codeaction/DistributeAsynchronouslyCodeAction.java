@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.codeaction;
+
+import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.plugins.codeaction.CodeAction;
+import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
+import io.ballerina.projects.plugins.codeaction.CodeActionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.stdlib.websubhub.WebSubHubDiagnosticCodes;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextEdit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.websubhub.codeaction.CodeActionUtils.NODE_LOCATION_KEY;
+
+/**
+ * {@code DistributeAsynchronouslyCodeAction} converts a content distribution statement within a loop into a
+ * {@code start} action, so that the content is distributed to the subscribers concurrently.
+ */
+public class DistributeAsynchronouslyCodeAction implements CodeAction {
+    private static final String NAME = "DISTRIBUTE_ASYNCHRONOUSLY";
+    private static final String TITLE = "Distribute the content asynchronously";
+
+    @Override
+    public List<String> supportedDiagnosticCodes() {
+        return List.of(WebSubHubDiagnosticCodes.WEBSUBHUB_112.getCode());
+    }
+
+    @Override
+    public Optional<CodeActionInfo> codeActionInfo(CodeActionContext context) {
+        Optional<NonTerminalNode> node = CodeActionUtils.findNode(
+                context.currentDocument().syntaxTree(), context.diagnostic());
+        if (node.isEmpty() || !(node.get() instanceof RemoteMethodCallActionNode remoteCall)) {
+            return Optional.empty();
+        }
+        Optional<ExpressionStatementNode> statement = getEnclosingStatement(remoteCall);
+        if (statement.isEmpty()) {
+            return Optional.empty();
+        }
+        CodeActionArgument locationArg = CodeActionArgument.from(NODE_LOCATION_KEY,
+                remoteCall.location().lineRange());
+        return Optional.of(CodeActionInfo.from(TITLE, List.of(locationArg)));
+    }
+
+    @Override
+    public List<DocumentEdit> execute(CodeActionExecutionContext context) {
+        Optional<LineRange> lineRange = CodeActionUtils.getLineRange(context);
+        if (lineRange.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SyntaxTree syntaxTree = context.currentDocument().syntaxTree();
+        ModulePartNode rootNode = syntaxTree.rootNode();
+        NonTerminalNode node = rootNode.findNode(
+                CodeActionUtils.getTextRange(syntaxTree.textDocument(), lineRange.get()));
+        if (!(node instanceof RemoteMethodCallActionNode remoteCall)) {
+            return Collections.emptyList();
+        }
+        Optional<ExpressionStatementNode> statement = getEnclosingStatement(remoteCall);
+        if (statement.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String asyncStatement = String.format("_ = start %s;", remoteCall.toSourceCode().trim());
+        TextEdit textEdit = TextEdit.from(statement.get().textRange(), asyncStatement);
+        return CodeActionUtils.applyEdits(context, syntaxTree, textEdit);
+    }
+
+    private static Optional<ExpressionStatementNode> getEnclosingStatement(RemoteMethodCallActionNode remoteCall) {
+        // only the statements which ignore the result of the distribution could be started asynchronously as it is
+        NonTerminalNode parent = remoteCall.parent();
+        if (parent instanceof CheckExpressionNode) {
+            parent = parent.parent();
+        }
+        return parent instanceof ExpressionStatementNode expressionStatement
+                ? Optional.of(expressionStatement) : Optional.empty();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.websubhub.task;
 
 import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
 import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
@@ -113,6 +114,11 @@ public final class AnalyserUtils {
                     .map(AnalyserUtils::getTypeDescription)
                     .filter(e -> !e.isEmpty() && !e.isBlank())
                     .reduce((a, b) -> String.join(" & ", a, b)).orElse("");
+        } else if (TypeDescKind.ARRAY.equals(paramKind)) {
+            TypeSymbol memberType = ((ArrayTypeSymbol) paramType).memberTypeDescriptor();
+            String memberTypeDesc = getTypeDescription(memberType);
+            return TypeDescKind.UNION.equals(memberType.typeKind())
+                    ? String.format("(%s)%s", memberTypeDesc, Constants.ARRAY) : memberTypeDesc + Constants.ARRAY;
         } else if (TypeDescKind.ERROR.equals(paramKind)) {
             return getErrorTypeDescription(paramType);
         } else if (TypeDescKind.READONLY.equals(paramKind)) {
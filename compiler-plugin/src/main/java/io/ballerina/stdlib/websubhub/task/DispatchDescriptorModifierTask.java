@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.task;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.ModifierTask;
+import io.ballerina.projects.plugins.SourceModifierContext;
+import io.ballerina.stdlib.websubhub.Constants;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static io.ballerina.stdlib.websubhub.task.AnalyserUtils.getTypeDescription;
+import static io.ballerina.stdlib.websubhub.task.AnalyserUtils.isRemoteMethod;
+
+/**
+ * {@code DispatchDescriptorModifierTask} adds the {@code websubhub:DispatchConfig} annotation to each
+ * {@code websubhub:Service} declaration. The annotation contains the remote methods of the service, the kinds of their
+ * parameters in the declared order and whether the message parameter is {@code readonly}, so that the runtime does
+ * not have to resolve them by reflection.
+ */
+public class DispatchDescriptorModifierTask implements ModifierTask<SourceModifierContext> {
+
+    @Override
+    public void modify(SourceModifierContext context) {
+        boolean erroneousCompilation = context.compilation().diagnosticResult().diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        // if the compilation already contains any error, do not proceed
+        if (erroneousCompilation) {
+            return;
+        }
+
+        for (ModuleId moduleId : context.currentPackage().moduleIds()) {
+            Module module = context.currentPackage().module(moduleId);
+            SemanticModel semanticModel = context.compilation().getSemanticModel(moduleId);
+            for (DocumentId documentId : module.documentIds()) {
+                Document document = module.document(documentId);
+                Optional<TextDocument> modifiedDocument = modifyDocument(semanticModel, document.syntaxTree());
+                modifiedDocument.ifPresent(textDocument -> context.modifySourceFile(textDocument, documentId));
+            }
+        }
+    }
+
+    private static Optional<TextDocument> modifyDocument(SemanticModel semanticModel, SyntaxTree syntaxTree) {
+        ModulePartNode rootNode = syntaxTree.rootNode();
+        Optional<String> modulePrefix = getWebSubHubModulePrefix(rootNode);
+        if (modulePrefix.isEmpty()) {
+            return Optional.empty();
+        }
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        boolean modified = false;
+        for (ModuleMemberDeclarationNode member : rootNode.members()) {
+            if (member.kind() == SyntaxKind.SERVICE_DECLARATION
+                    && isWebSubHubService(semanticModel, (ServiceDeclarationNode) member)
+                    && !hasDispatchConfig((ServiceDeclarationNode) member)) {
+                members.add(addDispatchConfig(semanticModel, (ServiceDeclarationNode) member, modulePrefix.get()));
+                modified = true;
+            } else {
+                members.add(member);
+            }
+        }
+        if (!modified) {
+            return Optional.empty();
+        }
+        ModulePartNode modifiedRoot = rootNode.modify().withMembers(NodeFactory.createNodeList(members)).apply();
+        return Optional.of(syntaxTree.modifyWith(modifiedRoot).textDocument());
+    }
+
+    private static Optional<String> getWebSubHubModulePrefix(ModulePartNode rootNode) {
+        for (ImportDeclarationNode importNode : rootNode.imports()) {
+            boolean isWebSubHubImport = importNode.orgName()
+                    .map(org -> Constants.PACKAGE_ORG.equals(org.orgName().text())).orElse(false)
+                    && importNode.moduleName().size() == 1
+                    && Constants.PACKAGE_NAME.equals(importNode.moduleName().get(0).text());
+            if (isWebSubHubImport) {
+                return Optional.of(importNode.prefix().map(prefix -> prefix.prefix().text())
+                        .orElse(Constants.PACKAGE_NAME));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isWebSubHubService(SemanticModel semanticModel, ServiceDeclarationNode serviceNode) {
+        Optional<Symbol> serviceSymbolOpt = semanticModel.symbol(serviceNode);
+        return serviceSymbolOpt.isPresent() && ((ServiceDeclarationSymbol) serviceSymbolOpt.get()).listenerTypes()
+                .stream().anyMatch(AnalyserUtils::isWebSubHubListener);
+    }
+
+    private static boolean hasDispatchConfig(ServiceDeclarationNode serviceNode) {
+        return serviceNode.metadata().map(metadata -> metadata.annotations().stream()
+                .map(AnnotationNode::annotReference)
+                .anyMatch(reference -> reference instanceof QualifiedNameReferenceNode qualifiedReference
+                        && Constants.DISPATCH_CONFIG.equals(qualifiedReference.identifier().text())))
+                .orElse(false);
+    }
+
+    private static ServiceDeclarationNode addDispatchConfig(SemanticModel semanticModel,
+                                                            ServiceDeclarationNode serviceNode, String modulePrefix) {
+        List<String> methodDescriptors = new ArrayList<>();
+        for (Node member : serviceNode.members()) {
+            if (member.kind() != SyntaxKind.OBJECT_METHOD_DEFINITION) {
+                continue;
+            }
+            semanticModel.symbol(member)
+                    .filter(symbol -> symbol instanceof FunctionSymbol functionSymbol && isRemoteMethod(functionSymbol))
+                    .map(symbol -> createMethodDescriptor((FunctionSymbol) symbol,
+                            ((FunctionDefinitionNode) member).functionName().text()))
+                    .ifPresent(methodDescriptors::add);
+        }
+        String descriptor = String.format("{methods: [%s]}", String.join(", ", methodDescriptors));
+        AnnotationNode dispatchConfig = NodeFactory.createAnnotationNode(
+                NodeFactory.createToken(SyntaxKind.AT_TOKEN),
+                NodeFactory.createQualifiedNameReferenceNode(
+                        NodeFactory.createIdentifierToken(modulePrefix),
+                        NodeFactory.createToken(SyntaxKind.COLON_TOKEN),
+                        NodeFactory.createIdentifierToken(Constants.DISPATCH_CONFIG)),
+                (MappingConstructorExpressionNode) NodeParser.parseExpression(descriptor));
+        MetadataNode metadata = serviceNode.metadata()
+                .map(existing -> existing.modify().withAnnotations(existing.annotations().add(dispatchConfig)).apply())
+                .orElseGet(() -> NodeFactory.createMetadataNode(null, NodeFactory.createNodeList(dispatchConfig)));
+        return serviceNode.modify().withMetadata(metadata).apply();
+    }
+
+    private static String createMethodDescriptor(FunctionSymbol functionSymbol, String methodName) {
+        List<ParameterSymbol> parameters = functionSymbol.typeDescriptor().params().orElse(List.of());
+        String parameterKinds = parameters.stream()
+                .map(parameter -> String.format("\"%s\"", getParameterKind(parameter.typeDescriptor())))
+                .collect(Collectors.joining(", "));
+        boolean readonlyMessage = !parameters.isEmpty() && isReadOnly(parameters.get(0).typeDescriptor());
+        return String.format("{name: \"%s\", parameters: [%s], readonlyMessage: %s}",
+                methodName, parameterKinds, readonlyMessage);
+    }
+
+    private static String getParameterKind(TypeSymbol parameterType) {
+        String typeDescription = getTypeDescription(parameterType);
+        if (Constants.HTTP_HEADERS.equals(typeDescription)) {
+            return Constants.HEADERS_PARAM;
+        } else if (Constants.CONTROLLER.equals(typeDescription)) {
+            return Constants.CONTROLLER_PARAM;
+        }
+        return Constants.MESSAGE_PARAM;
+    }
+
+    private static boolean isReadOnly(TypeSymbol parameterType) {
+        return parameterType.typeKind() == TypeDescKind.INTERSECTION
+                && ((IntersectionTypeSymbol) parameterType).memberTypeDescriptors().stream()
+                .anyMatch(member -> member.typeKind() == TypeDescKind.READONLY);
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.stdlib.websubhub.task.validator.ServiceDeclarationValidator;
+import io.ballerina.stdlib.websubhub.task.validator.ServicePerformanceValidator;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.util.Optional;
@@ -34,9 +35,11 @@ import java.util.Optional;
  */
 public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
     private final ServiceDeclarationValidator validator;
+    private final ServicePerformanceValidator performanceValidator;
 
     public ServiceAnalysisTask() {
         this.validator = ServiceDeclarationValidator.getInstance();
+        this.performanceValidator = ServicePerformanceValidator.getInstance();
     }
 
     @Override
@@ -54,6 +57,7 @@ public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisConte
             ServiceDeclarationSymbol serviceDeclarationSymbol = (ServiceDeclarationSymbol) serviceDeclarationOpt.get();
             if (isWebSubHubService(serviceDeclarationSymbol)) {
                 this.validator.validate(context, serviceNode);
+                this.performanceValidator.validate(context, serviceNode);
             }
         }
     }
@@ -1,6 +1,7 @@
 package io.ballerina.stdlib.websubhub.task.validator;
 
 import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
 import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
@@ -48,63 +49,80 @@ public class ServiceDeclarationValidator {
 
     static {
         allowedMethods = List.of(
-                Constants.ON_REGISTER_TOPIC, Constants.ON_DEREGISTER_TOPIC, Constants.ON_UPDATE_MESSAGE,
-                Constants.ON_SUBSCRIPTION, Constants.ON_SUBSCRIPTION_VALIDATION,
-                Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION, Constants.ON_UNSUBSCRIPTION,
-                Constants.ON_UNSUBSCRIPTION_VALIDATION, Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION
+                Constants.ON_REGISTER_TOPIC, Constants.ON_REGISTER_TOPICS, Constants.ON_DEREGISTER_TOPIC,
+                Constants.ON_DEREGISTER_TOPICS, Constants.ON_UPDATE_MESSAGE,
+                Constants.ON_UPDATE_MESSAGE_BATCH, Constants.ON_SUBSCRIPTION, Constants.ON_SUBSCRIPTION_VALIDATION,
+                Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION, Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION_BATCH,
+                Constants.ON_UNSUBSCRIPTION, Constants.ON_UNSUBSCRIPTION_VALIDATION,
+                Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION, Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION_BATCH
         );
         requiredMethods = List.of(
                 Constants.ON_REGISTER_TOPIC, Constants.ON_DEREGISTER_TOPIC, Constants.ON_UPDATE_MESSAGE,
                 Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION, Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION
         );
-        allowedParameterTypes = Map.of(
-                Constants.ON_REGISTER_TOPIC,
-                List.of(Constants.TOPIC_REGISTRATION, Constants.HTTP_HEADERS),
-                Constants.ON_DEREGISTER_TOPIC,
-                List.of(Constants.TOPIC_DEREGISTRATION, Constants.HTTP_HEADERS),
-                Constants.ON_UPDATE_MESSAGE,
-                List.of(Constants.UPDATE_MESSAGE, Constants.HTTP_HEADERS),
-                Constants.ON_SUBSCRIPTION,
-                List.of(Constants.SUBSCRIPTION, Constants.HTTP_HEADERS, Constants.CONTROLLER),
-                Constants.ON_SUBSCRIPTION_VALIDATION,
-                Collections.singletonList(Constants.SUBSCRIPTION),
-                Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION,
-                Collections.singletonList(Constants.VERIFIED_SUBSCRIPTION),
-                Constants.ON_UNSUBSCRIPTION,
-                List.of(Constants.UNSUBSCRIPTION, Constants.HTTP_HEADERS, Constants.CONTROLLER),
-                Constants.ON_UNSUBSCRIPTION_VALIDATION,
-                Collections.singletonList(Constants.UNSUBSCRIPTION),
-                Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION,
-                Collections.singletonList(Constants.VERIFIED_UNSUBSCRIPTION)
+        allowedParameterTypes = Map.ofEntries(
+                Map.entry(Constants.ON_REGISTER_TOPIC, List.of(Constants.TOPIC_REGISTRATION, Constants.HTTP_HEADERS)),
+                Map.entry(Constants.ON_REGISTER_TOPICS,
+                        List.of(Constants.TOPIC_REGISTRATION + Constants.ARRAY, Constants.HTTP_HEADERS)),
+                Map.entry(Constants.ON_DEREGISTER_TOPIC,
+                        List.of(Constants.TOPIC_DEREGISTRATION, Constants.HTTP_HEADERS)),
+                Map.entry(Constants.ON_DEREGISTER_TOPICS,
+                        List.of(Constants.TOPIC_DEREGISTRATION + Constants.ARRAY, Constants.HTTP_HEADERS)),
+                Map.entry(Constants.ON_UPDATE_MESSAGE, List.of(Constants.UPDATE_MESSAGE, Constants.HTTP_HEADERS)),
+                Map.entry(Constants.ON_UPDATE_MESSAGE_BATCH,
+                        Collections.singletonList(Constants.UPDATE_MESSAGE + Constants.ARRAY)),
+                Map.entry(Constants.ON_SUBSCRIPTION,
+                        List.of(Constants.SUBSCRIPTION, Constants.HTTP_HEADERS, Constants.CONTROLLER)),
+                Map.entry(Constants.ON_SUBSCRIPTION_VALIDATION, Collections.singletonList(Constants.SUBSCRIPTION)),
+                Map.entry(Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION,
+                        Collections.singletonList(Constants.VERIFIED_SUBSCRIPTION)),
+                Map.entry(Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION_BATCH,
+                        Collections.singletonList(Constants.VERIFIED_SUBSCRIPTION + Constants.ARRAY)),
+                Map.entry(Constants.ON_UNSUBSCRIPTION,
+                        List.of(Constants.UNSUBSCRIPTION, Constants.HTTP_HEADERS, Constants.CONTROLLER)),
+                Map.entry(Constants.ON_UNSUBSCRIPTION_VALIDATION, Collections.singletonList(Constants.UNSUBSCRIPTION)),
+                Map.entry(Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION,
+                        Collections.singletonList(Constants.VERIFIED_UNSUBSCRIPTION)),
+                Map.entry(Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION_BATCH,
+                        Collections.singletonList(Constants.VERIFIED_UNSUBSCRIPTION + Constants.ARRAY))
         );
-        allowedReturnTypes = Map.of(
-                Constants.ON_REGISTER_TOPIC,
-                List.of(Constants.TOPIC_REGISTRATION_SUCCESS, Constants.TOPIC_REGISTRATION_ERROR),
-                Constants.ON_DEREGISTER_TOPIC,
-                List.of(Constants.TOPIC_DEREGISTRATION_SUCCESS, Constants.TOPIC_DEREGISTRATION_ERROR),
-                Constants.ON_UPDATE_MESSAGE,
-                List.of(Constants.ACKNOWLEDGEMENT, Constants.UPDATE_MESSAGE_ERROR),
-                Constants.ON_SUBSCRIPTION,
-                List.of(
+        allowedReturnTypes = Map.ofEntries(
+                Map.entry(Constants.ON_REGISTER_TOPIC,
+                        List.of(Constants.TOPIC_REGISTRATION_SUCCESS, Constants.TOPIC_REGISTRATION_ERROR)),
+                Map.entry(Constants.ON_REGISTER_TOPICS, List.of(
+                        Constants.TOPIC_REGISTRATION_SUCCESS + Constants.ARRAY,
+                        Constants.TOPIC_REGISTRATION_ERROR + Constants.ARRAY)),
+                Map.entry(Constants.ON_DEREGISTER_TOPIC,
+                        List.of(Constants.TOPIC_DEREGISTRATION_SUCCESS, Constants.TOPIC_DEREGISTRATION_ERROR)),
+                Map.entry(Constants.ON_DEREGISTER_TOPICS, List.of(
+                        Constants.TOPIC_DEREGISTRATION_SUCCESS + Constants.ARRAY,
+                        Constants.TOPIC_DEREGISTRATION_ERROR + Constants.ARRAY)),
+                Map.entry(Constants.ON_UPDATE_MESSAGE,
+                        List.of(Constants.ACKNOWLEDGEMENT, Constants.UPDATE_MESSAGE_ERROR)),
+                Map.entry(Constants.ON_UPDATE_MESSAGE_BATCH, List.of(
+                        Constants.ACKNOWLEDGEMENT + Constants.ARRAY, Constants.UPDATE_MESSAGE_ERROR + Constants.ARRAY)),
+                Map.entry(Constants.ON_SUBSCRIPTION, List.of(
                         Constants.SUBSCRIPTION_ACCEPTED, Constants.SUBSCRIPTION_PERMANENT_REDIRECT,
                         Constants.SUBSCRIPTION_TEMP_REDIRECT, Constants.BAD_SUBSCRIPTION_ERROR,
                         Constants.SUBSCRIPTION_INTERNAL_ERROR
-                ),
-                Constants.ON_SUBSCRIPTION_VALIDATION,
-                Collections.singletonList(Constants.SUBSCRIPTION_DENIED_ERROR),
-                Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION, Collections.emptyList(),
-                Constants.ON_UNSUBSCRIPTION,
-                List.of(
+                )),
+                Map.entry(Constants.ON_SUBSCRIPTION_VALIDATION,
+                        Collections.singletonList(Constants.SUBSCRIPTION_DENIED_ERROR)),
+                Map.entry(Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION, Collections.emptyList()),
+                Map.entry(Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION_BATCH, Collections.emptyList()),
+                Map.entry(Constants.ON_UNSUBSCRIPTION, List.of(
                         Constants.UNSUBSCRIPTION_ACCEPTED, Constants.BAD_UNSUBSCRIPTION,
                         Constants.UNSUBSCRIPTION_INTERNAL_ERROR
-                ),
-                Constants.ON_UNSUBSCRIPTION_VALIDATION,
-                Collections.singletonList(Constants.UNSUBSCRIPTION_DENIED_ERROR),
-                Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION, Collections.emptyList()
+                )),
+                Map.entry(Constants.ON_UNSUBSCRIPTION_VALIDATION,
+                        Collections.singletonList(Constants.UNSUBSCRIPTION_DENIED_ERROR)),
+                Map.entry(Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION, Collections.emptyList()),
+                Map.entry(Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION_BATCH, Collections.emptyList())
         );
         methodsWithOptionalReturnTypes = List.of(
                 Constants.ON_SUBSCRIPTION_VALIDATION, Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION,
-                Constants.ON_UNSUBSCRIPTION_VALIDATION, Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION
+                Constants.ON_SUBSCRIPTION_INTENT_VERIFICATION_BATCH, Constants.ON_UNSUBSCRIPTION_VALIDATION,
+                Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION, Constants.ON_UNSUBSCRIPTION_INTENT_VERIFICATION_BATCH
         );
     }
 
@@ -254,6 +272,14 @@ public class ServiceDeclarationValidator {
                 String qualifiedParamType = getQualifiedType(paramType, moduleName);
                 return !allowedReturnTypes.contains(qualifiedParamType);
             }
+        } else if (TypeDescKind.ARRAY.equals(typeKind)) {
+            // array return types are only allowed for the types listed with the `[]` suffix
+            List<String> allowedMemberTypes = allowedReturnTypes.stream()
+                    .filter(e -> e.endsWith(Constants.ARRAY))
+                    .map(e -> e.substring(0, e.length() - Constants.ARRAY.length()))
+                    .toList();
+            TypeSymbol memberType = ((ArrayTypeSymbol) returnTypeDescriptor).memberTypeDescriptor();
+            return allowedMemberTypes.isEmpty() || isReturnTypeNotAllowed(allowedMemberTypes, memberType, false);
         } else if (TypeDescKind.ERROR.equals(typeKind)) {
             return isInvalidErrorReturn(allowedReturnTypes, returnTypeDescriptor);
         } else if (TypeDescKind.NIL.equals(typeKind)) {
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.task.validator;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ForEachStatementNode;
+import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.LockStatementNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.ReceiveActionNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.StartActionNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.WaitActionNode;
+import io.ballerina.compiler.syntax.tree.WhileStatementNode;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.stdlib.websubhub.Constants;
+import io.ballerina.stdlib.websubhub.WebSubHubDiagnosticCodes;
+import io.ballerina.stdlib.websubhub.task.AnalyserUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.websubhub.task.AnalyserUtils.getTypeDescription;
+import static io.ballerina.stdlib.websubhub.task.AnalyserUtils.isRemoteMethod;
+import static io.ballerina.stdlib.websubhub.task.AnalyserUtils.updateContext;
+
+/**
+ * {@code ServicePerformanceValidator} reports warnings for the common performance mistakes in the remote methods of a
+ * websubhub service declaration.
+ */
+public class ServicePerformanceValidator {
+    private static final ServicePerformanceValidator INSTANCE = new ServicePerformanceValidator();
+    private static final List<String> CLIENT_TYPES = List.of(
+            Constants.HTTP_CLIENT, Constants.HUB_CLIENT, Constants.PUBLISHER_CLIENT);
+
+    private ServicePerformanceValidator() {
+        //private constructor
+    }
+
+    public static ServicePerformanceValidator getInstance() {
+        return INSTANCE;
+    }
+
+    public void validate(SyntaxNodeAnalysisContext context, ServiceDeclarationNode serviceNode) {
+        serviceNode.members().stream()
+                .filter(member -> member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION)
+                .map(member -> (FunctionDefinitionNode) member)
+                .forEach(functionNode -> context.semanticModel().symbol(functionNode)
+                        .filter(symbol -> symbol instanceof FunctionSymbol functionSymbol
+                                && isRemoteMethod(functionSymbol))
+                        .ifPresent(symbol -> functionNode.functionBody().accept(
+                                new RemoteMethodVisitor(context, functionNode.functionName().text()))));
+    }
+
+    private static boolean isClientType(TypeSymbol typeSymbol) {
+        if (typeSymbol.typeKind() == TypeDescKind.UNION) {
+            return ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors().stream()
+                    .anyMatch(ServicePerformanceValidator::isClientType);
+        }
+        return CLIENT_TYPES.contains(getTypeDescription(typeSymbol));
+    }
+
+    /**
+     * {@code RemoteMethodVisitor} visits the body of a remote method and reports the performance warnings.
+     */
+    private static final class RemoteMethodVisitor extends NodeVisitor {
+        private final SyntaxNodeAnalysisContext context;
+        private final SemanticModel semanticModel;
+        private final String methodName;
+        private int lockDepth = 0;
+        private int loopDepth = 0;
+
+        private RemoteMethodVisitor(SyntaxNodeAnalysisContext context, String methodName) {
+            this.context = context;
+            this.semanticModel = context.semanticModel();
+            this.methodName = methodName;
+        }
+
+        @Override
+        public void visit(ImplicitNewExpressionNode implicitNewExpressionNode) {
+            validateClientInitialization(implicitNewExpressionNode);
+            visitSyntaxNode(implicitNewExpressionNode);
+        }
+
+        @Override
+        public void visit(ExplicitNewExpressionNode explicitNewExpressionNode) {
+            validateClientInitialization(explicitNewExpressionNode);
+            visitSyntaxNode(explicitNewExpressionNode);
+        }
+
+        @Override
+        public void visit(LockStatementNode lockStatementNode) {
+            lockDepth++;
+            visitSyntaxNode(lockStatementNode);
+            lockDepth--;
+        }
+
+        @Override
+        public void visit(ForEachStatementNode forEachStatementNode) {
+            loopDepth++;
+            visitSyntaxNode(forEachStatementNode);
+            loopDepth--;
+        }
+
+        @Override
+        public void visit(WhileStatementNode whileStatementNode) {
+            if (isInfiniteLoop(whileStatementNode.condition()) && !WaitFinder.containsWait(whileStatementNode)) {
+                updateContext(context, WebSubHubDiagnosticCodes.WEBSUBHUB_111, whileStatementNode.location(),
+                        methodName);
+            }
+            loopDepth++;
+            visitSyntaxNode(whileStatementNode);
+            loopDepth--;
+        }
+
+        @Override
+        public void visit(StartActionNode startActionNode) {
+            // the remote calls started asynchronously neither hold the lock nor block the loop
+            int enclosingLockDepth = lockDepth;
+            int enclosingLoopDepth = loopDepth;
+            lockDepth = 0;
+            loopDepth = 0;
+            visitSyntaxNode(startActionNode);
+            lockDepth = enclosingLockDepth;
+            loopDepth = enclosingLoopDepth;
+        }
+
+        @Override
+        public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+            if (lockDepth > 0) {
+                updateContext(context, WebSubHubDiagnosticCodes.WEBSUBHUB_110, remoteMethodCallActionNode.location(),
+                        methodName);
+            }
+            if (loopDepth > 0 && Constants.ON_UPDATE_MESSAGE.equals(methodName)
+                    && isContentDistribution(remoteMethodCallActionNode)) {
+                updateContext(context, WebSubHubDiagnosticCodes.WEBSUBHUB_112, remoteMethodCallActionNode.location(),
+                        methodName);
+            }
+            visitSyntaxNode(remoteMethodCallActionNode);
+        }
+
+        @Override
+        public void visit(ClientResourceAccessActionNode clientResourceAccessActionNode) {
+            if (lockDepth > 0) {
+                updateContext(context, WebSubHubDiagnosticCodes.WEBSUBHUB_110,
+                        clientResourceAccessActionNode.location(), methodName);
+            }
+            visitSyntaxNode(clientResourceAccessActionNode);
+        }
+
+        private void validateClientInitialization(ExpressionNode newExpressionNode) {
+            Optional<TypeSymbol> typeSymbol = semanticModel.typeOf(newExpressionNode);
+            if (typeSymbol.isPresent() && isClientType(typeSymbol.get())) {
+                String clientType = getClientType(typeSymbol.get());
+                updateContext(context, WebSubHubDiagnosticCodes.WEBSUBHUB_109, newExpressionNode.location(),
+                        clientType, methodName);
+            }
+        }
+
+        private static String getClientType(TypeSymbol typeSymbol) {
+            if (typeSymbol.typeKind() == TypeDescKind.UNION) {
+                return ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors().stream()
+                        .map(AnalyserUtils::getTypeDescription)
+                        .filter(CLIENT_TYPES::contains)
+                        .findFirst().orElse("");
+            }
+            return getTypeDescription(typeSymbol);
+        }
+
+        private boolean isContentDistribution(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+            String remoteMethodName = remoteMethodCallActionNode.methodName().name().text();
+            if (!Constants.NOTIFY_CONTENT_DISTRIBUTION.equals(remoteMethodName)
+                    && !Constants.NOTIFY_CONTENT_DISTRIBUTION_BATCH.equals(remoteMethodName)) {
+                return false;
+            }
+            return semanticModel.typeOf(remoteMethodCallActionNode.expression())
+                    .map(type -> Constants.HUB_CLIENT.equals(getTypeDescription(type))).orElse(false);
+        }
+
+        private static boolean isInfiniteLoop(ExpressionNode condition) {
+            return condition.kind() == SyntaxKind.BOOLEAN_LITERAL && "true".equals(condition.toSourceCode().trim());
+        }
+    }
+
+    /**
+     * {@code WaitFinder} checks whether a loop yields between the iterations, by sleeping, waiting for a future,
+     * receiving from a worker or making a remote call.
+     */
+    private static final class WaitFinder extends NodeVisitor {
+        private boolean waitFound = false;
+
+        static boolean containsWait(WhileStatementNode whileStatementNode) {
+            WaitFinder waitFinder = new WaitFinder();
+            whileStatementNode.whileBody().accept(waitFinder);
+            return waitFinder.waitFound;
+        }
+
+        @Override
+        public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
+            Node functionName = functionCallExpressionNode.functionName();
+            String name = functionName instanceof QualifiedNameReferenceNode qualifiedName
+                    ? qualifiedName.identifier().text()
+                    : functionName instanceof SimpleNameReferenceNode simpleName ? simpleName.name().text() : "";
+            if (Constants.SLEEP.equals(name)) {
+                waitFound = true;
+            }
+            visitSyntaxNode(functionCallExpressionNode);
+        }
+
+        @Override
+        public void visit(WaitActionNode waitActionNode) {
+            waitFound = true;
+        }
+
+        @Override
+        public void visit(ReceiveActionNode receiveActionNode) {
+            waitFound = true;
+        }
+
+        @Override
+        public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+            waitFound = true;
+        }
+
+        @Override
+        public void visit(ClientResourceAccessActionNode clientResourceAccessActionNode) {
+            waitFound = true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@code ConcurrencyLimiter} caps the number of executions in progress of the selected remote methods of a
+ * `websubhub:Service`, so that a backend used by these methods is not flooded with concurrent calls. The executions
+ * exceeding the cap wait for a permit. The remote methods are executed on the strand of the request, which already
+ * runs on a virtual thread, hence a blocking call in them does not hold a thread of the Ballerina scheduler.
+ */
+final class ConcurrencyLimiter {
+    private final Set<String> methods;
+    private final Semaphore permits;
+
+    private final AtomicLong active = new AtomicLong();
+    private final AtomicLong waiting = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    ConcurrencyLimiter(Set<String> methods, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency should be a positive value");
+        }
+        this.methods = Set.copyOf(methods);
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    boolean isLimited(String methodName) {
+        return methods.contains(methodName);
+    }
+
+    Object execute(Supplier<Object> remoteMethod) {
+        waiting.incrementAndGet();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ErrorCreator.createError(StringUtils.fromString(
+                    "Interrupted while waiting to execute the remote method"), e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+        active.incrementAndGet();
+        boolean succeeded = false;
+        try {
+            Object result = remoteMethod.get();
+            succeeded = !(result instanceof BError);
+            return result;
+        } finally {
+            (succeeded ? completed : failed).incrementAndGet();
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    long getActive() {
+        return active.get();
+    }
+
+    long getWaiting() {
+        return waiting.get();
+    }
+
+    long getCompleted() {
+        return completed.get();
+    }
+
+    long getFailed() {
+        return failed.get();
+    }
+}
@@ -26,16 +26,29 @@ public interface Constants {
     String PACKAGE_NAME = "websubhub";
 
     String NATIVE_HUB_SERVICE = "NATIVE_HUB_SERVICE";
+    String NATIVE_DELIVERY_BACKLOG = "NATIVE_DELIVERY_BACKLOG";
+    String NATIVE_HUB_STATE_STORE = "NATIVE_HUB_STATE_STORE";
+    String NATIVE_REPLAY_LOG = "NATIVE_REPLAY_LOG";
+    String NATIVE_CONCURRENCY_LIMITER = "NATIVE_CONCURRENCY_LIMITER";
+    String NATIVE_PUBLISH_GROUP_COMMITTER = "NATIVE_PUBLISH_GROUP_COMMITTER";
+    String NATIVE_IDEMPOTENCY_CACHE = "NATIVE_IDEMPOTENCY_CACHE";
+    String NATIVE_IDEMPOTENCY_RESERVATIONS = "NATIVE_IDEMPOTENCY_RESERVATIONS";
+    String NATIVE_RENEWAL_CACHE = "NATIVE_RENEWAL_CACHE";
 
     String ON_REGISTER_TOPIC = "onRegisterTopic";
+    String ON_REGISTER_TOPICS = "onRegisterTopics";
     String ON_DEREGISTER_TOPIC = "onDeregisterTopic";
+    String ON_DEREGISTER_TOPICS = "onDeregisterTopics";
     String ON_UPDATE_MESSAGE = "onUpdateMessage";
+    String ON_UPDATE_MESSAGE_BATCH = "onUpdateMessageBatch";
     String ON_SUBSCRIPTION = "onSubscription";
     String ON_SUBSCRIPTION_VALIDATION = "onSubscriptionValidation";
     String ON_SUBSCRIPTION_INTENT_VERIFIED = "onSubscriptionIntentVerified";
+    String ON_SUBSCRIPTION_INTENT_VERIFIED_BATCH = "onSubscriptionIntentVerifiedBatch";
     String ON_UNSUBSCRIPTION = "onUnsubscription";
     String ON_UNSUBSCRIPTION_VALIDATION = "onUnsubscriptionValidation";
     String ON_UNSUBSCRIPTION_INTENT_VERIFIED = "onUnsubscriptionIntentVerified";
+    String ON_UNSUBSCRIPTION_INTENT_VERIFIED_BATCH = "onUnsubscriptionIntentVerifiedBatch";
 
     String HTTP_HEADERS_TYPE = "http:Headers";
     String WEBSUBHUB_CONTROLLER_TYPE = "websubhub:Controller";
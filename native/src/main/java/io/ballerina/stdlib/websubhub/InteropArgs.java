@@ -18,22 +18,29 @@
 
 package io.ballerina.stdlib.websubhub;
 
-import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import static io.ballerina.stdlib.websubhub.Constants.HTTP_HEADERS_TYPE;
-import static io.ballerina.stdlib.websubhub.Constants.WEBSUBHUB_CONTROLLER_TYPE;
-
 /**
  * {@code InteropArgs} is a wrapper object which contains the parameters for inter-op calls.
  */
 public class InteropArgs {
-    private final BMap<BString, Object> message;
+    private final Object message;
     private final BObject httpHeaders;
     private BObject hubController;
 
+    InteropArgs(BArray messages) {
+        this.message = messages;
+        this.httpHeaders = null;
+    }
+
+    InteropArgs(BArray messages, BObject httpHeaders) {
+        this.message = messages;
+        this.httpHeaders = httpHeaders;
+    }
+
     InteropArgs(BMap<BString, Object> message, BObject httpHeaders) {
         this.message = message;
         this.httpHeaders = httpHeaders;
@@ -45,13 +52,11 @@ public class InteropArgs {
         this.hubController = hubController;
     }
 
-    public Object getMappingArg(Type argType) {
-        String argTypeName = argType.getPackage().getName() + ":" + argType.getName();
-        if (HTTP_HEADERS_TYPE.equals(argTypeName)) {
-            return httpHeaders;
-        } else if (WEBSUBHUB_CONTROLLER_TYPE.equals(argTypeName)) {
-            return hubController;
-        }
-        return message;
+    public Object getMappingArg(NativeHubService.ParameterKind parameterKind) {
+        return switch (parameterKind) {
+            case HEADERS -> httpHeaders;
+            case CONTROLLER -> hubController;
+            default -> message;
+        };
     }
 }
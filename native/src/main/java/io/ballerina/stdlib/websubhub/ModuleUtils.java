@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.websubhub.jfr.ServicePanicEvent;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -55,6 +56,7 @@ public class ModuleUtils {
 
     public static void notifyFailure(BError bError) {
         bError.printStackTrace();
+        new ServicePanicEvent(bError.getType().getName(), bError.getMessage()).commit();
         // Service level `panic` is captured in this method.
         // Since, `panic` is due to a critical application bug or resource exhaustion we need to exit the application.
         // Please refer: https://github.com/ballerina-platform/ballerina-standard-library/issues/2714
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@code NativeCompression} provides the gzip content-encoding used for the content distribution and publishing.
+ */
+public final class NativeCompression {
+    private static final int BUFFER_SIZE = 8192;
+
+    private NativeCompression() {}
+
+    public static Object gzip(BArray content) {
+        byte[] bytes = content.getBytes();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output, BUFFER_SIZE)) {
+            gzipOutput.write(bytes);
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+        return ValueCreator.createArrayValue(output.toByteArray());
+    }
+
+    public static Object gunzip(BArray content, long maxSize) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(BUFFER_SIZE);
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(content.getBytes()), BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                if (output.size() + read > maxSize) {
+                    // distinguished from a malformed content, since the limit depends on the memory budget
+                    return null;
+                }
+                output.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+        return ValueCreator.createArrayValue(output.toByteArray());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.store.SegmentedBacklog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_DELIVERY_BACKLOG;
+
+/**
+ * {@code NativeDeliveryBacklog} provides the native implementation of the `websubhub:DeliveryBacklog`.
+ */
+public final class NativeDeliveryBacklog {
+
+    private NativeDeliveryBacklog() {}
+
+    public static Object externInit(BObject backlog, BString directory, long inMemoryCapacity, long segmentSize) {
+        try {
+            SegmentedBacklog segmentedBacklog = new SegmentedBacklog(
+                    Path.of(directory.getValue()), Math.toIntExact(inMemoryCapacity), Math.toIntExact(segmentSize));
+            backlog.addNativeData(NATIVE_DELIVERY_BACKLOG, segmentedBacklog);
+            return null;
+        } catch (IOException | IllegalArgumentException | ArithmeticException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object offer(BObject backlog, BArray message) {
+        try {
+            getBacklog(backlog).offer(message.getBytes());
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object peek(BObject backlog) {
+        try {
+            byte[] message = getBacklog(backlog).peek();
+            return message == null ? null : ValueCreator.createArrayValue(message);
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object acknowledge(BObject backlog) {
+        try {
+            return getBacklog(backlog).acknowledge();
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static long size(BObject backlog) {
+        return getBacklog(backlog).size();
+    }
+
+    public static Object close(BObject backlog) {
+        try {
+            getBacklog(backlog).close();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    private static SegmentedBacklog getBacklog(BObject backlog) {
+        return (SegmentedBacklog) backlog.getNativeData(NATIVE_DELIVERY_BACKLOG);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.jfr.ContentDeliveryEvent;
+import io.ballerina.stdlib.websubhub.jfr.IntentVerificationEvent;
+import jdk.jfr.EventType;
+
+import java.net.URI;
+
+/**
+ * {@code NativeFlightRecorder} emits the JDK Flight Recorder events of the Ballerina side of the hub. An event is only
+ * created while its type is enabled in the recording settings, otherwise a `null` handle is returned and committing
+ * it is a no-op.
+ */
+public final class NativeFlightRecorder {
+    private static final EventType INTENT_VERIFICATION = EventType.getEventType(IntentVerificationEvent.class);
+    private static final EventType CONTENT_DELIVERY = EventType.getEventType(ContentDeliveryEvent.class);
+
+    private NativeFlightRecorder() {}
+
+    public static Object beginIntentVerificationEvent() {
+        if (!INTENT_VERIFICATION.isEnabled()) {
+            return null;
+        }
+        IntentVerificationEvent event = new IntentVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitIntentVerificationEvent(Object event, BString mode, BString topic, BString callback,
+                                                     long statusCode, boolean verified) {
+        if (event instanceof IntentVerificationEvent verificationEvent) {
+            verificationEvent.complete(mode.getValue(), topic.getValue(), getHost(callback), (int) statusCode,
+                    verified);
+        }
+    }
+
+    public static Object beginContentDeliveryEvent() {
+        if (!CONTENT_DELIVERY.isEnabled()) {
+            return null;
+        }
+        ContentDeliveryEvent event = new ContentDeliveryEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitContentDeliveryEvent(Object event, BString topic, BString callback, long statusCode,
+                                                  long bytes) {
+        if (event instanceof ContentDeliveryEvent deliveryEvent) {
+            deliveryEvent.complete(topic.getValue(), getHost(callback), (int) statusCode, bytes);
+        }
+    }
+
+    private static String getHost(BString callback) {
+        try {
+            String host = URI.create(callback.getValue()).getHost();
+            return host != null ? host : callback.getValue();
+        } catch (IllegalArgumentException e) {
+            return callback.getValue();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.store.ExpiringCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * {@code NativeHmac} generates the content signatures using pooled {@code Mac} instances, which are initialized once
+ * per secret and algorithm instead of once per message. The pools are retained in an LRU cache, hence the pools of
+ * the least recently used secrets are evicted once the number of secrets exceeds its capacity.
+ */
+public final class NativeHmac {
+    private static final String HMAC_SHA256 = "sha256";
+    private static final String HMAC_SHA512 = "sha512";
+    private static final int MAX_CACHED_KEYS = 1024;
+    private static final int MAX_POOLED_INSTANCES = 16;
+    private static final long POOL_TTL_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private static final ExpiringCache<Queue<Mac>> MAC_POOLS = new ExpiringCache<>(MAX_CACHED_KEYS);
+
+    private NativeHmac() {}
+
+    public static Object sign(BString algorithm, BString key, BArray payload) {
+        String jcaAlgorithm = toJcaAlgorithm(algorithm.getValue());
+        if (jcaAlgorithm == null) {
+            return ErrorCreator.createError(StringUtils.fromString(
+                    "Unsupported signature algorithm: " + algorithm.getValue()));
+        }
+        String secret = key.getValue();
+        // the JCA algorithm names do not contain a `:`, hence the cache key is unique for each algorithm and secret
+        String poolKey = jcaAlgorithm + ":" + secret;
+        Queue<Mac> pool = MAC_POOLS.get(poolKey);
+        if (pool == null) {
+            // a pool created concurrently for the same key is replaced, which only discards its idle instances
+            pool = new ConcurrentLinkedQueue<>();
+            MAC_POOLS.put(poolKey, pool, POOL_TTL_NANOS);
+        }
+        Mac mac = pool.poll();
+        try {
+            if (mac == null) {
+                mac = Mac.getInstance(jcaAlgorithm);
+                mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), jcaAlgorithm));
+            }
+            // the backing array is signed in place instead of copying the payload, and `doFinal` resets the instance,
+            // hence it could be reused for the next message with the same key
+            mac.update(payload.getByteArray(), 0, payload.size());
+            byte[] signature = mac.doFinal();
+            if (pool.size() < MAX_POOLED_INSTANCES) {
+                pool.offer(mac);
+            }
+            return ValueCreator.createArrayValue(signature);
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IllegalArgumentException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    private static String toJcaAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case HMAC_SHA256 -> "HmacSHA256";
+            case HMAC_SHA512 -> "HmacSHA512";
+            default -> null;
+        };
+    }
+}
@@ -19,46 +19,111 @@
 package io.ballerina.stdlib.websubhub;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.IntersectionType;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.jfr.RemoteMethodInvocationEvent;
 
 import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static io.ballerina.stdlib.websubhub.Constants.ON_DEREGISTER_TOPIC;
+import static io.ballerina.stdlib.websubhub.Constants.ON_DEREGISTER_TOPICS;
 import static io.ballerina.stdlib.websubhub.Constants.ON_REGISTER_TOPIC;
+import static io.ballerina.stdlib.websubhub.Constants.ON_REGISTER_TOPICS;
 import static io.ballerina.stdlib.websubhub.Constants.ON_SUBSCRIPTION;
 import static io.ballerina.stdlib.websubhub.Constants.ON_SUBSCRIPTION_INTENT_VERIFIED;
+import static io.ballerina.stdlib.websubhub.Constants.ON_SUBSCRIPTION_INTENT_VERIFIED_BATCH;
 import static io.ballerina.stdlib.websubhub.Constants.ON_SUBSCRIPTION_VALIDATION;
 import static io.ballerina.stdlib.websubhub.Constants.ON_UNSUBSCRIPTION;
 import static io.ballerina.stdlib.websubhub.Constants.ON_UNSUBSCRIPTION_INTENT_VERIFIED;
+import static io.ballerina.stdlib.websubhub.Constants.ON_UNSUBSCRIPTION_INTENT_VERIFIED_BATCH;
 import static io.ballerina.stdlib.websubhub.Constants.ON_UNSUBSCRIPTION_VALIDATION;
 import static io.ballerina.stdlib.websubhub.Constants.ON_UPDATE_MESSAGE;
+import static io.ballerina.stdlib.websubhub.Constants.ON_UPDATE_MESSAGE_BATCH;
 import static io.ballerina.stdlib.websubhub.Constants.NATIVE_HUB_SERVICE;
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_CONCURRENCY_LIMITER;
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_PUBLISH_GROUP_COMMITTER;
 
 /**
  * {@code NativeHttpToWebsubhubAdaptor} is a wrapper object used for service method execution.
  */
 public final class NativeHttpToWebsubhubAdaptor {
     private static final PrintStream LOGGER = System.out;
+    private static final BString OFFLOAD = StringUtils.fromString("offload");
+    private static final BString PUBLISH_BATCH = StringUtils.fromString("publishBatch");
+    private static final BString METHODS = StringUtils.fromString("methods");
+    private static final BString MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString MAX_MESSAGES = StringUtils.fromString("maxMessages");
+    private static final BString MAX_DELAY = StringUtils.fromString("maxDelay");
+    private static final String OFFLOAD_METRICS_RECORD = "OffloadMetrics";
+    private static final String ACTIVE_FIELD = "active";
+    private static final String WAITING_FIELD = "waiting";
+    private static final String COMPLETED_FIELD = "completed";
+    private static final String FAILED_FIELD = "failed";
 
     private NativeHttpToWebsubhubAdaptor() {}
 
-    public static void externInit(BObject adaptor, BObject serviceObj) {
-        adaptor.addNativeData(NATIVE_HUB_SERVICE, new NativeHubService(serviceObj));
+    @SuppressWarnings("unchecked")
+    public static Object externInit(BObject adaptor, BObject serviceObj, Object dispatchDescriptor,
+                                    Object serviceConfig) {
+        BMap<BString, Object> descriptor = dispatchDescriptor instanceof BMap
+                ? (BMap<BString, Object>) dispatchDescriptor : null;
+        NativeHubService nativeHubService = new NativeHubService(serviceObj, descriptor);
+        if (serviceConfig instanceof BMap) {
+            BMap<BString, Object> config = (BMap<BString, Object>) serviceConfig;
+            try {
+                if (config.get(OFFLOAD) instanceof BMap) {
+                    BMap<BString, Object> offloadConfig = (BMap<BString, Object>) config.get(OFFLOAD);
+                    Set<String> methods = new HashSet<>(Arrays.asList(
+                            offloadConfig.getArrayValue(METHODS).getStringArray()));
+                    serviceObj.addNativeData(NATIVE_CONCURRENCY_LIMITER, new ConcurrencyLimiter(
+                            methods, Math.toIntExact(offloadConfig.getIntValue(MAX_CONCURRENCY))));
+                }
+                if (config.get(PUBLISH_BATCH) instanceof BMap) {
+                    if (!nativeHubService.getRemoteMethodNames().contains(ON_UPDATE_MESSAGE_BATCH)) {
+                        return ErrorCreator.createError(StringUtils.fromString(String.format(
+                                "`%s` remote method is required for the publish batching", ON_UPDATE_MESSAGE_BATCH)));
+                    }
+                    BMap<BString, Object> batchConfig = (BMap<BString, Object>) config.get(PUBLISH_BATCH);
+                    long maxDelayNanos = ((BDecimal) batchConfig.get(MAX_DELAY)).decimalValue()
+                            .movePointRight(9).longValue();
+                    adaptor.addNativeData(NATIVE_PUBLISH_GROUP_COMMITTER, new PublishGroupCommitter(
+                            Math.toIntExact(batchConfig.getIntValue(MAX_MESSAGES)), maxDelayNanos));
+                }
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+            }
+        }
+        adaptor.addNativeData(NATIVE_HUB_SERVICE, nativeHubService);
+        return null;
+    }
+
+    public static Object getOffloadMetrics(BObject serviceObj) {
+        if (!(serviceObj.getNativeData(NATIVE_CONCURRENCY_LIMITER) instanceof ConcurrencyLimiter limiter)) {
+            return null;
+        }
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(ACTIVE_FIELD, limiter.getActive());
+        fields.put(WAITING_FIELD, limiter.getWaiting());
+        fields.put(COMPLETED_FIELD, limiter.getCompleted());
+        fields.put(FAILED_FIELD, limiter.getFailed());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), OFFLOAD_METRICS_RECORD, fields);
     }
 
     public static BArray getServiceMethodNames(BObject adaptor) {
@@ -72,153 +137,159 @@ public final class NativeHttpToWebsubhubAdaptor {
                                             BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_REGISTER_TOPIC);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_REGISTER_TOPIC, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_REGISTER_TOPIC, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
-                "callRegisterMethod", ON_REGISTER_TOPIC);
+                "callRegisterMethod", ON_REGISTER_TOPIC, event);
     }
 
     public static Object callDeregisterMethod(Environment env, BObject adaptor,
                                               BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_DEREGISTER_TOPIC);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_DEREGISTER_TOPIC, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_DEREGISTER_TOPIC, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
-                "callDeregisterMethod", ON_DEREGISTER_TOPIC);
+                "callDeregisterMethod", ON_DEREGISTER_TOPIC, event);
+    }
+
+    public static Object callRegisterTopicsMethod(Environment env, BObject adaptor, BArray messages,
+                                                  BObject bHttpHeaders) {
+        NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
+        BObject bHubService = nativeHubService.getBHubService();
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_REGISTER_TOPICS, messages);
+        InteropArgs interopArgs = new InteropArgs(messages, bHttpHeaders);
+        Object[] args = nativeHubService.resolveArgs(ON_REGISTER_TOPICS, interopArgs);
+        return invokeRemoteFunction(env, bHubService, args,
+                "callRegisterTopicsMethod", ON_REGISTER_TOPICS, event);
+    }
+
+    public static Object callDeregisterTopicsMethod(Environment env, BObject adaptor, BArray messages,
+                                                    BObject bHttpHeaders) {
+        NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
+        BObject bHubService = nativeHubService.getBHubService();
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_DEREGISTER_TOPICS, messages);
+        InteropArgs interopArgs = new InteropArgs(messages, bHttpHeaders);
+        Object[] args = nativeHubService.resolveArgs(ON_DEREGISTER_TOPICS, interopArgs);
+        return invokeRemoteFunction(env, bHubService, args,
+                "callDeregisterTopicsMethod", ON_DEREGISTER_TOPICS, event);
     }
 
     public static Object callOnUpdateMethod(Environment env, BObject adaptor,
                                             BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_UPDATE_MESSAGE);
-        if (isReadOnly) {
-            message.freezeDirect();
+        if (adaptor.getNativeData(NATIVE_PUBLISH_GROUP_COMMITTER) instanceof PublishGroupCommitter committer) {
+            return invokeGroupCommit(env, nativeHubService, committer, message);
         }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_UPDATE_MESSAGE, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_UPDATE_MESSAGE, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
-                "callOnUpdateMethod", ON_UPDATE_MESSAGE);
+                "callOnUpdateMethod", ON_UPDATE_MESSAGE, event);
     }
 
     public static Object callOnSubscriptionMethod(Environment env, BObject adaptor, BMap<BString, Object> message,
                                                   BObject bHttpHeaders, BObject bHubController) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_SUBSCRIPTION);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_SUBSCRIPTION, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders, bHubController);
         Object[] args = nativeHubService.resolveArgs(ON_SUBSCRIPTION, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
-                "callOnSubscriptionMethod", ON_SUBSCRIPTION);
+                "callOnSubscriptionMethod", ON_SUBSCRIPTION, event);
     }
 
     public static Object callOnSubscriptionValidationMethod(Environment env, BObject adaptor,
                                                             BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_SUBSCRIPTION_VALIDATION);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_SUBSCRIPTION_VALIDATION, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_SUBSCRIPTION_VALIDATION, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
-                "callOnSubscriptionValidationMethod", ON_SUBSCRIPTION_VALIDATION);
+                "callOnSubscriptionValidationMethod", ON_SUBSCRIPTION_VALIDATION, event);
     }
 
     public static Object callOnSubscriptionIntentVerifiedMethod(Environment env, BObject adaptor,
                                                                 BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_SUBSCRIPTION_INTENT_VERIFIED);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(
+                nativeHubService, ON_SUBSCRIPTION_INTENT_VERIFIED, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_SUBSCRIPTION_INTENT_VERIFIED, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
                 "callOnSubscriptionIntentVerifiedMethod",
-                ON_SUBSCRIPTION_INTENT_VERIFIED);
+                ON_SUBSCRIPTION_INTENT_VERIFIED, event);
+    }
+
+    public static Object callOnSubscriptionIntentVerifiedBatchMethod(Environment env, BObject adaptor,
+                                                                     BArray messages) {
+        NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
+        BObject bHubService = nativeHubService.getBHubService();
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(
+                nativeHubService, ON_SUBSCRIPTION_INTENT_VERIFIED_BATCH, messages);
+        Object[] args = nativeHubService.resolveArgs(ON_SUBSCRIPTION_INTENT_VERIFIED_BATCH, new InteropArgs(messages));
+        return invokeRemoteFunction(env, bHubService, args, "callOnSubscriptionIntentVerifiedBatchMethod",
+                ON_SUBSCRIPTION_INTENT_VERIFIED_BATCH, event);
     }
 
     public static Object callOnUnsubscriptionMethod(Environment env, BObject adaptor, BMap<BString, Object> message,
                                                     BObject bHttpHeaders, BObject bHubController) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_UNSUBSCRIPTION);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_UNSUBSCRIPTION, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders, bHubController);
         Object[] args = nativeHubService.resolveArgs(ON_UNSUBSCRIPTION, interopArgs);
         return invokeRemoteFunction(env, bHubService, args,
-                "callOnUnsubscriptionMethod", ON_UNSUBSCRIPTION);
+                "callOnUnsubscriptionMethod", ON_UNSUBSCRIPTION, event);
     }
 
     public static Object callOnUnsubscriptionValidationMethod(Environment env, BObject adaptor,
                                                               BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_UNSUBSCRIPTION_VALIDATION);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(nativeHubService, ON_UNSUBSCRIPTION_VALIDATION, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_UNSUBSCRIPTION_VALIDATION, interopArgs);
         return invokeRemoteFunction(env, bHubService, args, "callOnUnsubscriptionValidationMethod",
-                ON_UNSUBSCRIPTION_VALIDATION);
+                ON_UNSUBSCRIPTION_VALIDATION, event);
     }
 
     public static Object callOnUnsubscriptionIntentVerifiedMethod(Environment env, BObject adaptor,
                                                                   BMap<BString, Object> message, BObject bHttpHeaders) {
         NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
         BObject bHubService = nativeHubService.getBHubService();
-        boolean isReadOnly = isReadOnlyParam(bHubService, ON_UNSUBSCRIPTION_INTENT_VERIFIED);
-        if (isReadOnly) {
-            message.freezeDirect();
-        }
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(
+                nativeHubService, ON_UNSUBSCRIPTION_INTENT_VERIFIED, message);
         InteropArgs interopArgs = new InteropArgs(message, bHttpHeaders);
         Object[] args = nativeHubService.resolveArgs(ON_UNSUBSCRIPTION_INTENT_VERIFIED, interopArgs);
         return invokeRemoteFunction(env, bHubService, args, "callOnUnsubscriptionIntentVerifiedMethod",
-                ON_UNSUBSCRIPTION_INTENT_VERIFIED);
-    }
-
-    private static boolean isReadOnlyParam(BObject serviceObj, String remoteMethod) {
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObj));
-        for (MethodType method : objectType.getMethods()) {
-            if (method.getName().equals(remoteMethod)) {
-                Parameter[] parameters = method.getParameters();
-                if (parameters.length >= 1) {
-                    Parameter parameter = parameters[0];
-                    Type paramType = parameter.type;
-                    if (paramType instanceof IntersectionType) {
-                        List<Type> constituentTypes = ((IntersectionType) paramType).getConstituentTypes();
-                        return constituentTypes.stream().anyMatch(t -> TypeTags.READONLY_TAG == t.getTag());
-                    }
-                }
-            }
-        }
-        return false;
+                ON_UNSUBSCRIPTION_INTENT_VERIFIED, event);
+    }
+
+    public static Object callOnUnsubscriptionIntentVerifiedBatchMethod(Environment env, BObject adaptor,
+                                                                       BArray messages) {
+        NativeHubService nativeHubService = (NativeHubService) adaptor.getNativeData(NATIVE_HUB_SERVICE);
+        BObject bHubService = nativeHubService.getBHubService();
+        RemoteMethodInvocationEvent event = freezeIfReadOnly(
+                nativeHubService, ON_UNSUBSCRIPTION_INTENT_VERIFIED_BATCH, messages);
+        Object[] args = nativeHubService.resolveArgs(
+                ON_UNSUBSCRIPTION_INTENT_VERIFIED_BATCH, new InteropArgs(messages));
+        return invokeRemoteFunction(env, bHubService, args, "callOnUnsubscriptionIntentVerifiedBatchMethod",
+                ON_UNSUBSCRIPTION_INTENT_VERIFIED_BATCH, event);
     }
 
     private static Object invokeRemoteFunction(Environment env, BObject bHubService, Object[] args,
-                                               String parentFunctionName, String remoteFunctionName) {
+                                               String parentFunctionName, String remoteFunctionName,
+                                               RemoteMethodInvocationEvent event) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             try {
-                Object result = env.getRuntime().callMethod(bHubService, remoteFunctionName, null, args);
+                Object result = callRemoteMethod(env, bHubService, remoteFunctionName, args, event);
                 ModuleUtils.notifySuccess(balFuture, result);
                 return ModuleUtils.getResult(balFuture);
             } catch (BError bError) {
@@ -227,4 +298,59 @@ public final class NativeHttpToWebsubhubAdaptor {
             return null;
         });
     }
+
+    private static Object invokeGroupCommit(Environment env, NativeHubService nativeHubService,
+                                            PublishGroupCommitter committer, BMap<BString, Object> message) {
+        BObject bHubService = nativeHubService.getBHubService();
+        return env.yieldAndRun(() -> {
+            try {
+                return committer.submit(message, messages -> {
+                    BArray batch = ValueCreator.createArrayValue(messages.toArray(),
+                            TypeCreator.createArrayType(messages.get(0).getType()));
+                    RemoteMethodInvocationEvent event = freezeIfReadOnly(
+                            nativeHubService, ON_UPDATE_MESSAGE_BATCH, batch);
+                    Object[] args = nativeHubService.resolveArgs(ON_UPDATE_MESSAGE_BATCH, new InteropArgs(batch));
+                    return callRemoteMethod(env, bHubService, ON_UPDATE_MESSAGE_BATCH, args, event);
+                });
+            } catch (BError bError) {
+                ModuleUtils.notifyFailure(bError);
+            }
+            return null;
+        });
+    }
+
+    private static RemoteMethodInvocationEvent freezeIfReadOnly(NativeHubService nativeHubService,
+                                                                String remoteFunctionName, BRefValue message) {
+        RemoteMethodInvocationEvent event = new RemoteMethodInvocationEvent(remoteFunctionName);
+        if (!nativeHubService.isReadOnlyMessage(remoteFunctionName)) {
+            return event;
+        }
+        if (!event.isEnabled()) {
+            message.freezeDirect();
+            return event;
+        }
+        long freezeStartTime = System.nanoTime();
+        message.freezeDirect();
+        event.setFreezeDuration(System.nanoTime() - freezeStartTime);
+        return event;
+    }
+
+    private static Object callRemoteMethod(Environment env, BObject bHubService, String remoteFunctionName,
+                                           Object[] args, RemoteMethodInvocationEvent event) {
+        Supplier<Object> remoteMethod = () -> env.getRuntime().callMethod(
+                bHubService, remoteFunctionName, null, args);
+        ConcurrencyLimiter limiter = bHubService.getNativeData(NATIVE_CONCURRENCY_LIMITER) instanceof
+                ConcurrencyLimiter serviceLimiter && serviceLimiter.isLimited(remoteFunctionName)
+                ? serviceLimiter : null;
+        boolean limited = limiter != null;
+        event.begin();
+        try {
+            Object result = limited ? limiter.execute(remoteMethod) : remoteMethod.get();
+            event.complete(limited, result instanceof BError);
+            return result;
+        } catch (BError bError) {
+            event.complete(limited, true);
+            throw bError;
+        }
+    }
 }
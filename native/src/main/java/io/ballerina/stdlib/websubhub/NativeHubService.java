@@ -18,35 +18,53 @@
 
 package io.ballerina.stdlib.websubhub;
 
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
+
+import static io.ballerina.stdlib.websubhub.Constants.HTTP_HEADERS_TYPE;
+import static io.ballerina.stdlib.websubhub.Constants.WEBSUBHUB_CONTROLLER_TYPE;
 
 /**
  * {@code NativeBHubService} is a Java wrapper for Ballerina `websubhub:Service` object.
  */
 public class NativeHubService {
-    private final BObject bHubService;
-    private final Map<String, List<Type>> methodParameterMapping = new HashMap<>();
+    private static final BString METHODS = StringUtils.fromString("methods");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString PARAMETERS = StringUtils.fromString("parameters");
+    private static final BString READONLY_MESSAGE = StringUtils.fromString("readonlyMessage");
 
+    private final BObject bHubService;
+    private final Map<String, RemoteMethod> remoteMethods = new HashMap<>();
 
-    NativeHubService(BObject bHubService) {
-        RemoteMethodType[] remoteMethods = ((ServiceType) TypeUtils.getType(bHubService)).getRemoteMethods();
-        for (RemoteMethodType remoteMethod: remoteMethods) {
-            String methodName = remoteMethod.getName();
-            List<Type> paramTypeInOrder = Stream.of(remoteMethod.getParameters()).map(p -> p.type).toList();
-            methodParameterMapping.put(methodName, paramTypeInOrder);
-        }
+    /**
+     * Creates the wrapper for a `websubhub:Service`. The remote method details are loaded from the dispatch
+     * descriptor generated by the compiler plugin, and are only resolved by reflection if the descriptor is not
+     * available (e.g. for a service object which is not declared as a service declaration).
+     *
+     * @param bHubService        the `websubhub:Service` object
+     * @param dispatchDescriptor the `websubhub:DispatchDescriptor` of the service or else {@code null}
+     */
+    NativeHubService(BObject bHubService, BMap<BString, Object> dispatchDescriptor) {
         this.bHubService = bHubService;
+        if (dispatchDescriptor != null) {
+            loadDispatchDescriptor(dispatchDescriptor);
+        } else {
+            resolveRemoteMethods(bHubService);
+        }
     }
 
     public BObject getBHubService() {
@@ -54,15 +72,84 @@ public class NativeHubService {
     }
 
     public Set<String> getRemoteMethodNames() {
-        return methodParameterMapping.keySet();
+        return remoteMethods.keySet();
+    }
+
+    public boolean isReadOnlyMessage(String methodName) {
+        RemoteMethod remoteMethod = remoteMethods.get(methodName);
+        return remoteMethod != null && remoteMethod.readOnlyMessage();
     }
 
     public Object[] resolveArgs(String methodName, InteropArgs interopArgs) {
-        List<Type> argTypes = methodParameterMapping.getOrDefault(methodName, Collections.emptyList());
-        Object[] args = new Object[argTypes.size()];
-        for (int i = 0; i < argTypes.size(); i++) {
-            args[i] = interopArgs.getMappingArg(argTypes.get(i));
+        RemoteMethod remoteMethod = remoteMethods.get(methodName);
+        if (remoteMethod == null) {
+            return new Object[0];
+        }
+        ParameterKind[] parameters = remoteMethod.parameters();
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = interopArgs.getMappingArg(parameters[i]);
         }
         return args;
     }
+
+    private void loadDispatchDescriptor(BMap<BString, Object> dispatchDescriptor) {
+        BArray methods = dispatchDescriptor.getArrayValue(METHODS);
+        for (int i = 0; i < methods.size(); i++) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> method = (BMap<BString, Object>) methods.get(i);
+            BArray parameterKinds = method.getArrayValue(PARAMETERS);
+            ParameterKind[] parameters = new ParameterKind[parameterKinds.size()];
+            for (int j = 0; j < parameters.length; j++) {
+                parameters[j] = ParameterKind.valueOf(parameterKinds.getBString(j).getValue());
+            }
+            remoteMethods.put(method.getStringValue(NAME).getValue(),
+                    new RemoteMethod(parameters, method.getBooleanValue(READONLY_MESSAGE)));
+        }
+    }
+
+    private void resolveRemoteMethods(BObject bHubService) {
+        ServiceType serviceType = (ServiceType) TypeUtils.getReferredType(TypeUtils.getType(bHubService));
+        for (RemoteMethodType remoteMethod : serviceType.getRemoteMethods()) {
+            Parameter[] methodParameters = remoteMethod.getParameters();
+            ParameterKind[] parameters = new ParameterKind[methodParameters.length];
+            for (int i = 0; i < methodParameters.length; i++) {
+                parameters[i] = getParameterKind(methodParameters[i].type);
+            }
+            boolean readOnlyMessage = methodParameters.length >= 1 && isReadOnly(methodParameters[0].type);
+            remoteMethods.put(remoteMethod.getName(), new RemoteMethod(parameters, readOnlyMessage));
+        }
+    }
+
+    private static ParameterKind getParameterKind(Type paramType) {
+        String paramTypeName = paramType.getPackage().getName() + ":" + paramType.getName();
+        if (HTTP_HEADERS_TYPE.equals(paramTypeName)) {
+            return ParameterKind.HEADERS;
+        } else if (WEBSUBHUB_CONTROLLER_TYPE.equals(paramTypeName)) {
+            return ParameterKind.CONTROLLER;
+        }
+        return ParameterKind.MESSAGE;
+    }
+
+    private static boolean isReadOnly(Type paramType) {
+        if (paramType instanceof IntersectionType intersectionType) {
+            return intersectionType.getConstituentTypes().stream().anyMatch(t -> TypeTags.READONLY_TAG == t.getTag());
+        }
+        return false;
+    }
+
+    /**
+     * Kinds of the parameters of a remote method of a `websubhub:Service`.
+     */
+    enum ParameterKind {
+        MESSAGE,
+        HEADERS,
+        CONTROLLER
+    }
+
+    private record RemoteMethod(ParameterKind[] parameters, boolean readOnlyMessage) {
+        private RemoteMethod {
+            parameters = parameters.clone();
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.store.HubStateStore;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_HUB_STATE_STORE;
+
+/**
+ * {@code NativeHubStateStore} provides the native implementation of the `websubhub:HubStateStore`.
+ */
+public final class NativeHubStateStore {
+
+    private NativeHubStateStore() {}
+
+    public static Object externInit(BObject store, BString directory, boolean syncOnWrite, long compactionThreshold) {
+        try {
+            HubStateStore stateStore = new HubStateStore(
+                    Path.of(directory.getValue()), syncOnWrite, Math.toIntExact(compactionThreshold));
+            store.addNativeData(NATIVE_HUB_STATE_STORE, stateStore);
+            return null;
+        } catch (IOException | IllegalArgumentException | ArithmeticException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object put(BObject store, long namespace, BString key, BString value) {
+        try {
+            getStore(store).put((int) namespace, key.getValue(), value.getValue().getBytes(StandardCharsets.UTF_8));
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object remove(BObject store, long namespace, BString key) {
+        try {
+            getStore(store).remove((int) namespace, key.getValue());
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object values(BObject store, long namespace) {
+        try {
+            List<byte[]> values = getStore(store).values((int) namespace);
+            BString[] result = new BString[values.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = StringUtils.fromString(new String(values.get(i), StandardCharsets.UTF_8));
+            }
+            return ValueCreator.createArrayValue(result);
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object compact(BObject store) {
+        try {
+            getStore(store).compact();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object close(BObject store) {
+        try {
+            getStore(store).close();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    private static HubStateStore getStore(BObject store) {
+        return (HubStateStore) store.getNativeData(NATIVE_HUB_STATE_STORE);
+    }
+}
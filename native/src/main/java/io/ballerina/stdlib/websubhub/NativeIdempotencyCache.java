@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.store.ExpiringCache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_IDEMPOTENCY_CACHE;
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_IDEMPOTENCY_RESERVATIONS;
+
+/**
+ * {@code NativeIdempotencyCache} provides the native implementation of the `websubhub:IdempotencyCache`. An idempotency
+ * key is reserved while its original request is in progress, so that a concurrent duplicate waits for the result of
+ * the original request instead of being dispatched again.
+ */
+public final class NativeIdempotencyCache {
+
+    private NativeIdempotencyCache() {}
+
+    public static Object externInit(BObject cache, long capacity, BDecimal window) {
+        try {
+            if (toNanos(window) <= 0) {
+                throw new IllegalArgumentException("Retention window should be a positive value");
+            }
+            cache.addNativeData(NATIVE_IDEMPOTENCY_CACHE, new ExpiringCache<>(Math.toIntExact(capacity)));
+            Map<String, CompletableFuture<Object>> reservations = new ConcurrentHashMap<>();
+            cache.addNativeData(NATIVE_IDEMPOTENCY_RESERVATIONS, reservations);
+            return null;
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object get(BObject cache, BString key) {
+        return getCache(cache).get(key.getValue());
+    }
+
+    public static Object reserve(BObject cache, BString key, BDecimal timeout) {
+        ExpiringCache<Object> results = getCache(cache);
+        Map<String, CompletableFuture<Object>> reservations = getReservations(cache);
+        while (true) {
+            Object result = results.get(key.getValue());
+            if (result != null) {
+                return result;
+            }
+            CompletableFuture<Object> reservation = new CompletableFuture<>();
+            CompletableFuture<Object> inProgress = reservations.putIfAbsent(key.getValue(), reservation);
+            if (inProgress == null) {
+                // the original request might have completed in between the lookup and the reservation
+                result = results.get(key.getValue());
+                if (result != null) {
+                    reservations.remove(key.getValue(), reservation);
+                    reservation.complete(result);
+                }
+                return result;
+            }
+            try {
+                result = inProgress.get(toNanos(timeout), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return ErrorCreator.createError(StringUtils.fromString(
+                        "Timed out while waiting for the original request"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorCreator.createError(StringUtils.fromString(
+                        "Interrupted while waiting for the original request"));
+            } catch (ExecutionException e) {
+                result = null;
+            }
+            if (result != null) {
+                return result;
+            }
+            // the original request has failed, hence the key is reserved again
+        }
+    }
+
+    public static void put(BObject cache, BString key, Object result, BDecimal window) {
+        getCache(cache).put(key.getValue(), result, toNanos(window));
+        CompletableFuture<Object> reservation = getReservations(cache).remove(key.getValue());
+        if (reservation != null) {
+            reservation.complete(result);
+        }
+    }
+
+    public static void release(BObject cache, BString key) {
+        CompletableFuture<Object> reservation = getReservations(cache).remove(key.getValue());
+        if (reservation != null) {
+            reservation.complete(null);
+        }
+    }
+
+    public static long size(BObject cache) {
+        return getCache(cache).size();
+    }
+
+    private static long toNanos(BDecimal seconds) {
+        return seconds.decimalValue().movePointRight(9).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExpiringCache<Object> getCache(BObject cache) {
+        return (ExpiringCache<Object>) cache.getNativeData(NATIVE_IDEMPOTENCY_CACHE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, CompletableFuture<Object>> getReservations(BObject cache) {
+        return (Map<String, CompletableFuture<Object>>) cache.getNativeData(NATIVE_IDEMPOTENCY_RESERVATIONS);
+    }
+}
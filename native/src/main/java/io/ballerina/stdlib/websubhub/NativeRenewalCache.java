@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.store.ExpiringCache;
+
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_RENEWAL_CACHE;
+
+/**
+ * {@code NativeRenewalCache} provides the native implementation of the `websubhub:RenewalCache`, which retains the
+ * verified subscriptions until their lease expires.
+ */
+public final class NativeRenewalCache {
+
+    private NativeRenewalCache() {}
+
+    public static Object externInit(BObject cache, long capacity) {
+        try {
+            cache.addNativeData(NATIVE_RENEWAL_CACHE, new ExpiringCache<>(Math.toIntExact(capacity)));
+            return null;
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object get(BObject cache, BString key) {
+        return getCache(cache).get(key.getValue());
+    }
+
+    public static void put(BObject cache, BString key, Object lease, BDecimal leaseSeconds) {
+        getCache(cache).put(key.getValue(), lease, leaseSeconds.decimalValue().movePointRight(9).longValue());
+    }
+
+    public static void remove(BObject cache, BString key) {
+        getCache(cache).remove(key.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExpiringCache<Object> getCache(BObject cache) {
+        return (ExpiringCache<Object>) cache.getNativeData(NATIVE_RENEWAL_CACHE);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.websubhub.store.LogEntry;
+import io.ballerina.stdlib.websubhub.store.ReplayLog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.websubhub.Constants.NATIVE_REPLAY_LOG;
+
+/**
+ * {@code NativeReplayLog} provides the native implementation of the `websubhub:ReplayLog`.
+ */
+public final class NativeReplayLog {
+    private static final String LOG_ENTRY_RECORD = "LogEntry";
+    private static final String OFFSET_FIELD = "offset";
+    private static final String TIMESTAMP_FIELD = "timestamp";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    // resolved on the first read, since the module is only available once it has been initialized
+    private static volatile ArrayType logEntriesType;
+
+    private NativeReplayLog() {}
+
+    public static Object externInit(BObject replayLog, BString directory, long segmentSize, long retentionCount,
+                                    long retentionMillis) {
+        try {
+            ReplayLog log = new ReplayLog(Path.of(directory.getValue()), segmentSize, retentionCount, retentionMillis);
+            replayLog.addNativeData(NATIVE_REPLAY_LOG, log);
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object append(BObject replayLog, BString topic, long timestamp, BArray payload) {
+        try {
+            return getReplayLog(replayLog).append(topic.getValue(), timestamp, payload.getBytes());
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object read(BObject replayLog, BString topic, long fromOffset, long maxEntries) {
+        try {
+            List<LogEntry> entries = getReplayLog(replayLog).read(
+                    topic.getValue(), fromOffset, Math.toIntExact(maxEntries));
+            BArray result = ValueCreator.createArrayValue(getLogEntriesType());
+            for (LogEntry entry : entries) {
+                Map<String, Object> fields = new HashMap<>();
+                fields.put(OFFSET_FIELD, entry.offset());
+                fields.put(TIMESTAMP_FIELD, entry.timestamp());
+                fields.put(PAYLOAD_FIELD, ValueCreator.createArrayValue(entry.payload()));
+                BMap<BString, Object> record = ValueCreator.createRecordValue(
+                        ModuleUtils.getModule(), LOG_ENTRY_RECORD, fields);
+                result.append(record);
+            }
+            return result;
+        } catch (IOException | ArithmeticException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object offsetOf(BObject replayLog, BString topic, long timestamp) {
+        try {
+            return getReplayLog(replayLog).offsetOf(topic.getValue(), timestamp);
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object startOffset(BObject replayLog, BString topic) {
+        try {
+            return getReplayLog(replayLog).startOffset(topic.getValue());
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object endOffset(BObject replayLog, BString topic) {
+        try {
+            return getReplayLog(replayLog).endOffset(topic.getValue());
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object close(BObject replayLog) {
+        try {
+            getReplayLog(replayLog).close();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    private static ArrayType getLogEntriesType() {
+        ArrayType entriesType = logEntriesType;
+        if (entriesType == null) {
+            entriesType = TypeCreator.createArrayType(
+                    ValueCreator.createRecordValue(ModuleUtils.getModule(), LOG_ENTRY_RECORD).getType());
+            logEntriesType = entriesType;
+        }
+        return entriesType;
+    }
+
+    private static ReplayLog getReplayLog(BObject replayLog) {
+        return (ReplayLog) replayLog.getNativeData(NATIVE_REPLAY_LOG);
+    }
+}
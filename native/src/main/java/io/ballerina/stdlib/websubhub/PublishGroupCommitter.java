@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * {@code PublishGroupCommitter} collects the update messages which are published concurrently to a
+ * `websubhub:Service` and dispatches them to the `onUpdateMessageBatch` remote method in a single call (group commit).
+ * A batch is dispatched once it reaches the maximum number of messages, or else by its first message once the maximum
+ * delay has elapsed. Each publisher receives the result at its own position of the returned results.
+ */
+final class PublishGroupCommitter {
+    private final int maxMessages;
+    private final long maxDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchTaken = lock.newCondition();
+    private List<PendingUpdate> pending = new ArrayList<>();
+
+    PublishGroupCommitter(int maxMessages, long maxDelayNanos) {
+        if (maxMessages < 1 || maxDelayNanos < 0) {
+            throw new IllegalArgumentException("Invalid publish batch configuration provided");
+        }
+        this.maxMessages = maxMessages;
+        this.maxDelayNanos = maxDelayNanos;
+    }
+
+    Object submit(BMap<BString, Object> message, Function<List<BMap<BString, Object>>, Object> batchMethod) {
+        PendingUpdate update = new PendingUpdate(message, new CompletableFuture<>());
+        List<PendingUpdate> batch = null;
+        lock.lock();
+        try {
+            List<PendingUpdate> current = pending;
+            current.add(update);
+            if (current.size() >= maxMessages) {
+                batch = takePending();
+            } else if (current.size() == 1) {
+                // the first message of a batch waits for it to be filled, and dispatches it unless it is full by then
+                long remainingNanos = maxDelayNanos;
+                while (pending == current && remainingNanos > 0) {
+                    try {
+                        remainingNanos = batchTaken.awaitNanos(remainingNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                if (pending == current) {
+                    batch = takePending();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            dispatch(batch, batchMethod);
+        }
+        try {
+            return update.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BError bError) {
+                throw bError;
+            }
+            throw e;
+        }
+    }
+
+    private List<PendingUpdate> takePending() {
+        List<PendingUpdate> batch = pending;
+        pending = new ArrayList<>();
+        batchTaken.signalAll();
+        return batch;
+    }
+
+    private static void dispatch(List<PendingUpdate> batch,
+                                 Function<List<BMap<BString, Object>>, Object> batchMethod) {
+        Object result;
+        try {
+            result = batchMethod.apply(batch.stream().map(PendingUpdate::message).toList());
+        } catch (RuntimeException e) {
+            batch.forEach(update -> update.result().completeExceptionally(e));
+            throw e;
+        }
+        if (result instanceof BArray results && results.size() == batch.size()) {
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+            return;
+        }
+        Object batchResult = result instanceof BError ? result : ErrorCreator.createError(StringUtils.fromString(
+                String.format("Invalid number of results returned for a batch of %d update messages",
+                        batch.size())));
+        batch.forEach(update -> update.result().complete(batchResult));
+    }
+
+    private record PendingUpdate(BMap<BString, Object> message, CompletableFuture<Object> result) {
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@code ContentDeliveryEvent} records the delivery of a content distribution request to a subscriber.
+ */
+@Name(ContentDeliveryEvent.NAME)
+@Label("Content Delivery")
+@Category({"Ballerina", "WebSubHub"})
+@Description("Delivery of a content distribution request to a subscriber")
+@Enabled(false)
+@StackTrace(false)
+public final class ContentDeliveryEvent extends Event {
+    public static final String NAME = "ballerina.websubhub.ContentDelivery";
+
+    @Label("Topic")
+    private String topic;
+
+    @Label("Callback Host")
+    private String callbackHost;
+
+    @Label("Status Code")
+    @Description("The status code of the subscriber response or 0 if the request failed")
+    private int statusCode;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    public void complete(String topic, String callbackHost, int statusCode, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.topic = topic;
+            this.callbackHost = callbackHost;
+            this.statusCode = statusCode;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * {@code RemoteMethodInvocationEvent} records the invocation of a remote method of a `websubhub:Service`, including
+ * the time spent on freezing a read-only message before the invocation.
+ */
+@Name(RemoteMethodInvocationEvent.NAME)
+@Label("Remote Method Invocation")
+@Category({"Ballerina", "WebSubHub"})
+@Description("Invocation of a remote method of a hub service")
+@Enabled(false)
+@StackTrace(false)
+public final class RemoteMethodInvocationEvent extends Event {
+    public static final String NAME = "ballerina.websubhub.RemoteMethodInvocation";
+
+    @Label("Method")
+    private final String method;
+
+    @Label("Read-only Freeze Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long freezeDuration;
+
+    @Label("Concurrency Limited")
+    @Description("Whether the method was executed within the concurrency limit of the `offload` configuration")
+    private boolean limited;
+
+    @Label("Failed")
+    @Description("Whether the method returned an error")
+    private boolean failed;
+
+    public RemoteMethodInvocationEvent(String method) {
+        this.method = method;
+    }
+
+    public void setFreezeDuration(long freezeDuration) {
+        this.freezeDuration = freezeDuration;
+    }
+
+    public void complete(boolean limited, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.limited = limited;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@code ServicePanicEvent} records a panic in a remote method of a `websubhub:Service`, which terminates the
+ * application. It is enabled by default, since a panic is rare and it is the last event of the recording.
+ */
+@Name(ServicePanicEvent.NAME)
+@Label("Service Panic")
+@Category({"Ballerina", "WebSubHub"})
+@Description("Panic in a remote method of a hub service")
+public final class ServicePanicEvent extends Event {
+    public static final String NAME = "ballerina.websubhub.ServicePanic";
+
+    @Label("Error Type")
+    private final String errorType;
+
+    @Label("Message")
+    private final String message;
+
+    public ServicePanicEvent(String errorType, String message) {
+        this.errorType = errorType;
+        this.message = message;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code ExpiringCache} retains values for their keys, each for its own time-to-live (e.g. the results of the requests
+ * for their idempotency keys, or the leases of the verified subscriptions). The keys are distributed over a set of
+ * independently locked LRU stripes, hence concurrent lookups of different keys seldom contend, and the least recently
+ * used keys of a stripe are evicted once it reaches its share of the capacity.
+ *
+ * @param <V> the type of the retained values
+ */
+public final class ExpiringCache<V> {
+    private static final int MAX_STRIPES = 16;
+
+    private final Stripe<V>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity should be a positive value");
+        }
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(capacity));
+        int stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(stripeCapacity);
+        }
+    }
+
+    public V get(String key) {
+        Stripe<V> stripe = getStripe(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt() >= 0) {
+                stripe.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(String key, V value, long ttlNanos) {
+        if (ttlNanos <= 0) {
+            throw new IllegalArgumentException("Time-to-live should be a positive value");
+        }
+        Stripe<V> stripe = getStripe(key);
+        synchronized (stripe) {
+            stripe.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void remove(String key) {
+        Stripe<V> stripe = getStripe(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe<V> getStripe(String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Stripe<V> extends LinkedHashMap<String, Entry<V>> {
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * {@code FramedRecords} contains the utility methods to write and read checksummed, length-prefixed records.
+ * A record is framed as {@code [payload-length:int][crc32:int][payload]}.
+ */
+final class FramedRecords {
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private FramedRecords() {}
+
+    static long write(FileChannel channel, byte[] payload) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        frame.putInt(payload.length);
+        frame.putInt(checksum(payload));
+        frame.put(payload);
+        frame.flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+        return HEADER_SIZE + payload.length;
+    }
+
+    /**
+     * Reads the record at the given position.
+     *
+     * @param channel  the channel to read from
+     * @param position the position of the record
+     * @return the payload of the record, or {@code null} if the record is incomplete or corrupted
+     * @throws IOException if the channel could not be read
+     */
+    static byte[] read(FileChannel channel, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (!readFully(channel, header, position)) {
+            return null;
+        }
+        header.flip();
+        int length = header.getInt();
+        int expectedChecksum = header.getInt();
+        if (length < 0 || position + HEADER_SIZE + length > channel.size()) {
+            return null;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        if (!readFully(channel, payload, position + HEADER_SIZE)) {
+            return null;
+        }
+        byte[] content = payload.array();
+        return checksum(content) == expectedChecksum ? content : null;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, currentPosition);
+            if (read < 0) {
+                return false;
+            }
+            currentPosition += read;
+        }
+        return true;
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
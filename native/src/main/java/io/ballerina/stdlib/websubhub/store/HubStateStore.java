@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code HubStateStore} is a key-value store for the `hub` state, which is persisted using an append-only
+ * write-ahead log and periodically compacted into a snapshot. Concurrent writers share a single {@code fsync}
+ * (group commit), and the startup replay only reads the latest snapshot and the write-ahead log entries appended
+ * after it.
+ */
+public final class HubStateStore {
+    public static final int TOPICS = 0;
+    public static final int SUBSCRIPTIONS = 1;
+
+    private static final String WAL_FILE = "hub-state.wal";
+    private static final String SNAPSHOT_FILE = "hub-state.snapshot";
+    private static final String SNAPSHOT_TEMP_FILE = "hub-state.snapshot.tmp";
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private final Path directory;
+    private final boolean syncOnWrite;
+    private final int compactionThreshold;
+    private final List<Map<String, byte[]>> state = List.of(new LinkedHashMap<>(), new LinkedHashMap<>());
+    private final FileChannel wal;
+    private long walEntries = 0;
+    private volatile long writtenSequence = 0;
+    private boolean closed = false;
+
+    private final Object syncMonitor = new Object();
+    private long durableSequence = 0;
+    private boolean syncInProgress = false;
+
+    public HubStateStore(Path directory, boolean syncOnWrite, int compactionThreshold) throws IOException {
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold should be a positive value");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.syncOnWrite = syncOnWrite;
+        this.compactionThreshold = compactionThreshold;
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (FileChannel snapshotChannel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                replay(snapshotChannel);
+            }
+        }
+        // only the entries of the write-ahead log count towards the next compaction
+        walEntries = 0;
+        this.wal = FileChannel.open(directory.resolve(WAL_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validLength = replay(wal);
+        // discard a partially written tail record, if any
+        wal.truncate(validLength);
+        wal.position(validLength);
+    }
+
+    public void put(int namespace, String key, byte[] value) throws IOException {
+        long sequence;
+        synchronized (this) {
+            ensureOpen();
+            sequence = append(OP_PUT, namespace, key, value);
+            getState(namespace).put(key, value.clone());
+            compactIfRequired();
+        }
+        awaitDurable(sequence);
+    }
+
+    public void remove(int namespace, String key) throws IOException {
+        long sequence;
+        synchronized (this) {
+            ensureOpen();
+            if (!getState(namespace).containsKey(key)) {
+                return;
+            }
+            sequence = append(OP_REMOVE, namespace, key, new byte[0]);
+            getState(namespace).remove(key);
+            compactIfRequired();
+        }
+        awaitDurable(sequence);
+    }
+
+    public synchronized List<byte[]> values(int namespace) throws IOException {
+        ensureOpen();
+        List<byte[]> values = new ArrayList<>();
+        for (byte[] value : getState(namespace).values()) {
+            values.add(value.clone());
+        }
+        return values;
+    }
+
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+        Path snapshotTemp = directory.resolve(SNAPSHOT_TEMP_FILE);
+        try (FileChannel snapshotChannel = FileChannel.open(snapshotTemp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int namespace = 0; namespace < state.size(); namespace++) {
+                for (Map.Entry<String, byte[]> entry : state.get(namespace).entrySet()) {
+                    FramedRecords.write(snapshotChannel, encode(OP_PUT, namespace, entry.getKey(), entry.getValue()));
+                }
+            }
+            snapshotChannel.force(true);
+        }
+        Files.move(snapshotTemp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        // every write up to this point is covered by the snapshot, hence the log could be discarded
+        wal.truncate(0);
+        wal.position(0);
+        wal.force(true);
+        walEntries = 0;
+        markDurable(writtenSequence);
+    }
+
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        wal.force(true);
+        wal.close();
+    }
+
+    private long append(byte operation, int namespace, String key, byte[] value) throws IOException {
+        FramedRecords.write(wal, encode(operation, namespace, key, value));
+        walEntries++;
+        return ++writtenSequence;
+    }
+
+    private void compactIfRequired() throws IOException {
+        if (walEntries >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    private void awaitDurable(long sequence) throws IOException {
+        if (!syncOnWrite) {
+            return;
+        }
+        synchronized (syncMonitor) {
+            while (durableSequence < sequence && syncInProgress) {
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the write-ahead log to be synced", e);
+                }
+            }
+            if (durableSequence >= sequence) {
+                return;
+            }
+            syncInProgress = true;
+        }
+        // this writer syncs on behalf of every writer which has appended to the log so far
+        long syncedSequence = writtenSequence;
+        boolean synced = false;
+        try {
+            wal.force(false);
+            synced = true;
+        } finally {
+            synchronized (syncMonitor) {
+                syncInProgress = false;
+                if (synced) {
+                    durableSequence = Math.max(durableSequence, syncedSequence);
+                }
+                syncMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void markDurable(long sequence) {
+        synchronized (syncMonitor) {
+            durableSequence = Math.max(durableSequence, sequence);
+            syncMonitor.notifyAll();
+        }
+    }
+
+    private long replay(FileChannel channel) throws IOException {
+        long position = 0;
+        byte[] payload;
+        while ((payload = FramedRecords.read(channel, position)) != null) {
+            apply(payload);
+            position += FramedRecords.HEADER_SIZE + payload.length;
+            walEntries++;
+        }
+        return position;
+    }
+
+    private void apply(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte operation = buffer.get();
+        int namespace = buffer.get();
+        byte[] key = new byte[buffer.getInt()];
+        buffer.get(key);
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        String stateKey = new String(key, StandardCharsets.UTF_8);
+        if (operation == OP_PUT) {
+            getState(namespace).put(stateKey, value);
+        } else {
+            getState(namespace).remove(stateKey);
+        }
+    }
+
+    private static byte[] encode(byte operation, int namespace, String key, byte[] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(2 + Integer.BYTES * 2 + keyBytes.length + value.length);
+        buffer.put(operation);
+        buffer.put((byte) namespace);
+        buffer.putInt(keyBytes.length);
+        buffer.put(keyBytes);
+        buffer.putInt(value.length);
+        buffer.put(value);
+        return buffer.array();
+    }
+
+    private Map<String, byte[]> getState(int namespace) {
+        if (namespace != TOPICS && namespace != SUBSCRIPTIONS) {
+            throw new IllegalArgumentException("Unknown hub state namespace: " + namespace);
+        }
+        return state.get(namespace);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Hub state store has already been closed");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code LogSegment} is a part of a {@code TopicLog} which holds the records starting from a base offset. The records
+ * are appended to a data file and each record has a fixed-size entry in the index file, which contains the position
+ * of the record in the data file and its timestamp.
+ */
+final class LogSegment {
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 2;
+    static final String DATA_FILE_SUFFIX = ".log";
+    static final String INDEX_FILE_SUFFIX = ".index";
+
+    private final long baseOffset;
+    private final Path dataPath;
+    private final Path indexPath;
+    private final FileChannel data;
+    private final FileChannel index;
+    private int recordCount;
+    private long lastTimestamp;
+
+    private LogSegment(long baseOffset, Path dataPath, Path indexPath, FileChannel data, FileChannel index) {
+        this.baseOffset = baseOffset;
+        this.dataPath = dataPath;
+        this.indexPath = indexPath;
+        this.data = data;
+        this.index = index;
+    }
+
+    static LogSegment open(Path directory, long baseOffset) throws IOException {
+        String fileName = String.format("%020d", baseOffset);
+        Path dataPath = directory.resolve(fileName + DATA_FILE_SUFFIX);
+        Path indexPath = directory.resolve(fileName + INDEX_FILE_SUFFIX);
+        FileChannel data = FileChannel.open(dataPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        LogSegment segment = new LogSegment(baseOffset, dataPath, indexPath, data, index);
+        segment.recover();
+        return segment;
+    }
+
+    static long parseBaseOffset(Path dataPath) {
+        String fileName = dataPath.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - DATA_FILE_SUFFIX.length()));
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long nextOffset() {
+        return baseOffset + recordCount;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    long size() throws IOException {
+        return data.size();
+    }
+
+    boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    void append(long timestamp, byte[] payload) throws IOException {
+        long position = data.size();
+        data.position(position);
+        FramedRecords.write(data, payload);
+        // the index entry is written after the record, hence a crash could only leave an unindexed record behind
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        entry.putLong(position);
+        entry.putLong(timestamp);
+        entry.flip();
+        long indexPosition = (long) recordCount * INDEX_ENTRY_SIZE;
+        while (entry.hasRemaining()) {
+            indexPosition += index.write(entry, indexPosition);
+        }
+        recordCount++;
+        lastTimestamp = timestamp;
+    }
+
+    byte[] read(long offset) throws IOException {
+        byte[] payload = FramedRecords.read(data, readIndexEntry(offset).getLong(0));
+        if (payload == null) {
+            throw new IOException("Record at offset " + offset + " is corrupted");
+        }
+        return payload;
+    }
+
+    long timestamp(long offset) throws IOException {
+        return readIndexEntry(offset).getLong(Long.BYTES);
+    }
+
+    /**
+     * Finds the first offset of the segment of which the timestamp is greater than or equal to the given timestamp.
+     *
+     * @param timestamp the timestamp in milliseconds since the epoch
+     * @return the matching offset, or the next offset of the segment if there is no such record
+     * @throws IOException if the index could not be read
+     */
+    long offsetOf(long timestamp) throws IOException {
+        long low = baseOffset;
+        long high = nextOffset();
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (timestamp(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    void flush() throws IOException {
+        data.force(false);
+        index.force(false);
+    }
+
+    void close() throws IOException {
+        data.close();
+        index.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(dataPath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    private ByteBuffer readIndexEntry(long offset) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        long position = (offset - baseOffset) * INDEX_ENTRY_SIZE;
+        while (entry.hasRemaining()) {
+            if (index.read(entry, position + entry.position()) < 0) {
+                throw new IOException("Index entry of offset " + offset + " is missing");
+            }
+        }
+        return entry;
+    }
+
+    private void recover() throws IOException {
+        int entries = (int) (index.size() / INDEX_ENTRY_SIZE);
+        long dataLength = 0;
+        while (entries > 0) {
+            recordCount = entries;
+            long position = readIndexEntry(nextOffset() - 1).getLong(0);
+            byte[] payload = FramedRecords.read(data, position);
+            if (payload != null) {
+                dataLength = position + FramedRecords.HEADER_SIZE + payload.length;
+                lastTimestamp = timestamp(nextOffset() - 1);
+                break;
+            }
+            entries--;
+        }
+        recordCount = entries;
+        // drop the records and the index entries which were partially written before a crash
+        index.truncate((long) entries * INDEX_ENTRY_SIZE);
+        data.truncate(dataLength);
+    }
+}
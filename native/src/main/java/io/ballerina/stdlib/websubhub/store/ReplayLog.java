@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code ReplayLog} retains the messages published to each topic in a separate {@code TopicLog}, so that they could
+ * be replayed to the subscribers from a given offset or timestamp.
+ */
+public final class ReplayLog {
+    private final Path directory;
+    private final long segmentSize;
+    private final long retentionCount;
+    private final long retentionMillis;
+    private final Map<String, TopicLog> topicLogs = new HashMap<>();
+    private boolean closed = false;
+
+    public ReplayLog(Path directory, long segmentSize, long retentionCount, long retentionMillis) throws IOException {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size of the replay log should be a positive value");
+        }
+        if (retentionCount < 1) {
+            throw new IllegalArgumentException("Retention count of the replay log should be a positive value");
+        }
+        if (retentionMillis < 1) {
+            throw new IllegalArgumentException("Retention period of the replay log should be a positive value");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.retentionCount = retentionCount;
+        this.retentionMillis = retentionMillis;
+    }
+
+    public long append(String topic, long timestamp, byte[] payload) throws IOException {
+        return getTopicLog(topic, true).append(timestamp, payload);
+    }
+
+    public List<LogEntry> read(String topic, long fromOffset, int maxEntries) throws IOException {
+        TopicLog topicLog = getTopicLog(topic, false);
+        return topicLog == null ? List.of() : topicLog.read(fromOffset, maxEntries);
+    }
+
+    public long offsetOf(String topic, long timestamp) throws IOException {
+        TopicLog topicLog = getTopicLog(topic, false);
+        return topicLog == null ? 0 : topicLog.offsetOf(timestamp);
+    }
+
+    public long startOffset(String topic) throws IOException {
+        TopicLog topicLog = getTopicLog(topic, false);
+        return topicLog == null ? 0 : topicLog.startOffset();
+    }
+
+    public long endOffset(String topic) throws IOException {
+        TopicLog topicLog = getTopicLog(topic, false);
+        return topicLog == null ? 0 : topicLog.endOffset();
+    }
+
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (TopicLog topicLog : topicLogs.values()) {
+            topicLog.flush();
+            topicLog.close();
+        }
+        topicLogs.clear();
+    }
+
+    private synchronized TopicLog getTopicLog(String topic, boolean create) throws IOException {
+        if (closed) {
+            throw new IOException("Replay log has already been closed");
+        }
+        TopicLog topicLog = topicLogs.get(topic);
+        if (topicLog != null) {
+            return topicLog;
+        }
+        // the log of a topic is only created on the first append, since the topics of the read paths are provided by
+        // the subscribers
+        Path topicDirectory = directory.resolve(toDirectoryName(topic));
+        if (!create && !Files.isDirectory(topicDirectory)) {
+            return null;
+        }
+        topicLog = new TopicLog(topicDirectory, segmentSize, retentionCount, retentionMillis);
+        topicLogs.put(topic, topicLog);
+        return topicLog;
+    }
+
+    private static String toDirectoryName(String topic) {
+        // topics are usually URLs, hence a digest is used to derive a valid and bounded directory name
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(topic.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
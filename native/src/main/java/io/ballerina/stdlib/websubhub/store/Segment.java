@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code Segment} is an append-only, memory-mapped file which holds length-prefixed records.
+ */
+final class Segment {
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int writePosition = 0;
+    private int readPosition = 0;
+
+    private Segment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static Segment create(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new Segment(path, buffer);
+        }
+    }
+
+    static int requiredCapacity(int recordSize) {
+        return LENGTH_PREFIX_SIZE + recordSize;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    boolean hasCapacity(int recordSize) {
+        return writePosition + requiredCapacity(recordSize) <= buffer.capacity();
+    }
+
+    void append(byte[] record) {
+        buffer.putInt(writePosition, record.length);
+        buffer.put(writePosition + LENGTH_PREFIX_SIZE, record);
+        writePosition += requiredCapacity(record.length);
+    }
+
+    boolean hasUnreadRecords() {
+        return readPosition < writePosition;
+    }
+
+    byte[] read() {
+        int length = buffer.getInt(readPosition);
+        byte[] record = new byte[length];
+        buffer.get(readPosition + LENGTH_PREFIX_SIZE, record);
+        readPosition += requiredCapacity(length);
+        return record;
+    }
+
+    void reset() {
+        writePosition = 0;
+        readPosition = 0;
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@code SegmentedBacklog} is a FIFO queue which keeps a bounded number of records in the heap and spills the rest
+ * to memory-mapped segment files. Fully consumed segments are recycled for subsequent writes.
+ */
+public final class SegmentedBacklog {
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+    private static final int MAX_RECYCLED_SEGMENTS = 2;
+
+    private final Path directory;
+    private final int inMemoryCapacity;
+    private final int segmentSize;
+    private final Deque<byte[]> head = new ArrayDeque<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Deque<Segment> recycledSegments = new ArrayDeque<>();
+    private long segmentSequence = 0;
+    private long spilledRecords = 0;
+    private boolean closed = false;
+
+    public SegmentedBacklog(Path directory, int inMemoryCapacity, int segmentSize) throws IOException {
+        if (inMemoryCapacity < 1) {
+            throw new IllegalArgumentException("In-memory capacity of the backlog should be a positive value");
+        }
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size of the backlog should be a positive value");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.inMemoryCapacity = inMemoryCapacity;
+        this.segmentSize = segmentSize;
+    }
+
+    public synchronized void offer(byte[] record) throws IOException {
+        ensureOpen();
+        // once records are spilled, new records should go to the tail segment to preserve the ordering
+        if (spilledRecords == 0 && head.size() < inMemoryCapacity) {
+            head.addLast(record);
+            return;
+        }
+        Segment tail = segments.peekLast();
+        if (tail == null || !tail.hasCapacity(record.length)) {
+            tail = acquireSegment(record.length);
+            segments.addLast(tail);
+        }
+        tail.append(record);
+        spilledRecords++;
+    }
+
+    public synchronized byte[] peek() throws IOException {
+        ensureOpen();
+        if (head.isEmpty()) {
+            refillHead();
+        }
+        return head.peekFirst();
+    }
+
+    public synchronized boolean acknowledge() throws IOException {
+        ensureOpen();
+        if (head.isEmpty()) {
+            refillHead();
+        }
+        return head.pollFirst() != null;
+    }
+
+    public synchronized long size() {
+        return head.size() + spilledRecords;
+    }
+
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        head.clear();
+        spilledRecords = 0;
+        for (Segment segment : segments) {
+            segment.delete();
+        }
+        for (Segment segment : recycledSegments) {
+            segment.delete();
+        }
+        segments.clear();
+        recycledSegments.clear();
+    }
+
+    private void refillHead() throws IOException {
+        while (head.size() < inMemoryCapacity && !segments.isEmpty()) {
+            Segment segment = segments.peekFirst();
+            if (segment.hasUnreadRecords()) {
+                head.addLast(segment.read());
+                spilledRecords--;
+            } else if (segments.size() > 1) {
+                recycle(segments.pollFirst());
+            } else {
+                break;
+            }
+        }
+        Segment first = segments.peekFirst();
+        if (first != null && !first.hasUnreadRecords()) {
+            recycle(segments.pollFirst());
+        }
+    }
+
+    private Segment acquireSegment(int recordSize) throws IOException {
+        int requiredCapacity = Segment.requiredCapacity(recordSize);
+        Segment recycled = recycledSegments.pollFirst();
+        if (recycled != null) {
+            if (recycled.capacity() >= requiredCapacity) {
+                return recycled;
+            }
+            recycled.delete();
+        }
+        Path segmentPath = directory.resolve(SEGMENT_FILE_PREFIX + segmentSequence++ + SEGMENT_FILE_SUFFIX);
+        return Segment.create(segmentPath, Math.max(segmentSize, requiredCapacity));
+    }
+
+    private void recycle(Segment segment) throws IOException {
+        segment.reset();
+        if (recycledSegments.size() < MAX_RECYCLED_SEGMENTS && segment.capacity() == segmentSize) {
+            recycledSegments.addLast(segment);
+        } else {
+            segment.delete();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Backlog has already been closed");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websubhub.store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@code TopicLog} is an append-only, segmented log of the messages published to a topic. Records are addressed by
+ * a monotonically increasing offset and the oldest segments are removed once they fall outside the retention window.
+ */
+final class TopicLog {
+    private final Path directory;
+    private final long segmentSize;
+    private final long retentionCount;
+    private final long retentionMillis;
+    private final List<LogSegment> segments = new ArrayList<>();
+
+    TopicLog(Path directory, long segmentSize, long retentionCount, long retentionMillis) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.retentionCount = retentionCount;
+        this.retentionMillis = retentionMillis;
+        List<Long> baseOffsets = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(LogSegment.DATA_FILE_SUFFIX))
+                    .forEach(file -> baseOffsets.add(LogSegment.parseBaseOffset(file)));
+        }
+        baseOffsets.sort(Long::compare);
+        for (long baseOffset : baseOffsets) {
+            segments.add(LogSegment.open(directory, baseOffset));
+        }
+        if (segments.isEmpty()) {
+            segments.add(LogSegment.open(directory, 0));
+        }
+    }
+
+    synchronized long append(long timestamp, byte[] payload) throws IOException {
+        LogSegment active = activeSegment();
+        if (!active.isEmpty() && active.size() >= segmentSize) {
+            active.flush();
+            active = LogSegment.open(directory, active.nextOffset());
+            segments.add(active);
+        }
+        // timestamps are kept monotonic so that the timestamp lookups could use a binary search
+        long offset = active.nextOffset();
+        active.append(Math.max(timestamp, active.lastTimestamp()), payload);
+        enforceRetention(timestamp);
+        return offset;
+    }
+
+    synchronized List<LogEntry> read(long fromOffset, int maxEntries) throws IOException {
+        List<LogEntry> entries = new ArrayList<>();
+        long offset = Math.max(fromOffset, startOffset());
+        for (LogSegment segment : segments) {
+            while (offset < segment.nextOffset() && entries.size() < maxEntries) {
+                entries.add(new LogEntry(offset, segment.timestamp(offset), segment.read(offset)));
+                offset++;
+            }
+        }
+        return entries;
+    }
+
+    synchronized long offsetOf(long timestamp) throws IOException {
+        for (LogSegment segment : segments) {
+            if (!segment.isEmpty() && segment.lastTimestamp() >= timestamp) {
+                return segment.offsetOf(timestamp);
+            }
+        }
+        return endOffset();
+    }
+
+    synchronized long startOffset() {
+        return segments.get(0).baseOffset();
+    }
+
+    synchronized long endOffset() {
+        return activeSegment().nextOffset();
+    }
+
+    synchronized void flush() throws IOException {
+        activeSegment().flush();
+    }
+
+    synchronized void close() throws IOException {
+        for (LogSegment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private LogSegment activeSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private void enforceRetention(long now) throws IOException {
+        // retention is applied per segment, hence at least the configured window is retained. A segment is removed
+        // only once it falls outside both the retention count and the retention period
+        while (segments.size() > 1) {
+            LogSegment oldest = segments.get(0);
+            long retainedAfterRemoval = endOffset() - oldest.nextOffset();
+            boolean exceedsCount = retainedAfterRemoval >= retentionCount;
+            boolean exceedsAge = now - oldest.lastTimestamp() > retentionMillis;
+            if (!exceedsCount || !exceedsAge) {
+                return;
+            }
+            segments.remove(0).delete();
+        }
+    }
+}
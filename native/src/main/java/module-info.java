@@ -19,4 +19,5 @@
 module io.ballerina.stdlib.websubhub {
     requires io.ballerina.lang;
     requires io.ballerina.runtime;
+    requires jdk.jfr;
 }